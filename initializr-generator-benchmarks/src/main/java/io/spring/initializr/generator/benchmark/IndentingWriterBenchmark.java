@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildWriter;
+import io.spring.initializr.generator.io.IndentingWriter;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the writing of a {@code pom.xml} through an {@link IndentingWriter}. The
+ * output is discarded so that the cost of the writer itself is measured. Run with
+ * {@code -prof gc} to measure the allocations per {@code pom.xml}.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndentingWriterBenchmark {
+
+	private final IndentingWriterFactory indentingWriterFactory = IndentingWriterFactory
+			.withDefaultSettings();
+
+	private final MavenBuildWriter buildWriter = new MavenBuildWriter();
+
+	private MavenBuild build;
+
+	@Setup
+	public void setUp() {
+		this.build = new MavenBuild();
+		this.build.setGroup("com.example");
+		this.build.setArtifact("demo");
+		this.build.setName("demo");
+		this.build.setDescription("Demo project for Spring Boot");
+		this.build.parent("org.springframework.boot", "spring-boot-starter-parent",
+				"2.1.0.RELEASE");
+		this.build.setProperty("java.version", "1.8");
+		for (int i = 0; i < 20; i++) {
+			this.build.addDependency("dependency-" + i, "com.example", "dependency-" + i,
+					(i % 4 != 3) ? DependencyType.COMPILE : DependencyType.TEST_COMPILE);
+		}
+		this.build.plugin("org.springframework.boot", "spring-boot-maven-plugin");
+	}
+
+	@Benchmark
+	public IndentingWriter writePom() throws IOException {
+		IndentingWriter writer = this.indentingWriterFactory.createIndentingWriter("pom",
+				NullWriter.INSTANCE);
+		this.buildWriter.writeTo(writer, this.build);
+		return writer;
+	}
+
+	/**
+	 * A {@link Writer} that discards its output.
+	 */
+	private static final class NullWriter extends Writer {
+
+		private static final NullWriter INSTANCE = new NullWriter();
+
+		@Override
+		public void write(char[] chars, int offset, int length) {
+		}
+
+		@Override
+		public void write(String string, int offset, int length) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.buildsystem.Build;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.language.java.JavaSourceCode;
+import io.spring.initializr.generator.language.java.JavaTypeDeclaration;
+import io.spring.initializr.generator.language.kotlin.KotlinTypeDeclaration;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
+import io.spring.initializr.generator.util.LambdaSafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the dispatch of {@link LambdaSafe} callbacks over chains of
+ * {@link BuildCustomizer build customizers} and {@link MainApplicationTypeCustomizer main
+ * application type customizers} that mix lambdas and classes targeting different generic
+ * types, as is the case when all customizers are retrieved from the project generation
+ * context.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LambdaSafeBenchmark {
+
+	private List<BuildCustomizer<?>> buildCustomizers;
+
+	private GradleBuild build;
+
+	private List<MainApplicationTypeCustomizer<?>> typeCustomizers;
+
+	private JavaTypeDeclaration typeDeclaration;
+
+	@Setup
+	public void setUp() {
+		this.buildCustomizers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			this.buildCustomizers.add(mavenBuildCustomizer());
+			this.buildCustomizers.add(gradleBuildCustomizer());
+			this.buildCustomizers.add(new AnyBuildCustomizer());
+		}
+		this.build = new GradleBuild();
+		this.typeCustomizers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			this.typeCustomizers.add(javaTypeCustomizer());
+			this.typeCustomizers.add(kotlinTypeCustomizer());
+		}
+		this.typeDeclaration = new JavaSourceCode()
+				.createCompilationUnit("com.example", "DemoApplication")
+				.createTypeDeclaration("DemoApplication");
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void buildCustomizers(Blackhole blackhole) {
+		LambdaSafe.callbacks(BuildCustomizer.class, this.buildCustomizers, this.build)
+				.invoke((customizer) -> {
+					customizer.customize(this.build);
+					blackhole.consume(customizer);
+				});
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void mainApplicationTypeCustomizers(Blackhole blackhole) {
+		LambdaSafe.callbacks(MainApplicationTypeCustomizer.class, this.typeCustomizers,
+				this.typeDeclaration).invoke((customizer) -> {
+					customizer.customize(this.typeDeclaration);
+					blackhole.consume(customizer);
+				});
+	}
+
+	private static BuildCustomizer<MavenBuild> mavenBuildCustomizer() {
+		return (build) -> build.setProperty("test", "value");
+	}
+
+	private static BuildCustomizer<GradleBuild> gradleBuildCustomizer() {
+		return (build) -> build.setGroup("com.example");
+	}
+
+	private static MainApplicationTypeCustomizer<JavaTypeDeclaration> javaTypeCustomizer() {
+		return (typeDeclaration) -> typeDeclaration.extend("com.example.Base");
+	}
+
+	private static MainApplicationTypeCustomizer<KotlinTypeDeclaration> kotlinTypeCustomizer() {
+		return (typeDeclaration) -> typeDeclaration.extend("com.example.Base");
+	}
+
+	private static final class AnyBuildCustomizer implements BuildCustomizer<Build> {
+
+		@Override
+		public void customize(Build build) {
+			build.setArtifact("demo");
+		}
+
+	}
+
+}
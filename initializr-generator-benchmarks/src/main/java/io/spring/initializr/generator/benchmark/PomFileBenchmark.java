@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildWriter;
+import io.spring.initializr.generator.io.IndentingWriter;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.SimpleIndentStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark of the writing of a {@code pom.xml} file, comparing a buffered writer per
+ * file with pooled UTF-8 byte buffers. Run with {@code -prof gc} to measure the
+ * allocations per file.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PomFileBenchmark {
+
+	@Param({ "0", "16" })
+	private int pooledBuffers;
+
+	private final MavenBuildWriter buildWriter = new MavenBuildWriter();
+
+	private IndentingWriterFactory indentingWriterFactory;
+
+	private MavenBuild build;
+
+	private Path directory;
+
+	private Path pom;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.indentingWriterFactory = IndentingWriterFactory.create(
+				new SimpleIndentStrategy("    "),
+				(factory) -> factory.pooledBuffers(this.pooledBuffers));
+		this.build = new MavenBuild();
+		this.build.setGroup("com.example");
+		this.build.setArtifact("demo");
+		this.build.setName("demo");
+		this.build.setDescription("Demo project for Spring Boot");
+		this.build.parent("org.springframework.boot", "spring-boot-starter-parent",
+				"2.1.0.RELEASE");
+		this.build.setProperty("java.version", "1.8");
+		for (int i = 0; i < 20; i++) {
+			this.build.addDependency("dependency-" + i, "com.example", "dependency-" + i,
+					(i % 4 != 3) ? DependencyType.COMPILE : DependencyType.TEST_COMPILE);
+		}
+		this.build.plugin("org.springframework.boot", "spring-boot-maven-plugin");
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.pom = this.directory.resolve("pom.xml");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path writePom() throws IOException {
+		try (IndentingWriter writer = this.indentingWriterFactory
+				.createIndentingWriter("maven", this.pom)) {
+			this.buildWriter.writeTo(writer, this.build);
+		}
+		return this.pom;
+	}
+
+}
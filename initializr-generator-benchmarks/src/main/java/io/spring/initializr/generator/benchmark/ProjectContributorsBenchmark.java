@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark of the wall-clock time of a project generation with contributors invoked in
+ * order on the calling thread or concurrently on an executor.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectContributorsBenchmark {
+
+	@Param({ "0", "4" })
+	private int threads;
+
+	private Path directory;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ExecutorService executor;
+
+	private ProjectGenerator generator;
+
+	private ProjectDescription description;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		this.generator = new ProjectGenerator(this.parentContext,
+				(context) -> context.registerBean(ProjectDirectoryFactory.class,
+						() -> (description) -> Files.createTempDirectory(this.directory,
+								"project-")));
+		if (this.threads > 0) {
+			this.executor = Executors.newFixedThreadPool(this.threads);
+			this.generator.setContributorExecutor(this.executor);
+		}
+		this.description = new ProjectDescription();
+		this.description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		this.description.setBuildSystem(new GradleBuildSystem());
+		this.description.setLanguage(new JavaLanguage());
+		this.description.setGroupId("com.example");
+		this.description.setArtifactId("demo");
+		this.description.setApplicationName("DemoApplication");
+	}
+
+	@TearDown(Level.Iteration)
+	public void cleanProjects() throws IOException {
+		try (Stream<Path> projects = Files.list(this.directory)) {
+			for (Path project : (Iterable<Path>) projects::iterator) {
+				FileSystemUtils.deleteRecursively(project);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if (this.executor != null) {
+			this.executor.shutdown();
+		}
+		this.parentContext.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path generate() throws IOException {
+		return this.generator.generate(this.description);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.project.InMemoryProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationPlanCache;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.project.archive.ZipProjectArchiver;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark of the generation of a project archive, comparing a project directory on disk
+ * with a project directory held in memory.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectDirectoryBenchmark {
+
+	private Path directory;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ProjectGenerator diskGenerator;
+
+	private ProjectGenerator inMemoryGenerator;
+
+	private ProjectDescription description;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		this.diskGenerator = new ProjectGenerator(this.parentContext,
+				(context) -> context.registerBean(ProjectDirectoryFactory.class,
+						() -> (description) -> Files.createTempDirectory(this.directory,
+								"project-")));
+		this.diskGenerator.setPlanCache(new ProjectGenerationPlanCache(16));
+		this.inMemoryGenerator = new ProjectGenerator(this.parentContext,
+				(context) -> context.registerBean(ProjectDirectoryFactory.class,
+						InMemoryProjectDirectoryFactory::new));
+		this.inMemoryGenerator.setPlanCache(new ProjectGenerationPlanCache(16));
+		this.description = createProjectDescription();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.parentContext.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public byte[] diskDirectory() throws IOException {
+		return generate(this.diskGenerator);
+	}
+
+	@Benchmark
+	public byte[] inMemoryDirectory() throws IOException {
+		return generate(this.inMemoryGenerator);
+	}
+
+	private byte[] generate(ProjectGenerator generator) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		generator.generate(this.description, new ZipProjectArchiver(), out);
+		return out.toByteArray();
+	}
+
+	private ProjectDescription createProjectDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		description.setApplicationName("DemoApplication");
+		return description;
+	}
+
+}
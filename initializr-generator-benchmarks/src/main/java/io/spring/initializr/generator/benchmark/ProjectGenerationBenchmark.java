@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.language.Language;
+import io.spring.initializr.generator.packaging.Packaging;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * End-to-end benchmark of {@link ProjectGenerator#generate(ProjectDescription)} across
+ * build systems, languages, packaging, number of requested dependencies and with or
+ * without the start-site extensions. The extensions are disabled by hiding their
+ * configurations from the {@code spring.factories} of the project generation context.
+ * <p>
+ * Run {@link #main(String[])} to measure the allocation rate using the {@link GCProfiler}
+ * as well.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectGenerationBenchmark {
+
+	private static final String EXTENSIONS_PACKAGE = "io.spring.start.extension.";
+
+	private static final String[] EXTENSION_DEPENDENCIES = { "actuator", "restdocs",
+			"cloud-config-server", "cloud-eureka", "azure-support" };
+
+	@Param({ "maven", "gradle3", "gradle4" })
+	private String buildSystem;
+
+	@Param({ "java", "kotlin", "groovy" })
+	private String language;
+
+	@Param({ "jar", "war" })
+	private String packaging;
+
+	@Param({ "0", "10", "50" })
+	private int dependencies;
+
+	@Param({ "true", "false" })
+	private boolean extensions;
+
+	private Path directory;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ProjectGenerator projectGenerator;
+
+	private ProjectDescription description;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		ClassLoader classLoader = getClass().getClassLoader();
+		ClassLoader projectGenerationClassLoader = (this.extensions) ? classLoader
+				: new SpringFactoriesFilteringClassLoader(classLoader, this.directory,
+						(name) -> name.startsWith(EXTENSIONS_PACKAGE));
+		this.projectGenerator = new ProjectGenerator(this.parentContext, (context) -> {
+			context.setClassLoader(projectGenerationClassLoader);
+			context.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> Files.createTempDirectory(this.directory,
+							"project-"));
+		});
+		this.description = createProjectDescription();
+	}
+
+	@TearDown(Level.Iteration)
+	public void cleanProjects() throws IOException {
+		try (Stream<Path> projects = Files.list(this.directory)) {
+			for (Path project : (Iterable<Path>) projects::iterator) {
+				if (Files.isDirectory(project)) {
+					FileSystemUtils.deleteRecursively(project);
+				}
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.parentContext.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path generate() throws IOException {
+		return this.projectGenerator.generate(this.description);
+	}
+
+	private ProjectDescription createProjectDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse(("gradle3".equals(this.buildSystem))
+				? "1.5.17.RELEASE" : "2.1.0.RELEASE"));
+		description.setBuildSystem(BuildSystem
+				.forId(("maven".equals(this.buildSystem)) ? "maven" : "gradle"));
+		description.setLanguage(Language.forId(this.language));
+		description.setPackaging(Packaging.forId(this.packaging));
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		description.setApplicationName("DemoApplication");
+		for (int i = 0; i < this.dependencies; i++) {
+			String id = (i < EXTENSION_DEPENDENCIES.length) ? EXTENSION_DEPENDENCIES[i]
+					: "dependency-" + i;
+			description.addDependency(id, new Dependency("com.example", id,
+					(i % 5 != 4) ? DependencyType.COMPILE : DependencyType.TEST_COMPILE));
+		}
+		return description;
+	}
+
+	public static void main(String[] args)
+			throws RunnerException, CommandLineOptionException {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+				.include(ProjectGenerationBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+
+}
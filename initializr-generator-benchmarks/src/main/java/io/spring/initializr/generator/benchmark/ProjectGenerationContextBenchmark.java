@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationPlanCache;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.generator.project.ProjectGeneratorDefaultConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark of the creation and refresh of the project generation context, comparing
+ * infrastructure registered for each generation with infrastructure shared by a parent
+ * context, with generation plans reused across generations, and with the core
+ * configurations registered functionally.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectGenerationContextBenchmark {
+
+	private Path directory;
+
+	private AnnotationConfigApplicationContext parentContext;
+
+	private ProjectGenerator perRequestInfrastructureGenerator;
+
+	private ProjectGenerator sharedParentContextGenerator;
+
+	private ProjectGenerator planCacheGenerator;
+
+	private ProjectGenerator functionalRegistrationGenerator;
+
+	private ProjectDescription description;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("benchmark-");
+		this.parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class);
+		this.perRequestInfrastructureGenerator = new ProjectGenerator((context) -> {
+			context.register(ProjectGeneratorDefaultConfiguration.class);
+			registerProjectDirectoryFactory(context);
+		});
+		this.sharedParentContextGenerator = new ProjectGenerator(this.parentContext,
+				this::registerProjectDirectoryFactory);
+		this.planCacheGenerator = new ProjectGenerator(this.parentContext,
+				this::registerProjectDirectoryFactory);
+		this.planCacheGenerator.setPlanCache(new ProjectGenerationPlanCache(16));
+		this.functionalRegistrationGenerator = new ProjectGenerator(this.parentContext,
+				this::registerProjectDirectoryFactory);
+		this.functionalRegistrationGenerator.setFunctionalRegistration(true);
+		this.description = createProjectDescription();
+	}
+
+	@TearDown(Level.Iteration)
+	public void cleanProjects() throws IOException {
+		try (Stream<Path> projects = Files.list(this.directory)) {
+			for (Path project : (Iterable<Path>) projects::iterator) {
+				FileSystemUtils.deleteRecursively(project);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.parentContext.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path perRequestInfrastructure() throws IOException {
+		return this.perRequestInfrastructureGenerator.generate(this.description);
+	}
+
+	@Benchmark
+	public Path sharedParentContext() throws IOException {
+		return this.sharedParentContextGenerator.generate(this.description);
+	}
+
+	@Benchmark
+	public Path sharedParentContextWithPlanCache() throws IOException {
+		return this.planCacheGenerator.generate(this.description);
+	}
+
+	@Benchmark
+	public Path sharedParentContextWithFunctionalRegistration() throws IOException {
+		return this.functionalRegistrationGenerator.generate(this.description);
+	}
+
+	private void registerProjectDirectoryFactory(
+			AnnotationConfigApplicationContext context) {
+		context.registerBean(ProjectDirectoryFactory.class, () -> (description) -> Files
+				.createTempDirectory(this.directory, "project-"));
+	}
+
+	private ProjectDescription createProjectDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		description.setApplicationName("DemoApplication");
+		return description;
+	}
+
+}
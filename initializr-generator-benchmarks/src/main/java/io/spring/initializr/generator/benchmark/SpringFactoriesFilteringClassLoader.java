@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Predicate;
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link ClassLoader} that exposes a single {@code spring.factories} resource that
+ * merges the ones of its parent without the factories matching a predicate. Used to
+ * toggle optional project generation configurations without changing the classpath.
+ *
+ * @author Stephane Nicoll
+ */
+class SpringFactoriesFilteringClassLoader extends ClassLoader {
+
+	private final URL springFactories;
+
+	SpringFactoriesFilteringClassLoader(ClassLoader parent, Path directory,
+			Predicate<String> excludedFactory) throws IOException {
+		super(parent);
+		this.springFactories = writeSpringFactories(parent, directory, excludedFactory);
+	}
+
+	@Override
+	public URL getResource(String name) {
+		if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+			return this.springFactories;
+		}
+		return super.getResource(name);
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+			return Collections.enumeration(Collections.singleton(this.springFactories));
+		}
+		return super.getResources(name);
+	}
+
+	private static URL writeSpringFactories(ClassLoader parent, Path directory,
+			Predicate<String> excludedFactory) throws IOException {
+		Map<String, List<String>> factories = new LinkedHashMap<>();
+		Enumeration<URL> urls = parent
+				.getResources(SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION);
+		while (urls.hasMoreElements()) {
+			Properties properties = PropertiesLoaderUtils
+					.loadProperties(new UrlResource(urls.nextElement()));
+			for (String factoryType : properties.stringPropertyNames()) {
+				List<String> names = factories.computeIfAbsent(factoryType,
+						(key) -> new ArrayList<>());
+				for (String name : StringUtils.commaDelimitedListToStringArray(
+						properties.getProperty(factoryType))) {
+					if (!excludedFactory.test(name.trim())) {
+						names.add(name.trim());
+					}
+				}
+			}
+		}
+		Properties filtered = new Properties();
+		factories.forEach((factoryType, names) -> filtered.setProperty(factoryType,
+				StringUtils.collectionToCommaDelimitedString(names)));
+		Path file = Files.createTempFile(directory, "spring-", ".factories");
+		try (OutputStream out = Files.newOutputStream(file)) {
+			filtered.store(out, null);
+		}
+		return file.toUri().toURL();
+	}
+
+}
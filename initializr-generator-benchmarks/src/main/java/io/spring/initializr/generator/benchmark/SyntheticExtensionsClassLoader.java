@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link ClassLoader} that exposes a number of synthetic project generation
+ * configurations on top of the ones of its parent. Each synthetic configuration is
+ * indexed as requiring a dedicated dependency, {@code extension-0} to
+ * {@code extension-n}, and does not exist: it must never be loaded unless that dependency
+ * is requested.
+ *
+ * @author Stephane Nicoll
+ */
+class SyntheticExtensionsClassLoader extends ClassLoader {
+
+	private static final String INDEX_LOCATION = "META-INF/project-generation-configurations.properties";
+
+	private final URL springFactories;
+
+	private final URL index;
+
+	SyntheticExtensionsClassLoader(ClassLoader parent, Path directory, int count)
+			throws IOException {
+		super(parent);
+		List<String> names = new ArrayList<>();
+		Properties index = new Properties();
+		for (int i = 0; i < count; i++) {
+			String name = "com.example.extension.Extension" + i
+					+ "ProjectGenerationConfiguration";
+			names.add(name);
+			index.setProperty(name, "dependency:extension-" + i);
+		}
+		Properties springFactories = new Properties();
+		springFactories.setProperty(ProjectGenerationConfiguration.class.getName(),
+				StringUtils.collectionToCommaDelimitedString(names));
+		this.springFactories = write(springFactories, directory, "spring-", ".factories");
+		this.index = write(index, directory, "index-", ".properties");
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+			return append(super.getResources(name), this.springFactories);
+		}
+		if (INDEX_LOCATION.equals(name)) {
+			return append(super.getResources(name), this.index);
+		}
+		return super.getResources(name);
+	}
+
+	private static Enumeration<URL> append(Enumeration<URL> urls, URL url) {
+		List<URL> result = Collections.list(urls);
+		result.add(url);
+		return Collections.enumeration(result);
+	}
+
+	private static URL write(Properties properties, Path directory, String prefix,
+			String suffix) throws IOException {
+		Path file = Files.createTempFile(directory, prefix, suffix);
+		try (OutputStream out = Files.newOutputStream(file)) {
+			properties.store(out, null);
+		}
+		return file.toUri().toURL();
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.util.Version;
+import io.spring.initializr.generator.util.VersionParser;
+import io.spring.initializr.generator.util.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link VersionRange#match(Version)} for versions that use the well-known
+ * qualifiers, and therefore a packed representation, and for versions that use an unknown
+ * qualifier.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionRangeBenchmark {
+
+	private List<VersionRange> ranges;
+
+	private List<Version> knownQualifierVersions;
+
+	private List<Version> unknownQualifierVersions;
+
+	@Setup
+	public void setUp() {
+		this.ranges = Stream
+				.of("[1.5.0.RELEASE,2.0.0.M1)", "[2.0.0.RELEASE,2.1.0.M1)",
+						"[2.1.0.M1,2.2.0.BUILD-SNAPSHOT]", "2.0.0.RC1")
+				.map(VersionParser.DEFAULT::parseRange).collect(Collectors.toList());
+		this.knownQualifierVersions = parse("1.5.17.RELEASE", "2.0.6.RELEASE",
+				"2.1.0.RC1", "2.1.1.BUILD-SNAPSHOT", "2.2.0.M2");
+		this.unknownQualifierVersions = parse("1.5.17.Final", "2.0.6.Final", "2.1.0.CR1",
+				"2.1.1.Alpha", "2.2.0.Beta2");
+	}
+
+	@Benchmark
+	public int matchKnownQualifiers() {
+		return match(this.knownQualifierVersions);
+	}
+
+	@Benchmark
+	public int matchUnknownQualifiers() {
+		return match(this.unknownQualifierVersions);
+	}
+
+	private int match(List<Version> versions) {
+		int matches = 0;
+		for (VersionRange range : this.ranges) {
+			for (Version version : versions) {
+				if (range.match(version)) {
+					matches++;
+				}
+			}
+		}
+		return matches;
+	}
+
+	private static List<Version> parse(String... versions) {
+		return Stream.of(versions).map(VersionParser.DEFAULT::parse)
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.util.Version;
+import io.spring.initializr.generator.util.VersionParser;
+import io.spring.initializr.generator.util.VersionRange;
+import io.spring.initializr.generator.util.VersionRangeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the resolution of the items whose {@link VersionRange} matches one or many
+ * platform versions, comparing a {@link VersionRangeIndex} with a linear scan.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionRangeIndexBenchmark {
+
+	private static final String[] QUALIFIERS = { "M1", "M2", "RC1", "BUILD-SNAPSHOT",
+			"RELEASE" };
+
+	@Param({ "100", "1000" })
+	private int size;
+
+	private List<VersionRange> ranges;
+
+	private List<String> items;
+
+	private VersionRangeIndex<String> index;
+
+	private Version version;
+
+	private List<Version> versions;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.ranges = new ArrayList<>();
+		this.items = new ArrayList<>();
+		VersionRangeIndex.Builder<String> builder = VersionRangeIndex.builder();
+		for (int i = 0; i < this.size; i++) {
+			Version lower = randomVersion(random, 1);
+			Version higher = randomVersion(random, 2);
+			VersionRange range = VersionParser.DEFAULT.parseRange((random.nextInt(4) == 0)
+					? lower.toString() : "[" + lower + "," + higher + ")");
+			String item = "item-" + i;
+			this.ranges.add(range);
+			this.items.add(item);
+			builder.add(range, item);
+		}
+		this.index = builder.build();
+		this.version = VersionParser.DEFAULT.parse("2.1.0.RELEASE");
+		this.versions = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			this.versions.add(randomVersion(random, 1 + random.nextInt(2)));
+		}
+	}
+
+	@Benchmark
+	public List<String> matchLinear() {
+		return matchLinear(this.version);
+	}
+
+	@Benchmark
+	public List<String> matchIndex() {
+		return this.index.match(this.version);
+	}
+
+	@Benchmark
+	public Map<Version, List<String>> matchAllLinear() {
+		Map<Version, List<String>> matches = new LinkedHashMap<>();
+		for (Version candidate : this.versions) {
+			matches.put(candidate, matchLinear(candidate));
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public Map<Version, List<String>> matchAllIndex() {
+		return this.index.matchAll(this.versions);
+	}
+
+	private List<String> matchLinear(Version candidate) {
+		List<String> matches = new ArrayList<>();
+		for (int i = 0; i < this.ranges.size(); i++) {
+			if (this.ranges.get(i).match(candidate)) {
+				matches.add(this.items.get(i));
+			}
+		}
+		return matches;
+	}
+
+	private static Version randomVersion(Random random, int major) {
+		return VersionParser.DEFAULT
+				.parse(major + "." + random.nextInt(6) + "." + random.nextInt(10) + "."
+						+ QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+	}
+
+}
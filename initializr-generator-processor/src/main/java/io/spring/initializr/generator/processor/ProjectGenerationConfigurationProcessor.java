@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes an index of the {@code ProjectGenerationConfiguration}
+ * classes of a module, alongside the class-level conditions that restrict when they
+ * apply. The index is written to {@value #INDEX_LOCATION} using a properties format where
+ * the key is the binary name of the configuration class and the value is a
+ * {@code ;}-separated list of {@code condition:value} pairs.
+ * <p>
+ * Conditions are detected whether they are declared directly on the class or as a
+ * meta-annotation, such as {@code @ConditionalOnGradle}.
+ *
+ * @author Stephane Nicoll
+ */
+@SupportedAnnotationTypes(ProjectGenerationConfigurationProcessor.PROJECT_GENERATION_CONFIGURATION_ANNOTATION)
+public class ProjectGenerationConfigurationProcessor extends AbstractProcessor {
+
+	static final String INDEX_LOCATION = "META-INF/project-generation-configurations.properties";
+
+	static final String PROJECT_GENERATION_CONFIGURATION_ANNOTATION = "io.spring.initializr.generator.project.ProjectGenerationConfiguration";
+
+	private static final Map<String, Condition> CONDITIONS;
+
+	static {
+		Map<String, Condition> conditions = new HashMap<>();
+		conditions.put(
+				"io.spring.initializr.generator.condition.ConditionalOnRequestedDependency",
+				new Condition("dependency", "id"));
+		conditions.put(
+				"io.spring.initializr.generator.buildsystem.ConditionalOnBuildSystem",
+				new Condition("buildSystem", "value"));
+		conditions.put("io.spring.initializr.generator.language.ConditionalOnLanguage",
+				new Condition("language", "value"));
+		conditions.put("io.spring.initializr.generator.packaging.ConditionalOnPackaging",
+				new Condition("packaging", "value"));
+		conditions.put(
+				"io.spring.initializr.generator.condition.ConditionalOnPlatformVersion",
+				new Condition("platformVersion", "value"));
+		CONDITIONS = Collections.unmodifiableMap(conditions);
+	}
+
+	private final Map<String, Map<String, String>> entries = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.CLASS) {
+					TypeElement type = (TypeElement) element;
+					this.entries.put(this.processingEnv.getElementUtils()
+							.getBinaryName(type).toString(), collectConditions(type));
+				}
+			}
+		}
+		if (roundEnv.processingOver() && !this.entries.isEmpty()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private Map<String, String> collectConditions(TypeElement type) {
+		Map<String, String> conditions = new TreeMap<>();
+		Set<String> visited = new HashSet<>();
+		for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+			collectConditions(annotation, conditions, visited);
+		}
+		return conditions;
+	}
+
+	private void collectConditions(AnnotationMirror annotation,
+			Map<String, String> conditions, Set<String> visited) {
+		TypeElement annotationType = (TypeElement) annotation.getAnnotationType()
+				.asElement();
+		String name = annotationType.getQualifiedName().toString();
+		if (!visited.add(name) || name.startsWith("java.lang.annotation.")) {
+			return;
+		}
+		Condition condition = CONDITIONS.get(name);
+		if (condition != null) {
+			String value = getAttribute(annotation, condition.attribute);
+			if (value != null) {
+				conditions.putIfAbsent(condition.name, value);
+			}
+			return;
+		}
+		for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+			collectConditions(metaAnnotation, conditions, visited);
+		}
+	}
+
+	private String getAttribute(AnnotationMirror annotation, String attribute) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv
+				.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+				return String.valueOf(entry.getValue().getValue());
+			}
+		}
+		return null;
+	}
+
+	private void writeIndex() {
+		try {
+			FileObject file = this.processingEnv.getFiler()
+					.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(),
+					StandardCharsets.ISO_8859_1)) {
+				for (Map.Entry<String, Map<String, String>> entry : this.entries
+						.entrySet()) {
+					writer.write(entry.getKey());
+					writer.write('=');
+					writer.write(escape(toValue(entry.getValue())));
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Failed to write " + INDEX_LOCATION + ": " + ex.getMessage());
+		}
+	}
+
+	private String toValue(Map<String, String> conditions) {
+		StringBuilder value = new StringBuilder();
+		conditions.forEach((name, conditionValue) -> {
+			if (value.length() > 0) {
+				value.append(';');
+			}
+			value.append(name).append(':').append(conditionValue);
+		});
+		return value.toString();
+	}
+
+	private String escape(String value) {
+		StringBuilder escaped = new StringBuilder();
+		for (char c : value.toCharArray()) {
+			if (c == '\\') {
+				escaped.append("\\\\");
+			}
+			else if (c > 0x7e || c < 0x20) {
+				escaped.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static final class Condition {
+
+		private final String name;
+
+		private final String attribute;
+
+		Condition(String name, String attribute) {
+			this.name = name;
+			this.attribute = attribute;
+		}
+
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ProjectGenerationConfigurationProcessor}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ProjectGenerationConfigurationProcessorTests {
+
+	private static final Map<String, String> ANNOTATIONS;
+
+	static {
+		Map<String, String> annotations = new LinkedHashMap<>();
+		annotations.put(
+				"io.spring.initializr.generator.project.ProjectGenerationConfiguration",
+				"package io.spring.initializr.generator.project;\n"
+						+ "public @interface ProjectGenerationConfiguration {}");
+		annotations.put(
+				"io.spring.initializr.generator.condition.ConditionalOnRequestedDependency",
+				"package io.spring.initializr.generator.condition;\n"
+						+ "public @interface ConditionalOnRequestedDependency { String id(); }");
+		annotations.put(
+				"io.spring.initializr.generator.condition.ConditionalOnPlatformVersion",
+				"package io.spring.initializr.generator.condition;\n"
+						+ "public @interface ConditionalOnPlatformVersion { String value(); }");
+		annotations.put(
+				"io.spring.initializr.generator.buildsystem.ConditionalOnBuildSystem",
+				"package io.spring.initializr.generator.buildsystem;\n"
+						+ "public @interface ConditionalOnBuildSystem { String value(); }");
+		annotations.put("io.spring.initializr.generator.buildsystem.ConditionalOnGradle",
+				"package io.spring.initializr.generator.buildsystem;\n"
+						+ "@ConditionalOnBuildSystem(\"gradle\")\n"
+						+ "public @interface ConditionalOnGradle {}");
+		ANNOTATIONS = Collections.unmodifiableMap(annotations);
+	}
+
+	@Test
+	void indexConfigurationWithoutCondition(@TempDir Path directory) throws IOException {
+		Properties index = compile(directory, "com.example.SimpleConfiguration",
+				"package com.example;\n"
+						+ "@io.spring.initializr.generator.project.ProjectGenerationConfiguration\n"
+						+ "public class SimpleConfiguration {}");
+		assertThat(index).containsOnly(entry("com.example.SimpleConfiguration", ""));
+	}
+
+	@Test
+	void indexConfigurationWithConditions(@TempDir Path directory) throws IOException {
+		Properties index = compile(directory, "com.example.WebConfiguration",
+				"package com.example;\n"
+						+ "@io.spring.initializr.generator.project.ProjectGenerationConfiguration\n"
+						+ "@io.spring.initializr.generator.condition.ConditionalOnRequestedDependency(id = \"web\")\n"
+						+ "@io.spring.initializr.generator.condition.ConditionalOnPlatformVersion(\"[2.0.0.RELEASE,2.1.0.M1)\")\n"
+						+ "public class WebConfiguration {}");
+		assertThat(index).containsOnly(entry("com.example.WebConfiguration",
+				"dependency:web;platformVersion:[2.0.0.RELEASE,2.1.0.M1)"));
+	}
+
+	@Test
+	void indexConfigurationWithMetaAnnotatedCondition(@TempDir Path directory)
+			throws IOException {
+		Properties index = compile(directory, "com.example.GradleConfiguration",
+				"package com.example;\n"
+						+ "@io.spring.initializr.generator.project.ProjectGenerationConfiguration\n"
+						+ "@io.spring.initializr.generator.buildsystem.ConditionalOnGradle\n"
+						+ "public class GradleConfiguration {}");
+		assertThat(index).containsOnly(
+				entry("com.example.GradleConfiguration", "buildSystem:gradle"));
+	}
+
+	@Test
+	void indexNestedConfigurationUsesBinaryName(@TempDir Path directory)
+			throws IOException {
+		Properties index = compile(directory, "com.example.Outer",
+				"package com.example;\n" + "public class Outer {\n"
+						+ "@io.spring.initializr.generator.project.ProjectGenerationConfiguration\n"
+						+ "public static class Inner {}\n" + "}");
+		assertThat(index).containsOnly(entry("com.example.Outer$Inner", ""));
+	}
+
+	@Test
+	void indexIsNotWrittenWithoutConfiguration(@TempDir Path directory)
+			throws IOException {
+		Properties index = compile(directory, "com.example.Sample",
+				"package com.example;\n" + "public class Sample {}");
+		assertThat(index).isNull();
+	}
+
+	private Properties compile(Path directory, String className, String source)
+			throws IOException {
+		Map<String, String> sources = new LinkedHashMap<>(ANNOTATIONS);
+		sources.put(className, source);
+		List<File> files = new ArrayList<>();
+		for (Map.Entry<String, String> entry : sources.entrySet()) {
+			Path file = directory.resolve("src")
+					.resolve(entry.getKey().replace('.', '/') + ".java");
+			Files.createDirectories(file.getParent());
+			files.add(Files.write(file, entry.getValue().getBytes(StandardCharsets.UTF_8))
+					.toFile());
+		}
+		Path output = Files.createDirectories(directory.resolve("classes"));
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null,
+				null, null)) {
+			CompilationTask task = compiler.getTask(null, fileManager, null,
+					Arrays.asList("-d", output.toString(), "-proc:only"), null,
+					fileManager.getJavaFileObjectsFromFiles(files));
+			task.setProcessors(Collections
+					.singletonList(new ProjectGenerationConfigurationProcessor()));
+			assertThat(task.call()).isTrue();
+		}
+		Path index = output
+				.resolve(ProjectGenerationConfigurationProcessor.INDEX_LOCATION);
+		if (!Files.exists(index)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(index)) {
+			properties.load(in);
+		}
+		return properties;
+	}
+
+}
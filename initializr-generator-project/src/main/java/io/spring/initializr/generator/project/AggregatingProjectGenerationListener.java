@@ -0,0 +1,228 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ProjectGenerationListener} that aggregates durations in-process, per phase and
+ * element. Percentiles are computed over the most recent samples of each element while
+ * the count, total and maximum cover every sample since the last {@linkplain #reset()
+ * reset}. The aggregate can be {@linkplain #scrape() scraped} as text.
+ *
+ * @author Stephane Nicoll
+ */
+public class AggregatingProjectGenerationListener implements ProjectGenerationListener {
+
+	private static final int DEFAULT_SAMPLE_SIZE = 1024;
+
+	private final int sampleSize;
+
+	private final Map<ProjectGenerationPhase, Map<String, Series>> series = new EnumMap<>(
+			ProjectGenerationPhase.class);
+
+	/**
+	 * Create a new instance that keeps the 1024 most recent samples of each element.
+	 */
+	public AggregatingProjectGenerationListener() {
+		this(DEFAULT_SAMPLE_SIZE);
+	}
+
+	/**
+	 * Create a new instance that keeps the specified number of recent samples of each
+	 * element to compute percentiles.
+	 * @param sampleSize the number of samples to keep per element
+	 */
+	public AggregatingProjectGenerationListener(int sampleSize) {
+		Assert.isTrue(sampleSize > 0, "SampleSize must be positive");
+		this.sampleSize = sampleSize;
+		for (ProjectGenerationPhase phase : ProjectGenerationPhase.values()) {
+			this.series.put(phase, new ConcurrentHashMap<>());
+		}
+	}
+
+	@Override
+	public void onPhaseCompleted(ProjectGenerationPhase phase, String name,
+			long durationNanos) {
+		this.series.get(phase).computeIfAbsent(name, (key) -> new Series(this.sampleSize))
+				.record(durationNanos);
+	}
+
+	/**
+	 * Return a snapshot of the statistics of each element, ordered by phase and name.
+	 * @return the statistics
+	 */
+	public List<Statistics> getStatistics() {
+		List<Statistics> statistics = new ArrayList<>();
+		this.series.forEach((phase, elements) -> new TreeMap<>(elements)
+				.forEach((name, series) -> statistics.add(series.snapshot(phase, name))));
+		return statistics;
+	}
+
+	/**
+	 * Return the statistics of each element as text, one line per element with durations
+	 * in milliseconds.
+	 * @return a text representation of the statistics
+	 */
+	public String scrape() {
+		StringBuilder text = new StringBuilder();
+		for (Statistics statistics : getStatistics()) {
+			text.append(statistics.getPhase()).append(' ').append(statistics.getName())
+					.append(" count=").append(statistics.getCount()).append(" total=")
+					.append(toMillis(statistics.getTotal())).append(" p50=")
+					.append(toMillis(statistics.getP50())).append(" p90=")
+					.append(toMillis(statistics.getP90())).append(" p99=")
+					.append(toMillis(statistics.getP99())).append(" max=")
+					.append(toMillis(statistics.getMax())).append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Discard all samples.
+	 */
+	public void reset() {
+		this.series.values().forEach(Map::clear);
+	}
+
+	private static String toMillis(long nanos) {
+		return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	/**
+	 * The samples of an element.
+	 */
+	private static final class Series {
+
+		private final long[] samples;
+
+		private int next;
+
+		private long count;
+
+		private long total;
+
+		private long max;
+
+		private Series(int sampleSize) {
+			this.samples = new long[sampleSize];
+		}
+
+		synchronized void record(long durationNanos) {
+			this.samples[this.next] = durationNanos;
+			this.next = (this.next + 1) % this.samples.length;
+			this.count++;
+			this.total += durationNanos;
+			this.max = Math.max(this.max, durationNanos);
+		}
+
+		synchronized Statistics snapshot(ProjectGenerationPhase phase, String name) {
+			long[] sorted = Arrays.copyOf(this.samples,
+					(int) Math.min(this.count, this.samples.length));
+			Arrays.sort(sorted);
+			return new Statistics(phase, name, this.count, this.total,
+					percentile(sorted, 0.5), percentile(sorted, 0.9),
+					percentile(sorted, 0.99), this.max);
+		}
+
+		private static long percentile(long[] sorted, double percentile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(percentile * sorted.length);
+			return sorted[Math.max(rank - 1, 0)];
+		}
+
+	}
+
+	/**
+	 * Statistics of the durations of an element of a phase, in nanoseconds.
+	 */
+	public static final class Statistics {
+
+		private final ProjectGenerationPhase phase;
+
+		private final String name;
+
+		private final long count;
+
+		private final long total;
+
+		private final long p50;
+
+		private final long p90;
+
+		private final long p99;
+
+		private final long max;
+
+		Statistics(ProjectGenerationPhase phase, String name, long count, long total,
+				long p50, long p90, long p99, long max) {
+			this.phase = phase;
+			this.name = name;
+			this.count = count;
+			this.total = total;
+			this.p50 = p50;
+			this.p90 = p90;
+			this.p99 = p99;
+			this.max = max;
+		}
+
+		public ProjectGenerationPhase getPhase() {
+			return this.phase;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		public long getTotal() {
+			return this.total;
+		}
+
+		public long getP50() {
+			return this.p50;
+		}
+
+		public long getP90() {
+			return this.p90;
+		}
+
+		public long getP99() {
+			return this.p99;
+		}
+
+		public long getMax() {
+			return this.max;
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.io.memory.InMemoryFileSystem;
+import io.spring.initializr.generator.project.archive.ProjectArchiver;
+
+/**
+ * A {@link ProjectDirectoryFactory} that creates each project directory in a dedicated
+ * {@link InMemoryFileSystem} so that contributors do not touch the disk. The file system
+ * of a project directory must be closed once the project has been consumed to release its
+ * content. This is done automatically when the project is
+ * {@linkplain ProjectGenerator#generate(ProjectDescription, ProjectArchiver, OutputStream)
+ * archived}, or when the generation of the project fails.
+ *
+ * @author Stephane Nicoll
+ */
+public class InMemoryProjectDirectoryFactory implements ProjectDirectoryFactory {
+
+	@Override
+	public Path createProjectDirectory(ProjectDescription description)
+			throws IOException {
+		InMemoryFileSystem fileSystem = InMemoryFileSystem.create();
+		try {
+			return Files.createDirectory(fileSystem.getPath("/project"));
+		}
+		catch (IOException | RuntimeException ex) {
+			fileSystem.close();
+			throw ex;
+		}
+	}
+
+}
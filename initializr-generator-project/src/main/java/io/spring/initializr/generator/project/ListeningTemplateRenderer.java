@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import io.spring.initializr.generator.util.template.TemplateRenderer;
+
+/**
+ * A {@link TemplateRenderer} that notifies a {@link ProjectGenerationListener} of the
+ * duration of each {@link ProjectGenerationPhase#TEMPLATE_RENDER template render}.
+ *
+ * @author Stephane Nicoll
+ */
+public class ListeningTemplateRenderer implements TemplateRenderer {
+
+	private final TemplateRenderer delegate;
+
+	private final ProjectGenerationListener listener;
+
+	public ListeningTemplateRenderer(TemplateRenderer delegate,
+			ProjectGenerationListener listener) {
+		this.delegate = delegate;
+		this.listener = listener;
+	}
+
+	@Override
+	public String render(String templateName, Map<String, ?> model) throws IOException {
+		long start = System.nanoTime();
+		String content = this.delegate.render(templateName, model);
+		this.listener.onPhaseCompleted(ProjectGenerationPhase.TEMPLATE_RENDER,
+				templateName, System.nanoTime() - start);
+		return content;
+	}
+
+	@Override
+	public void render(String templateName, Map<String, ?> model, Writer writer)
+			throws IOException {
+		long start = System.nanoTime();
+		this.delegate.render(templateName, model, writer);
+		this.listener.onPhaseCompleted(ProjectGenerationPhase.TEMPLATE_RENDER,
+				templateName, System.nanoTime() - start);
+	}
+
+}
@@ -17,15 +17,30 @@
 package io.spring.initializr.generator.project;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import io.spring.initializr.generator.ProjectContributor;
 
+import org.springframework.util.StringUtils;
+
 /**
  * A collection of {@link ProjectContributor project contributors}.
+ * <p>
+ * When an {@link Executor} is used, contributors run concurrently unless the
+ * {@link ProjectContributor#getContributedPaths() paths} they contribute overlap. A
+ * contributor is only invoked once the contributors that precede it and that have
+ * overlapping paths have completed so that the {@link org.springframework.core.Ordered
+ * order} is honoured for any shared file.
  *
  * @author Andy Wilkinson
+ * @author Stephane Nicoll
  */
 class ProjectContributors {
 
@@ -36,9 +51,124 @@ class ProjectContributors {
 	}
 
 	void contribute(Path projectRoot) throws IOException {
+		contribute(projectRoot, null);
+	}
+
+	void contribute(Path projectRoot, Executor executor) throws IOException {
+		contribute(projectRoot, executor, ProjectGenerationListener.NONE);
+	}
+
+	void contribute(Path projectRoot, Executor executor,
+			ProjectGenerationListener listener) throws IOException {
+		if (executor == null) {
+			for (ProjectContributor contributor : this.contributors) {
+				contribute(contributor, projectRoot, listener);
+			}
+			return;
+		}
+		List<ContributedPaths> contributedPaths = new ArrayList<>();
+		List<CompletableFuture<Void>> contributions = new ArrayList<>();
 		for (ProjectContributor contributor : this.contributors) {
+			ContributedPaths paths = new ContributedPaths(
+					contributor.getContributedPaths());
+			List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+			for (int i = 0; i < contributions.size(); i++) {
+				if (contributedPaths.get(i).overlaps(paths)) {
+					dependencies.add(contributions.get(i));
+				}
+			}
+			contributedPaths.add(paths);
+			contributions.add(CompletableFuture
+					.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+					.thenRunAsync(() -> invoke(contributor, projectRoot, listener),
+							executor));
+		}
+		try {
+			CompletableFuture.allOf(contributions.toArray(new CompletableFuture<?>[0]))
+					.join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) cause).getCause();
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+	}
+
+	private void invoke(ProjectContributor contributor, Path projectRoot,
+			ProjectGenerationListener listener) {
+		try {
+			contribute(contributor, projectRoot, listener);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void contribute(ProjectContributor contributor, Path projectRoot,
+			ProjectGenerationListener listener) throws IOException {
+		long start = System.nanoTime();
+		try {
 			contributor.contribute(projectRoot);
 		}
+		finally {
+			listener.onPhaseCompleted(ProjectGenerationPhase.CONTRIBUTOR,
+					contributor.getClass().getName(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * The paths that a {@link ProjectContributor} contributes, split in segments.
+	 */
+	private static final class ContributedPaths {
+
+		private final List<String[]> paths;
+
+		ContributedPaths(Collection<String> paths) {
+			if (paths != null) {
+				this.paths = new ArrayList<>();
+				for (String path : paths) {
+					this.paths.add(StringUtils.tokenizeToStringArray(path, "/"));
+				}
+			}
+			else {
+				this.paths = null;
+			}
+		}
+
+		boolean overlaps(ContributedPaths other) {
+			if (this.paths == null || other.paths == null) {
+				return true;
+			}
+			for (String[] path : this.paths) {
+				for (String[] otherPath : other.paths) {
+					if (isPrefix(path, otherPath) || isPrefix(otherPath, path)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static boolean isPrefix(String[] candidate, String[] path) {
+			if (candidate.length > path.length) {
+				return false;
+			}
+			for (int i = 0; i < candidate.length; i++) {
+				if (!candidate[i].equals(path[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 	}
 
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * The {@link ProjectGenerationConfiguration} candidates configured in
+ * {@code spring.factories}, with a reverse index from requested dependency id to the
+ * candidates that are only relevant when that dependency is requested. Selecting the
+ * candidates of a {@link ProjectDescription} only touches the candidates that are not
+ * gated by a dependency and those of its requested dependencies, regardless of the number
+ * of available extensions.
+ *
+ * @author Stephane Nicoll
+ * @see ProjectGenerationConfigurationIndex
+ */
+final class ProjectGenerationConfigurationCandidates {
+
+	private static final Map<ClassLoader, ProjectGenerationConfigurationCandidates> cache = new ConcurrentReferenceHashMap<>();
+
+	private final String[] classNames;
+
+	private final int[] ungated;
+
+	private final Map<String, int[]> gatedByDependency;
+
+	private final ProjectGenerationConfigurationIndex index;
+
+	ProjectGenerationConfigurationCandidates(List<String> classNames,
+			ProjectGenerationConfigurationIndex index) {
+		this.classNames = classNames.toArray(new String[0]);
+		this.index = index;
+		List<Integer> ungated = new ArrayList<>();
+		Map<String, List<Integer>> gatedByDependency = new HashMap<>();
+		for (int i = 0; i < this.classNames.length; i++) {
+			String dependency = index.getRequestedDependency(this.classNames[i]);
+			if (dependency != null) {
+				gatedByDependency.computeIfAbsent(dependency, (key) -> new ArrayList<>())
+						.add(i);
+			}
+			else {
+				ungated.add(i);
+			}
+		}
+		this.ungated = toArray(ungated);
+		this.gatedByDependency = new HashMap<>();
+		gatedByDependency.forEach((dependency, positions) -> this.gatedByDependency
+				.put(dependency, toArray(positions)));
+	}
+
+	/**
+	 * Return the candidates available to the specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 * @return the candidates
+	 */
+	static ProjectGenerationConfigurationCandidates get(ClassLoader classLoader) {
+		return cache.computeIfAbsent(classLoader,
+				(key) -> new ProjectGenerationConfigurationCandidates(
+						SpringFactoriesLoader.loadFactoryNames(
+								ProjectGenerationConfiguration.class, key),
+						ProjectGenerationConfigurationIndex.load(key)));
+	}
+
+	/**
+	 * Return the names of all the candidates, in the order they are configured.
+	 * @return the names of all candidates
+	 */
+	String[] getAll() {
+		return this.classNames.clone();
+	}
+
+	/**
+	 * Return the names of the candidates that may match the specified
+	 * {@link ProjectDescription}, in the order they are configured.
+	 * @param description the description of the project to generate
+	 * @return the names of the matching candidates
+	 */
+	String[] select(ProjectDescription description) {
+		BitSet selected = new BitSet(this.classNames.length);
+		for (int position : this.ungated) {
+			selected.set(position);
+		}
+		for (String dependency : description.getRequestedDependencies().keySet()) {
+			int[] positions = this.gatedByDependency.get(dependency);
+			if (positions != null) {
+				for (int position : positions) {
+					selected.set(position);
+				}
+			}
+		}
+		List<String> candidates = new ArrayList<>(selected.cardinality());
+		for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+			if (this.index.isCandidate(this.classNames[i], description)) {
+				candidates.add(this.classNames[i]);
+			}
+		}
+		return candidates.toArray(new String[0]);
+	}
+
+	private static int[] toArray(List<Integer> positions) {
+		return positions.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of the class-level conditions of {@link ProjectGenerationConfiguration}
+ * candidates, as written at build time to {@value #INDEX_LOCATION} by the
+ * {@code initializr-generator-processor} annotation processor. Used to skip candidates
+ * that cannot match a {@link ProjectDescription} without loading their class.
+ * <p>
+ * The index only ever narrows down candidates: a class that is not indexed, or whose
+ * conditions cannot be evaluated against the description, is kept and its conditions are
+ * evaluated by the application context as usual.
+ *
+ * @author Stephane Nicoll
+ */
+final class ProjectGenerationConfigurationIndex {
+
+	static final String INDEX_LOCATION = "META-INF/project-generation-configurations.properties";
+
+	private static final String DEPENDENCY = "dependency";
+
+	private static final Map<ClassLoader, ProjectGenerationConfigurationIndex> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Map<String, Map<String, String>> conditions;
+
+	private ProjectGenerationConfigurationIndex(
+			Map<String, Map<String, String>> conditions) {
+		this.conditions = conditions;
+	}
+
+	/**
+	 * Return the index of all the {@value #INDEX_LOCATION} resources available to the
+	 * specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 * @return the index
+	 */
+	static ProjectGenerationConfigurationIndex load(ClassLoader classLoader) {
+		return cache.computeIfAbsent(classLoader,
+				ProjectGenerationConfigurationIndex::loadIndex);
+	}
+
+	private static ProjectGenerationConfigurationIndex loadIndex(
+			ClassLoader classLoader) {
+		Map<String, Map<String, String>> conditions = new HashMap<>();
+		try {
+			Enumeration<URL> urls = (classLoader != null)
+					? classLoader.getResources(INDEX_LOCATION)
+					: ClassLoader.getSystemResources(INDEX_LOCATION);
+			while (urls.hasMoreElements()) {
+				Properties properties = PropertiesLoaderUtils
+						.loadProperties(new UrlResource(urls.nextElement()));
+				properties.forEach((className, value) -> conditions
+						.put((String) className, parseConditions((String) value)));
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalArgumentException(
+					"Unable to load project generation configurations index from location ["
+							+ INDEX_LOCATION + "]",
+					ex);
+		}
+		return new ProjectGenerationConfigurationIndex(conditions);
+	}
+
+	private static Map<String, String> parseConditions(String value) {
+		Map<String, String> conditions = new LinkedHashMap<>();
+		for (String condition : StringUtils.delimitedListToStringArray(value, ";")) {
+			int index = condition.indexOf(':');
+			if (index > 0) {
+				conditions.put(condition.substring(0, index),
+						condition.substring(index + 1));
+			}
+		}
+		return Collections.unmodifiableMap(conditions);
+	}
+
+	/**
+	 * Return the id of the dependency that must be requested for the configuration class
+	 * with the specified name to apply.
+	 * @param className the name of a configuration class
+	 * @return the id of the required dependency or {@code null} if the class is not
+	 * indexed or does not require a dependency
+	 */
+	String getRequestedDependency(String className) {
+		Map<String, String> classConditions = this.conditions.get(className);
+		return (classConditions != null) ? classConditions.get(DEPENDENCY) : null;
+	}
+
+	/**
+	 * Specify if the configuration class with the specified name may match the specified
+	 * {@link ProjectDescription}.
+	 * @param className the name of a configuration class
+	 * @param description the description of the project to generate
+	 * @return {@code false} if the class has a condition that does not match the
+	 * description, {@code true} otherwise
+	 */
+	boolean isCandidate(String className, ProjectDescription description) {
+		Map<String, String> classConditions = this.conditions.get(className);
+		if (classConditions == null) {
+			return true;
+		}
+		for (Map.Entry<String, String> entry : classConditions.entrySet()) {
+			try {
+				if (!matches(entry.getKey(), entry.getValue(), description)) {
+					return false;
+				}
+			}
+			catch (RuntimeException ex) {
+				// Let the condition report the problem, if any
+			}
+		}
+		return true;
+	}
+
+	private static boolean matches(String condition, String value,
+			ProjectDescription description) {
+		switch (condition) {
+		case DEPENDENCY:
+			return ProjectGenerationConditions.isDependencyRequested(description, value);
+		case "buildSystem":
+			return ProjectGenerationConditions.isBuildSystem(description, value);
+		case "language":
+			return ProjectGenerationConditions.isLanguage(description, value);
+		case "packaging":
+			return ProjectGenerationConditions.isPackaging(description, value);
+		case "platformVersion":
+			return ProjectGenerationConditions.isPlatformVersion(description, value);
+		default:
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * An {@link ApplicationContextInitializer} that registers the beans of a
+ * {@link ProjectGenerationConfiguration} class functionally, evaluating its conditions
+ * programmatically against the {@link ProjectDescription} of the context. Used in place
+ * of the configuration class when {@link ProjectGenerator#setFunctionalRegistration
+ * functional registration} is enabled, so that the configuration class is neither parsed
+ * nor proxied.
+ * <p>
+ * Implementations are registered in {@code META-INF/spring.factories} using the
+ * {@code io.spring.initializr.generator.project.ProjectGenerationInitializer} key. They
+ * are shared by all generations and must register the same beans, using the same names,
+ * as the configuration class they stand for.
+ *
+ * @author Stephane Nicoll
+ */
+public interface ProjectGenerationInitializer
+		extends ApplicationContextInitializer<GenericApplicationContext> {
+
+	/**
+	 * Return the configuration class whose beans are registered by this initializer.
+	 * @return the configuration class
+	 */
+	Class<?> getConfigurationClass();
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * The {@link ProjectGenerationInitializer initializers} configured in
+ * {@code spring.factories} for a given {@link ClassLoader}.
+ *
+ * @author Stephane Nicoll
+ */
+final class ProjectGenerationInitializers {
+
+	private static final Map<ClassLoader, ProjectGenerationInitializers> cache = new ConcurrentReferenceHashMap<>();
+
+	private final List<ProjectGenerationInitializer> initializers;
+
+	private final Set<String> configurationClassNames;
+
+	ProjectGenerationInitializers(List<ProjectGenerationInitializer> initializers) {
+		this.initializers = initializers;
+		Set<String> configurationClassNames = new HashSet<>();
+		initializers.forEach((initializer) -> configurationClassNames
+				.add(initializer.getConfigurationClass().getName()));
+		this.configurationClassNames = Collections
+				.unmodifiableSet(configurationClassNames);
+	}
+
+	/**
+	 * Return the initializers available to the specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 * @return the initializers
+	 */
+	static ProjectGenerationInitializers get(ClassLoader classLoader) {
+		return cache.computeIfAbsent(classLoader,
+				(key) -> new ProjectGenerationInitializers(SpringFactoriesLoader
+						.loadFactories(ProjectGenerationInitializer.class, key)));
+	}
+
+	/**
+	 * Apply the initializers, in order, to the specified context.
+	 * @param context the project generation context
+	 */
+	void initialize(GenericApplicationContext context) {
+		this.initializers.forEach((initializer) -> initializer.initialize(context));
+	}
+
+	/**
+	 * Specify if the configuration class with the specified name has an initializer.
+	 * @param className the name of a configuration class
+	 * @return {@code true} if the beans of that class are registered by an initializer
+	 */
+	boolean hasInitializer(String className) {
+		return this.configurationClassNames.contains(className);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import io.spring.initializr.generator.util.LambdaSafe;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Listener notified of the duration of the {@link ProjectGenerationPhase phases} of a
+ * project generation. Implementations must be thread-safe as generations, and the
+ * contributors of a generation, may run concurrently.
+ * <p>
+ * A listener is {@linkplain ProjectGenerator#setListener(ProjectGenerationListener) set
+ * on the generator} and registered in each project generation context so that customizer
+ * invocations can be {@linkplain #invokeCustomizers timed} by the component that invokes
+ * them.
+ *
+ * @author Stephane Nicoll
+ * @see AggregatingProjectGenerationListener
+ */
+@FunctionalInterface
+public interface ProjectGenerationListener {
+
+	/**
+	 * A listener that ignores all notifications.
+	 */
+	ProjectGenerationListener NONE = (phase, name, durationNanos) -> {
+	};
+
+	/**
+	 * Notify that a phase has completed, successfully or not.
+	 * @param phase the phase
+	 * @param name the name of the element of the phase, such as the class name of a
+	 * contributor or the name of a template
+	 * @param durationNanos the duration of the phase, in nanoseconds
+	 */
+	void onPhaseCompleted(ProjectGenerationPhase phase, String name, long durationNanos);
+
+	/**
+	 * Run the specified action and notify this listener of its duration, using the class
+	 * name of the specified target as the name of the element. Nothing is reported if the
+	 * action fails.
+	 * @param phase the phase of the action
+	 * @param target the element the action invokes, such as a customizer
+	 * @param action the action to run
+	 */
+	default void timed(ProjectGenerationPhase phase, Object target, Runnable action) {
+		long start = System.nanoTime();
+		action.run();
+		onPhaseCompleted(phase, target.getClass().getName(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Return the listener available from the specified provider, or {@link #NONE} if no
+	 * listener is registered.
+	 * @param listener the provider of the listener
+	 * @return the listener to notify
+	 */
+	static ProjectGenerationListener from(
+			ObjectProvider<ProjectGenerationListener> listener) {
+		return listener.getIfAvailable(() -> NONE);
+	}
+
+	/**
+	 * Invoke the specified customizers, in order, skipping those whose generic type does
+	 * not match the argument, and notify the listener available from the specified
+	 * provider, if any, of the duration of each invocation.
+	 * @param listener the provider of the listener to notify
+	 * @param customizerType the type of the customizers
+	 * @param customizers the provider of the customizers
+	 * @param argument the element to customize
+	 * @param invoker the action to invoke on each matching customizer
+	 * @param <C> the customizer type
+	 * @param <A> the type of the element to customize
+	 * @see LambdaSafe#callbacks(Class, java.util.Collection, Object, Object...)
+	 */
+	static <C, A> void invokeCustomizers(
+			ObjectProvider<ProjectGenerationListener> listener, Class<C> customizerType,
+			ObjectProvider<? extends C> customizers, A argument, Consumer<C> invoker) {
+		ProjectGenerationListener target = from(listener);
+		List<C> orderedCustomizers = customizers.orderedStream()
+				.collect(Collectors.toList());
+		LambdaSafe.callbacks(customizerType, orderedCustomizers, argument)
+				.invoke((customizer) -> target.timed(ProjectGenerationPhase.CUSTOMIZER,
+						customizer, () -> invoker.accept(customizer)));
+	}
+
+}
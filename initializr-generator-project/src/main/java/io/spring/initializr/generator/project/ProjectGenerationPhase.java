@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+/**
+ * The phases of a project generation that are reported to a
+ * {@link ProjectGenerationListener}.
+ *
+ * @author Stephane Nicoll
+ */
+public enum ProjectGenerationPhase {
+
+	/**
+	 * The whole generation of a project.
+	 */
+	GENERATION,
+
+	/**
+	 * The refresh of the project generation context, including the processing of the
+	 * generation configurations, the evaluation of their conditions and the creation of
+	 * the beans.
+	 */
+	CONTEXT_REFRESH,
+
+	/**
+	 * The invocation of a {@link io.spring.initializr.generator.ProjectContributor}.
+	 */
+	CONTRIBUTOR,
+
+	/**
+	 * The invocation of a customizer, such as a build or a source code customizer.
+	 */
+	CUSTOMIZER,
+
+	/**
+	 * The rendering of a template.
+	 */
+	TEMPLATE_RENDER
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+
+/**
+ * The bean definitions that result from the processing of the generation configurations
+ * for a given shape of {@link ProjectDescription}. Configuration classes and bean methods
+ * whose conditions did not match are not part of the plan.
+ *
+ * @author Stephane Nicoll
+ */
+final class ProjectGenerationPlan {
+
+	private final Map<String, BeanDefinition> beanDefinitions;
+
+	ProjectGenerationPlan(Map<String, BeanDefinition> beanDefinitions) {
+		this.beanDefinitions = beanDefinitions;
+	}
+
+	/**
+	 * Register the bean definitions of this plan with the specified registry.
+	 * @param registry the registry to use
+	 */
+	void registerBeanDefinitions(BeanDefinitionRegistry registry) {
+		this.beanDefinitions.forEach((name, definition) -> registry
+				.registerBeanDefinition(name, cloneBeanDefinition(definition)));
+	}
+
+	private static BeanDefinition cloneBeanDefinition(BeanDefinition definition) {
+		return ((AbstractBeanDefinition) definition).cloneBeanDefinition();
+	}
+
+	/**
+	 * A {@link BeanDefinitionRegistryPostProcessor} that records the bean definitions
+	 * that have been registered once the configuration classes have been processed. As it
+	 * is neither {@code PriorityOrdered} nor {@code Ordered}, it is invoked after the
+	 * {@code ConfigurationClassPostProcessor}.
+	 */
+	static class Recorder implements BeanDefinitionRegistryPostProcessor {
+
+		private final Set<String> excludedBeanNames;
+
+		private volatile ProjectGenerationPlan plan;
+
+		/**
+		 * Create a recorder that ignores the specified bean definitions.
+		 * @param excludedBeanNames the names of the bean definitions that are specific to
+		 * a particular generation
+		 */
+		Recorder(String... excludedBeanNames) {
+			this.excludedBeanNames = Collections
+					.unmodifiableSet(new HashSet<>(Arrays.asList(excludedBeanNames)));
+		}
+
+		@Override
+		public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry)
+				throws BeansException {
+			Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+			for (String beanName : registry.getBeanDefinitionNames()) {
+				BeanDefinition definition = registry.getBeanDefinition(beanName);
+				if (!this.excludedBeanNames.contains(beanName)
+						&& definition instanceof AbstractBeanDefinition) {
+					beanDefinitions.put(beanName, cloneBeanDefinition(definition));
+				}
+			}
+			this.plan = new ProjectGenerationPlan(beanDefinitions);
+		}
+
+		@Override
+		public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory)
+				throws BeansException {
+		}
+
+		/**
+		 * Return the recorded plan or {@code null} if the context has not been refreshed.
+		 * @return the plan
+		 */
+		ProjectGenerationPlan getPlan() {
+			return this.plan;
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.util.Version;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of {@link ProjectGenerationPlan generation plans}, keyed by the
+ * structural shape of a {@link ProjectDescription}: its build system, language,
+ * packaging, platform version and the ids of the requested dependencies.
+ * <p>
+ * A plan records the bean definitions that survived the evaluation of the conditions of
+ * the generation configurations. Using this cache is therefore only valid if those
+ * conditions depend on the attributes above. The platform version is used as is as the
+ * outcome of a version range cannot be predicted for a coarser bucket.
+ *
+ * @author Stephane Nicoll
+ * @see ProjectGenerator#setPlanCache(ProjectGenerationPlanCache)
+ */
+public class ProjectGenerationPlanCache {
+
+	private final Map<Key, ProjectGenerationPlan> plans;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Create a new instance that keeps the specified number of plans at most, evicting
+	 * the least recently used plan if necessary.
+	 * @param maximumSize the maximum number of plans to keep
+	 */
+	public ProjectGenerationPlanCache(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "MaximumSize must be positive");
+		this.plans = Collections.synchronizedMap(
+				new LinkedHashMap<Key, ProjectGenerationPlan>(16, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(
+							Map.Entry<Key, ProjectGenerationPlan> eldest) {
+						return size() > maximumSize;
+					}
+				});
+	}
+
+	/**
+	 * Return the number of lookups that returned a plan.
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Return the number of lookups that did not return a plan.
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Return the number of plans currently held by this cache.
+	 * @return the size of the cache
+	 */
+	public int size() {
+		return this.plans.size();
+	}
+
+	/**
+	 * Remove all plans.
+	 */
+	public void clear() {
+		this.plans.clear();
+	}
+
+	ProjectGenerationPlan get(ProjectDescription description) {
+		ProjectGenerationPlan plan = this.plans.get(new Key(description));
+		((plan != null) ? this.hitCount : this.missCount).incrementAndGet();
+		return plan;
+	}
+
+	void put(ProjectDescription description, ProjectGenerationPlan plan) {
+		this.plans.put(new Key(description), plan);
+	}
+
+	/**
+	 * The structural shape of a {@link ProjectDescription}.
+	 */
+	private static final class Key {
+
+		private final String buildSystem;
+
+		private final String language;
+
+		private final String packaging;
+
+		private final Version platformVersion;
+
+		private final Set<String> dependencies;
+
+		Key(ProjectDescription description) {
+			this.buildSystem = (description.getBuildSystem() != null)
+					? description.getBuildSystem().id() : null;
+			this.language = (description.getLanguage() != null)
+					? description.getLanguage().id() : null;
+			this.packaging = (description.getPackaging() != null)
+					? description.getPackaging().id() : null;
+			this.platformVersion = description.getPlatformVersion();
+			this.dependencies = new TreeSet<>(
+					description.getRequestedDependencies().keySet());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(this.buildSystem, other.buildSystem)
+					&& Objects.equals(this.language, other.language)
+					&& Objects.equals(this.packaging, other.packaging)
+					&& Objects.equals(this.platformVersion, other.platformVersion)
+					&& this.dependencies.equals(other.dependencies);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.buildSystem, this.language, this.packaging,
+					this.platformVersion, this.dependencies);
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+/**
+ * Callback interface notified of the outcome of each project of a
+ * {@linkplain ProjectGenerator#generateAll(Iterable, ProjectGenerationSink, Executor)
+ * batch generation}. Implementations must be thread-safe if the batch is generated
+ * concurrently.
+ *
+ * @author Stephane Nicoll
+ */
+public interface ProjectGenerationSink {
+
+	/**
+	 * Handle a generated project. The sink owns the project directory and is responsible
+	 * for deleting it, or closing its file system, once it has been consumed.
+	 * @param description the description of the project
+	 * @param projectRoot the root directory of the generated project
+	 * @throws IOException if consuming the project failed, in which case the project
+	 * directory is deleted, or its file system closed, and the failure is thrown once the
+	 * batch has been handled
+	 */
+	void onGenerated(ProjectDescription description, Path projectRoot) throws IOException;
+
+	/**
+	 * Handle the failure to generate a project.
+	 * @param description the description of the project
+	 * @param failure the failure
+	 */
+	void onFailure(ProjectDescription description, Exception failure);
+
+}
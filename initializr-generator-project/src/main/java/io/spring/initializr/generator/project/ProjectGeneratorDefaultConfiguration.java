@@ -20,9 +20,10 @@ import java.nio.file.Files;
 
 import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.io.SimpleIndentStrategy;
-import io.spring.initializr.generator.language.kotlin.ConditionalOnKotlinLanguage;
 import io.spring.initializr.generator.project.code.kotlin.KotlinProjectSettings;
 import io.spring.initializr.generator.project.code.kotlin.SimpleKotlinProjectSettings;
+import io.spring.initializr.generator.project.documentation.HelpDocumentProjectGenerationConfiguration;
+import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,9 @@ import org.springframework.context.annotation.Configuration;
 /**
  * {@link ProjectGenerator} default configuration used for configure the infrastructure
  * locally. For internal purpose only.
+ * <p>
+ * None of the beans depend on the {@code ProjectDescription} so that this configuration
+ * can be used to bootstrap a parent context that is shared by all generations.
  *
  * @author Stephane Nicoll
  */
@@ -37,7 +41,6 @@ import org.springframework.context.annotation.Configuration;
 public class ProjectGeneratorDefaultConfiguration {
 
 	@Bean
-	@ConditionalOnKotlinLanguage
 	public KotlinProjectSettings kotlinProjectSettings() {
 		return new SimpleKotlinProjectSettings("1.2.70");
 	}
@@ -49,7 +52,13 @@ public class ProjectGeneratorDefaultConfiguration {
 
 	@Bean
 	public IndentingWriterFactory indentingWriterFactory() {
-		return IndentingWriterFactory.create(new SimpleIndentStrategy("    "));
+		return IndentingWriterFactory.create(new SimpleIndentStrategy("    "),
+				(factory) -> factory.pooledBuffers(16));
+	}
+
+	@Bean(HelpDocumentProjectGenerationConfiguration.TEMPLATE_RENDERER_BEAN_NAME)
+	public MustacheTemplateRenderer helpMustacheTemplateRenderer() {
+		return new MustacheTemplateRenderer("classpath:/documentation/help");
 	}
 
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+/**
+ * Spring Boot version ranges used to select the generation configurations that apply to
+ * the platform version of a project.
+ *
+ * @author Stephane Nicoll
+ */
+public final class SpringBootVersionRanges {
+
+	/**
+	 * The range of Spring Boot 1.5 versions.
+	 */
+	public static final String SPRING_BOOT_1_5 = "[1.5.0.M1, 2.0.0.M1)";
+
+	/**
+	 * The range of Spring Boot 2.0 and later versions.
+	 */
+	public static final String SPRING_BOOT_2_0_AND_LATER = "2.0.0.M1";
+
+	private SpringBootVersionRanges() {
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.UnixStat;
+
+/**
+ * Base {@link ProjectArchiver} implementation that streams the files of a project to an
+ * {@link ArchiveOutputStream}. Entries are written in a stable order and carry the unix
+ * mode of the file they represent, so that executable files, such as {@code mvnw} or
+ * {@code gradlew}, remain executable once the archive is extracted.
+ *
+ * @author Stephane Nicoll
+ */
+public abstract class AbstractProjectArchiver implements ProjectArchiver {
+
+	private static final int DIRECTORY_MODE = UnixStat.DIR_FLAG | 0755;
+
+	private static final int EXECUTABLE_FILE_MODE = UnixStat.FILE_FLAG | 0755;
+
+	private static final int FILE_MODE = UnixStat.FILE_FLAG | 0644;
+
+	@Override
+	public void archive(Path directory, OutputStream out) throws IOException {
+		List<Path> paths = listPaths(directory);
+		try (ArchiveOutputStream archive = createArchiveOutputStream(
+				new NonClosingOutputStream(out))) {
+			for (Path path : paths) {
+				boolean isDirectory = Files.isDirectory(path);
+				String name = getEntryName(directory, path, isDirectory);
+				ArchiveEntry entry = createArchiveEntry(name, path,
+						getUnixMode(path, isDirectory));
+				archive.putArchiveEntry(entry);
+				if (!isDirectory) {
+					Files.copy(path, archive);
+				}
+				archive.closeArchiveEntry();
+			}
+			archive.finish();
+		}
+	}
+
+	/**
+	 * Create the {@link ArchiveOutputStream} to use to write to the specified
+	 * {@link OutputStream}.
+	 * @param out the target output stream
+	 * @return an archive output stream
+	 * @throws IOException if the stream could not be created
+	 */
+	protected abstract ArchiveOutputStream createArchiveOutputStream(OutputStream out)
+			throws IOException;
+
+	/**
+	 * Create an {@link ArchiveEntry} for the specified {@link Path}.
+	 * @param name the name of the entry, ending with {@code /} for a directory
+	 * @param path the path of the file or directory
+	 * @param unixMode the unix mode of the entry, including the file type flags
+	 * @return an archive entry
+	 * @throws IOException if the attributes of the path could not be read
+	 */
+	protected abstract ArchiveEntry createArchiveEntry(String name, Path path,
+			int unixMode) throws IOException;
+
+	private List<Path> listPaths(Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths.filter((path) -> !path.equals(directory))
+					.sorted(Comparator
+							.comparing((path) -> getEntryName(directory, path, false)))
+					.collect(Collectors.toCollection(ArrayList::new));
+		}
+	}
+
+	private String getEntryName(Path directory, Path path, boolean isDirectory) {
+		StringBuilder name = new StringBuilder();
+		for (Path segment : directory.relativize(path)) {
+			if (name.length() > 0) {
+				name.append('/');
+			}
+			name.append(segment.toString());
+		}
+		return (isDirectory) ? name.append('/').toString() : name.toString();
+	}
+
+	private int getUnixMode(Path path, boolean isDirectory) throws IOException {
+		if (isDirectory) {
+			return DIRECTORY_MODE;
+		}
+		return (isExecutable(path)) ? EXECUTABLE_FILE_MODE : FILE_MODE;
+	}
+
+	private boolean isExecutable(Path path) throws IOException {
+		PosixFileAttributeView attributes = Files.getFileAttributeView(path,
+				PosixFileAttributeView.class);
+		if (attributes != null) {
+			return attributes.readAttributes().permissions()
+					.contains(PosixFilePermission.OWNER_EXECUTE);
+		}
+		return Files.isExecutable(path);
+	}
+
+	/**
+	 * An {@link OutputStream} that does not close the stream it delegates to so that the
+	 * archive can be finished without closing the caller's stream.
+	 */
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+
+		NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+	}
+
+}
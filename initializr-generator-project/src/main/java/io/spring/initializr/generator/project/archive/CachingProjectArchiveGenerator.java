@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ProjectArchiveGenerator} that returns archives from a
+ * {@link ProjectArchiveCache} and only delegates the generation of projects that have not
+ * been generated before. Archives are keyed by the
+ * {@linkplain ProjectGenerationFingerprint fingerprint} of the generation infrastructure
+ * and the {@linkplain ProjectDescriptionDigest digest} of the description so that a
+ * change of the former invalidates previously cached archives. Cached archives are
+ * returned as is to every caller, and must not be modified.
+ * <p>
+ * The cache should not be shared with a generator that uses another archive format,
+ * unless the fingerprint identifies it.
+ *
+ * @author Stephane Nicoll
+ */
+public class CachingProjectArchiveGenerator implements ProjectArchiveGenerator {
+
+	private final ProjectArchiveGenerator delegate;
+
+	private final ProjectArchiveCache cache;
+
+	private final String fingerprint;
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the generator to use when an archive is not cached
+	 * @param cache the cache to use
+	 * @param fingerprint the fingerprint of the generation infrastructure
+	 * @see ProjectGenerationFingerprint#compute(ClassLoader, String...)
+	 */
+	public CachingProjectArchiveGenerator(ProjectArchiveGenerator delegate,
+			ProjectArchiveCache cache, String fingerprint) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.hasText(fingerprint, "Fingerprint must not be empty");
+		this.delegate = delegate;
+		this.cache = cache;
+		this.fingerprint = fingerprint;
+	}
+
+	@Override
+	public byte[] generate(ProjectDescription description) throws IOException {
+		String key = this.fingerprint + ":" + ProjectDescriptionDigest.of(description);
+		byte[] archive = this.cache.get(key);
+		if (archive == null) {
+			archive = this.delegate.generate(description);
+			this.cache.put(key, archive);
+		}
+		return archive;
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.initializr.generator.ProjectDescription;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ProjectArchiveGenerator} that coalesces concurrent requests for the same
+ * project: while a project is being generated, requests with a description that has the
+ * same {@linkplain ProjectDescriptionDigest digest} wait for that generation rather than
+ * starting their own, and all receive its result or failure. A coalesced request receives
+ * its own exception, with the failure of the generation as its cause: an
+ * {@link IOException} for an {@link IOException}, an {@link IllegalStateException} for
+ * any other {@link RuntimeException} and an {@link Error} for an {@link Error}.
+ *
+ * @author Stephane Nicoll
+ */
+public class CoalescingProjectArchiveGenerator implements ProjectArchiveGenerator {
+
+	private final ProjectArchiveGenerator delegate;
+
+	private final FanOut fanOut;
+
+	private final Map<ProjectDescriptionDigest, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private final AtomicLong coalescedCount = new AtomicLong();
+
+	/**
+	 * Create a new instance that shares the same archive with all coalesced requests.
+	 * @param delegate the generator to use
+	 */
+	public CoalescingProjectArchiveGenerator(ProjectArchiveGenerator delegate) {
+		this(delegate, FanOut.SHARED);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the generator to use
+	 * @param fanOut how the result of a generation is handed to coalesced requests
+	 */
+	public CoalescingProjectArchiveGenerator(ProjectArchiveGenerator delegate,
+			FanOut fanOut) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(fanOut, "FanOut must not be null");
+		this.delegate = delegate;
+		this.fanOut = fanOut;
+	}
+
+	@Override
+	public byte[] generate(ProjectDescription description) throws IOException {
+		this.requestCount.incrementAndGet();
+		ProjectDescriptionDigest digest = ProjectDescriptionDigest.of(description);
+		CompletableFuture<byte[]> generation = new CompletableFuture<>();
+		CompletableFuture<byte[]> existing = this.inFlight.putIfAbsent(digest,
+				generation);
+		if (existing != null) {
+			this.coalescedCount.incrementAndGet();
+			return fanOut(await(existing));
+		}
+		try {
+			byte[] archive = this.delegate.generate(description);
+			generation.complete(archive);
+			return fanOut(archive);
+		}
+		catch (IOException | RuntimeException | Error ex) {
+			generation.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlight.remove(digest, generation);
+		}
+	}
+
+	private byte[] await(CompletableFuture<byte[]> generation) throws IOException {
+		try {
+			return generation.join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				throw new IOException(cause.getMessage(), cause);
+			}
+			if (cause instanceof RuntimeException) {
+				throw new IllegalStateException(cause.getMessage(), cause);
+			}
+			throw new Error(cause.getMessage(), cause);
+		}
+	}
+
+	private byte[] fanOut(byte[] archive) {
+		return (this.fanOut != FanOut.COPY) ? archive : archive.clone();
+	}
+
+	/**
+	 * Return the number of requests handled by this instance.
+	 * @return the request count
+	 */
+	public long getRequestCount() {
+		return this.requestCount.get();
+	}
+
+	/**
+	 * Return the number of requests that have been coalesced with a generation that was
+	 * already in flight.
+	 * @return the coalesced count
+	 */
+	public long getCoalescedCount() {
+		return this.coalescedCount.get();
+	}
+
+	/**
+	 * How the archive of a generation is handed to the requests that share it.
+	 */
+	public enum FanOut {
+
+		/**
+		 * Every request receives the same archive, which must not be modified.
+		 */
+		SHARED,
+
+		/**
+		 * Every request receives its own copy of the archive.
+		 */
+		COPY
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ProjectArchiveCache} that keeps archives on the heap, up to a maximum number
+ * of bytes. The least recently used archives are evicted first and an archive that is
+ * larger than the maximum weight is not cached.
+ *
+ * @author Stephane Nicoll
+ */
+public class InMemoryProjectArchiveCache implements ProjectArchiveCache {
+
+	private final long maximumWeight;
+
+	private final LinkedHashMap<String, byte[]> archives = new LinkedHashMap<>(16, 0.75f,
+			true);
+
+	private long weight;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Create a new instance that keeps at most the specified number of bytes.
+	 * @param maximumWeight the maximum number of bytes to keep
+	 */
+	public InMemoryProjectArchiveCache(long maximumWeight) {
+		Assert.isTrue(maximumWeight > 0, "MaximumWeight must be positive");
+		this.maximumWeight = maximumWeight;
+	}
+
+	@Override
+	public byte[] get(String key) {
+		byte[] archive;
+		synchronized (this.archives) {
+			archive = this.archives.get(key);
+		}
+		((archive != null) ? this.hitCount : this.missCount).incrementAndGet();
+		return archive;
+	}
+
+	@Override
+	public void put(String key, byte[] archive) {
+		if (archive.length > this.maximumWeight) {
+			return;
+		}
+		synchronized (this.archives) {
+			byte[] previous = this.archives.put(key, archive);
+			this.weight += archive.length - ((previous != null) ? previous.length : 0);
+			Iterator<Map.Entry<String, byte[]>> entries = this.archives.entrySet()
+					.iterator();
+			while (this.weight > this.maximumWeight) {
+				Map.Entry<String, byte[]> eldest = entries.next();
+				this.weight -= eldest.getValue().length;
+				entries.remove();
+				this.evictionCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Return the number of lookups that returned an archive.
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Return the number of lookups that did not return an archive.
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Return the number of archives that have been evicted to honour the maximum weight.
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.get();
+	}
+
+	/**
+	 * Return the number of archives currently held by this cache.
+	 * @return the size of the cache
+	 */
+	public int size() {
+		synchronized (this.archives) {
+			return this.archives.size();
+		}
+	}
+
+	/**
+	 * Return the number of bytes currently held by this cache.
+	 * @return the weight of the cache
+	 */
+	public long getWeight() {
+		synchronized (this.archives) {
+			return this.weight;
+		}
+	}
+
+	/**
+	 * Remove all archives.
+	 */
+	public void clear() {
+		synchronized (this.archives) {
+			this.archives.clear();
+			this.weight = 0;
+		}
+	}
+
+}
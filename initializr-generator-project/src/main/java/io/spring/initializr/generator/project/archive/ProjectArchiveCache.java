@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+/**
+ * A cache of generated project archives, keyed by a string that identifies both the
+ * project and the generation infrastructure. Implementations must be thread-safe. Cached
+ * archives are shared and must not be modified.
+ *
+ * @author Stephane Nicoll
+ * @see CachingProjectArchiveGenerator
+ */
+public interface ProjectArchiveCache {
+
+	/**
+	 * Return the archive associated with the specified key.
+	 * @param key the key of the archive
+	 * @return the archive or {@code null} if it is not cached
+	 */
+	byte[] get(String key);
+
+	/**
+	 * Associate the specified archive with the specified key. The cache may decide not to
+	 * retain it.
+	 * @param key the key of the archive
+	 * @param archive the archive
+	 */
+	void put(String key, byte[] archive);
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.project.ProjectGenerator;
+
+/**
+ * Strategy interface to generate a project as an archive held in memory.
+ *
+ * @author Stephane Nicoll
+ */
+@FunctionalInterface
+public interface ProjectArchiveGenerator {
+
+	/**
+	 * Generate the project defined by the specified {@link ProjectDescription} and return
+	 * its archive. The returned content may be shared with other callers, for instance if
+	 * it is {@linkplain CachingProjectArchiveGenerator cached} or
+	 * {@linkplain CoalescingProjectArchiveGenerator coalesced}, and must not be modified.
+	 * @param description the description of the project to generate
+	 * @return the content of the archive, which must not be modified
+	 * @throws IOException if generating the project or writing the archive failed
+	 */
+	byte[] generate(ProjectDescription description) throws IOException;
+
+	/**
+	 * Create a {@link ProjectArchiveGenerator} that generates projects with the specified
+	 * {@link ProjectGenerator} and archives them with the specified
+	 * {@link ProjectArchiver}.
+	 * @param projectGenerator the generator to use
+	 * @param archiver the archiver to use
+	 * @return a project archive generator
+	 */
+	static ProjectArchiveGenerator of(ProjectGenerator projectGenerator,
+			ProjectArchiver archiver) {
+		return (description) -> {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			projectGenerator.generate(description, archiver, out);
+			return out.toByteArray();
+		};
+	}
+
+}
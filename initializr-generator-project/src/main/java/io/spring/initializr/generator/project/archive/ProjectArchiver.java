@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Strategy interface to write a generated project as an archive.
+ *
+ * @author Stephane Nicoll
+ */
+@FunctionalInterface
+public interface ProjectArchiver {
+
+	/**
+	 * Write an archive of the content of the specified directory to the specified
+	 * {@link OutputStream}. Entries are named relative to the directory. The stream is
+	 * not closed.
+	 * @param directory the directory to archive
+	 * @param out the stream to write the archive to
+	 * @throws IOException if reading the directory or writing the archive failed
+	 */
+	void archive(Path directory, OutputStream out) throws IOException;
+
+}
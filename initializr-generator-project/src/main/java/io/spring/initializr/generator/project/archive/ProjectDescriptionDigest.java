@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.Dependency;
+
+/**
+ * A SHA-256 digest of everything in a {@link ProjectDescription} that affects the
+ * generated project. The digest is canonical: it does not depend on the order in which
+ * dependencies have been requested, and two descriptions with the same digest generate
+ * the same project.
+ *
+ * @author Stephane Nicoll
+ */
+public final class ProjectDescriptionDigest {
+
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+	private final String value;
+
+	private ProjectDescriptionDigest(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Compute the digest of the specified {@link ProjectDescription}.
+	 * @param description the description to digest
+	 * @return the digest of the description
+	 */
+	public static ProjectDescriptionDigest of(ProjectDescription description) {
+		MessageDigest digest = createSha256();
+		update(digest, (description.getPlatformVersion() != null)
+				? description.getPlatformVersion().toString() : null);
+		update(digest, (description.getBuildSystem() != null)
+				? description.getBuildSystem().id() : null);
+		update(digest, (description.getPackaging() != null)
+				? description.getPackaging().id() : null);
+		update(digest, (description.getLanguage() != null)
+				? description.getLanguage().id() : null);
+		update(digest, description.getJavaVersion());
+		update(digest, description.getGroupId());
+		update(digest, description.getArtifactId());
+		update(digest, description.getName());
+		update(digest, description.getDescription());
+		update(digest, description.getApplicationName());
+		update(digest, description.getPackageName());
+		update(digest, description.getBaseDirectory());
+		Map<String, Dependency> dependencies = new TreeMap<>(
+				description.getRequestedDependencies());
+		update(digest, String.valueOf(dependencies.size()));
+		dependencies.forEach((id, dependency) -> {
+			update(digest, id);
+			update(digest, dependency.getGroupId());
+			update(digest, dependency.getArtifactId());
+			update(digest, (dependency.getVersion() != null)
+					? dependency.getVersion().toString() : null);
+			update(digest,
+					(dependency.getType() != null) ? dependency.getType().name() : null);
+		});
+		return new ProjectDescriptionDigest(toHex(digest.digest()));
+	}
+
+	static MessageDigest createSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+
+	static void update(MessageDigest digest, String value) {
+		if (value == null) {
+			digest.update((byte) 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update((byte) 1);
+		digest.update(
+				new byte[] { (byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+						(byte) (bytes.length >>> 8), (byte) bytes.length });
+		digest.update(bytes);
+	}
+
+	static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX_CHARS[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		return this.value.equals(((ProjectDescriptionDigest) obj).value);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.value.hashCode();
+	}
+
+	/**
+	 * Return the hexadecimal representation of this digest.
+	 * @return the digest as a hexadecimal string
+	 */
+	@Override
+	public String toString() {
+		return this.value;
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compute a fingerprint of the infrastructure that generates projects: the
+ * {@link ProjectGenerationConfiguration} classes registered in
+ * {@code META-INF/spring.factories}, the classes of their packages and any template
+ * resources. The fingerprint changes whenever one of them is added, removed or modified.
+ * Resources are identified by their path relative to the classpath root, or to the root
+ * of their location, so that the same build installed in different directories has the
+ * same fingerprint.
+ *
+ * @author Stephane Nicoll
+ */
+public final class ProjectGenerationFingerprint {
+
+	private ProjectGenerationFingerprint() {
+	}
+
+	/**
+	 * Compute the fingerprint of the project generation infrastructure available to the
+	 * specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 * @param templateLocations the location patterns of the templates to include, such as
+	 * {@code classpath*:/templates/**}
+	 * @return the fingerprint as a hexadecimal string
+	 * @throws IOException if reading a class or a template failed
+	 */
+	public static String compute(ClassLoader classLoader, String... templateLocations)
+			throws IOException {
+		PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(
+				classLoader);
+		MessageDigest digest = ProjectDescriptionDigest.createSha256();
+		Set<String> configurations = new TreeSet<>(SpringFactoriesLoader
+				.loadFactoryNames(ProjectGenerationConfiguration.class, classLoader));
+		Set<String> packages = new TreeSet<>();
+		for (String configuration : configurations) {
+			ProjectDescriptionDigest.update(digest, configuration);
+			packages.add(ClassUtils.getPackageName(configuration));
+		}
+		List<String> locations = new ArrayList<>();
+		for (String packageName : packages) {
+			locations.add(PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+					+ ClassUtils.convertClassNameToResourcePath(packageName)
+					+ "/**/*.class");
+		}
+		for (String templateLocation : templateLocations) {
+			locations.add(templateLocation);
+		}
+		for (FingerprintResource resource : getResources(resolver, locations)) {
+			ProjectDescriptionDigest.update(digest, resource.path);
+			try (InputStream content = resource.resource.getInputStream()) {
+				byte[] buffer = new byte[4096];
+				int read;
+				while ((read = content.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			}
+		}
+		return ProjectDescriptionDigest.toHex(digest.digest());
+	}
+
+	private static List<FingerprintResource> getResources(
+			PathMatchingResourcePatternResolver resolver, List<String> locations)
+			throws IOException {
+		Set<String> uris = new LinkedHashSet<>();
+		List<FingerprintResource> resources = new ArrayList<>();
+		for (String location : locations) {
+			String rootLocation = getRootLocation(location);
+			List<String> rootUris = getRootUris(resolver, rootLocation);
+			String rootPath = getClasspathPath(rootLocation);
+			for (Resource resource : resolver.getResources(location)) {
+				String uri = resource.getURI().toString();
+				if (resource.isReadable() && uris.add(uri)) {
+					resources.add(new FingerprintResource(resource,
+							getPath(uri, rootUris, rootPath)));
+				}
+			}
+		}
+		resources.sort(
+				Comparator.comparing((FingerprintResource resource) -> resource.path));
+		return resources;
+	}
+
+	/**
+	 * Return the location of the directory from which the specified location pattern
+	 * starts matching resources.
+	 * @param location the location pattern
+	 * @return the location of the root directory
+	 */
+	private static String getRootLocation(String location) {
+		int start = location.indexOf(':') + 1;
+		int end = location.length();
+		for (int i = start; i < location.length(); i++) {
+			char c = location.charAt(i);
+			if (c == '*' || c == '?' || c == '{') {
+				end = i;
+				break;
+			}
+		}
+		return location.substring(0,
+				Math.max(start, location.lastIndexOf('/', end - 1) + 1));
+	}
+
+	private static List<String> getRootUris(PathMatchingResourcePatternResolver resolver,
+			String rootLocation) throws IOException {
+		String rootsLocation = rootLocation;
+		if (rootLocation.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
+			rootsLocation = PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+					+ rootLocation.substring(ResourceUtils.CLASSPATH_URL_PREFIX.length());
+		}
+		List<String> rootUris = new ArrayList<>();
+		for (Resource root : resolver.getResources(rootsLocation)) {
+			String rootUri = root.getURI().toString();
+			rootUris.add(rootUri.endsWith("/") ? rootUri : rootUri + "/");
+		}
+		return rootUris;
+	}
+
+	private static String getClasspathPath(String location) {
+		for (String prefix : new String[] {
+				PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX,
+				ResourceUtils.CLASSPATH_URL_PREFIX }) {
+			if (location.startsWith(prefix)) {
+				return StringUtils
+						.trimLeadingCharacter(location.substring(prefix.length()), '/');
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Return the path of the resource with the specified URI so that the same resources
+	 * have the same path wherever they are installed: the path in the archive for a
+	 * resource in a jar, the path relative to the classpath root otherwise.
+	 * @param uri the uri of the resource
+	 * @param rootUris the uris of the root directories of the location that matched the
+	 * resource
+	 * @param rootPath the path of the root directories relative to the classpath root
+	 * @return the path of the resource
+	 */
+	private static String getPath(String uri, List<String> rootUris, String rootPath) {
+		int archiveSeparator = uri.lastIndexOf(ResourceUtils.JAR_URL_SEPARATOR);
+		if (archiveSeparator != -1) {
+			return uri.substring(
+					archiveSeparator + ResourceUtils.JAR_URL_SEPARATOR.length());
+		}
+		for (String rootUri : rootUris) {
+			if (uri.startsWith(rootUri)) {
+				return rootPath + uri.substring(rootUri.length());
+			}
+		}
+		return uri;
+	}
+
+	private static final class FingerprintResource {
+
+		private final Resource resource;
+
+		private final String path;
+
+		FingerprintResource(Resource resource, String path) {
+			this.resource = resource;
+			this.path = path;
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+/**
+ * A {@link ProjectArchiver} that writes a gzip-compressed tar archive.
+ *
+ * @author Stephane Nicoll
+ */
+public class TarGzProjectArchiver extends AbstractProjectArchiver {
+
+	@Override
+	protected ArchiveOutputStream createArchiveOutputStream(OutputStream out)
+			throws IOException {
+		TarArchiveOutputStream archive = new TarArchiveOutputStream(
+				new GzipCompressorOutputStream(out));
+		archive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+		return archive;
+	}
+
+	@Override
+	protected ArchiveEntry createArchiveEntry(String name, Path path, int unixMode)
+			throws IOException {
+		TarArchiveEntry entry = new TarArchiveEntry(name);
+		entry.setMode(unixMode);
+		entry.setModTime(new Date(Files.getLastModifiedTime(path).toMillis()));
+		if (!entry.isDirectory()) {
+			entry.setSize(Files.size(path));
+		}
+		return entry;
+	}
+
+}
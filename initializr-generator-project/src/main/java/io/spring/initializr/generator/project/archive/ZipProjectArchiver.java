@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+/**
+ * A {@link ProjectArchiver} that writes a zip archive.
+ *
+ * @author Stephane Nicoll
+ */
+public class ZipProjectArchiver extends AbstractProjectArchiver {
+
+	@Override
+	protected ArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+		return new ZipArchiveOutputStream(out);
+	}
+
+	@Override
+	protected ArchiveEntry createArchiveEntry(String name, Path path, int unixMode)
+			throws IOException {
+		ZipArchiveEntry entry = new ZipArchiveEntry(name);
+		entry.setUnixMode(unixMode);
+		entry.setTime(Files.getLastModifiedTime(path).toMillis());
+		return entry;
+	}
+
+}
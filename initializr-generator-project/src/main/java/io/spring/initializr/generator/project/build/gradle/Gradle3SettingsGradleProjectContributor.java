@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
@@ -46,4 +48,9 @@ class Gradle3SettingsGradleProjectContributor implements ProjectContributor {
 		}
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton("settings.gradle");
+	}
+
 }
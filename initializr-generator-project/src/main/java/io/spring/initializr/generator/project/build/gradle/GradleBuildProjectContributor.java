@@ -19,6 +19,8 @@ package io.spring.initializr.generator.project.build.gradle;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
@@ -50,9 +52,14 @@ class GradleBuildProjectContributor implements ProjectContributor {
 	public void contribute(Path projectRoot) throws IOException {
 		Path buildGradle = Files.createFile(projectRoot.resolve("build.gradle"));
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("gradle", Files.newBufferedWriter(buildGradle))) {
+				.createIndentingWriter("gradle", buildGradle)) {
 			this.buildWriter.writeTo(writer, this.build);
 		}
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton("build.gradle");
+	}
+
 }
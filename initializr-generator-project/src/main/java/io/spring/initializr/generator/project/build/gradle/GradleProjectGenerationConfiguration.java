@@ -16,20 +16,18 @@
 
 package io.spring.initializr.generator.project.build.gradle;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import io.spring.initializr.generator.ProjectDescription;
-import io.spring.initializr.generator.buildsystem.Build;
 import io.spring.initializr.generator.buildsystem.gradle.ConditionalOnGradle;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
 import io.spring.initializr.generator.condition.ConditionalOnPlatformVersion;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.language.java.ConditionalOnJavaLanguage;
 import io.spring.initializr.generator.packaging.war.ConditionalOnWarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
 import io.spring.initializr.generator.project.build.BuildCustomizer;
 import io.spring.initializr.generator.project.scm.git.GitIgnoreContributor;
-import io.spring.initializr.generator.util.LambdaSafe;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
@@ -41,7 +39,7 @@ import org.springframework.context.annotation.Configuration;
  *
  * @author Andy Wilkinson
  */
-@Configuration
+@ProjectGenerationConfiguration
 @ConditionalOnGradle
 public class GradleProjectGenerationConfiguration {
 
@@ -58,9 +56,13 @@ public class GradleProjectGenerationConfiguration {
 	}
 
 	@Bean
-	public GradleBuild gradleBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers) {
+	@SuppressWarnings("unchecked")
+	public GradleBuild gradleBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		GradleBuild gradleBuild = new GradleBuild();
-		customizeBuild(buildCustomizers, gradleBuild);
+		ProjectGenerationListener.invokeCustomizers(listener, BuildCustomizer.class,
+				buildCustomizers, gradleBuild,
+				(customizer) -> customizer.customize(gradleBuild));
 		return gradleBuild;
 	}
 
@@ -84,21 +86,12 @@ public class GradleProjectGenerationConfiguration {
 	}
 
 	@Bean
-	@ConditionalOnPlatformVersion("2.0.0.M1")
+	@ConditionalOnPlatformVersion(SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)
 	public BuildCustomizer<GradleBuild> applyDependencyManagementPluginContributor() {
 		return (gradleBuild) -> gradleBuild
 				.applyPlugin("io.spring.dependency-management");
 	}
 
-	@SuppressWarnings("unchecked")
-	private void customizeBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers,
-			GradleBuild gradleBuild) {
-		List<BuildCustomizer<? extends Build>> customizers = buildCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe.callbacks(BuildCustomizer.class, customizers, gradleBuild)
-				.invoke((customizer) -> customizer.customize(gradleBuild));
-	}
-
 	@Bean
 	public GradleBuildProjectContributor gradleBuildProjectContributor(
 			GradleBuild gradleBuild) {
@@ -110,7 +103,7 @@ public class GradleProjectGenerationConfiguration {
 	 * Configuration specific to projects using Gradle 3.
 	 */
 	@Configuration
-	@ConditionalOnGradleVersion("3")
+	@ConditionalOnGradleVersion(OnGradleVersionCondition.GRADLE_3)
 	static class Gradle3ProjectGenerationConfiguration {
 
 		@Bean
@@ -141,7 +134,7 @@ public class GradleProjectGenerationConfiguration {
 	 * Configuration specific to projects using Gradle 4.
 	 */
 	@Configuration
-	@ConditionalOnGradleVersion("4")
+	@ConditionalOnGradleVersion(OnGradleVersionCondition.GRADLE_4)
 	static class Gradle4ProjectGenerationConfiguration {
 
 		@Bean
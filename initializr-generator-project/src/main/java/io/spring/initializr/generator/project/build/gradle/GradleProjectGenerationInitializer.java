@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.build.gradle;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import io.spring.initializr.generator.project.build.gradle.GradleProjectGenerationConfiguration.Gradle3ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.build.gradle.GradleProjectGenerationConfiguration.Gradle4ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.scm.git.GitIgnoreContributor;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link GradleProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class GradleProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return GradleProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (!ProjectGenerationConditions.isBuildSystem(description,
+				GradleBuildSystem.ID)) {
+			return;
+		}
+		if (OnGradleVersionCondition.isGradleVersion(description,
+				OnGradleVersionCondition.GRADLE_3)) {
+			Gradle3ProjectGenerationConfiguration gradle3 = new Gradle3ProjectGenerationConfiguration();
+			context.registerBean("gradle3WrapperContributor",
+					GradleWrapperContributor.class, gradle3::gradle3WrapperContributor);
+			context.registerBean("settingsGradleProjectContributor",
+					Gradle3SettingsGradleProjectContributor.class,
+					() -> gradle3.settingsGradleProjectContributor(
+							beanFactory.getBean(GradleBuild.class)));
+			context.registerBean("springBootPluginContributor", BuildCustomizer.class,
+					() -> gradle3.springBootPluginContributor(description));
+		}
+		if (OnGradleVersionCondition.isGradleVersion(description,
+				OnGradleVersionCondition.GRADLE_4)) {
+			Gradle4ProjectGenerationConfiguration gradle4 = new Gradle4ProjectGenerationConfiguration();
+			context.registerBean("gradle4WrapperContributor",
+					GradleWrapperContributor.class, gradle4::gradle4WrapperContributor);
+			context.registerBean("settingsGradleProjectContributor",
+					SettingsGradleProjectContributor.class,
+					() -> gradle4.settingsGradleProjectContributor(
+							beanFactory.getBean(GradleBuild.class),
+							beanFactory.getBean(IndentingWriterFactory.class)));
+			context.registerBean("springBootPluginContributor", BuildCustomizer.class,
+					() -> gradle4.springBootPluginContributor(description));
+		}
+		SingletonSupplier<GradleProjectGenerationConfiguration> configuration = SingletonSupplier
+				.of(() -> new GradleProjectGenerationConfiguration(
+						beanFactory.getBean(IndentingWriterFactory.class)));
+		context.registerBean("gradleGitIgnoreContributor", GitIgnoreContributor.class,
+				() -> configuration.obtain().gradleGitIgnoreContributor());
+		context.registerBean("gradleBuild", GradleBuild.class,
+				() -> configuration.obtain().gradleBuild(
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(BuildCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+		context.registerBean("defaultGradleBuildCustomizer", BuildCustomizer.class,
+				() -> configuration.obtain().defaultGradleBuildCustomizer(description));
+		if (ProjectGenerationConditions.isLanguage(description, JavaLanguage.ID)) {
+			context.registerBean("javaPluginContributor", BuildCustomizer.class,
+					() -> configuration.obtain().javaPluginContributor());
+		}
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			context.registerBean("warPluginContributor", BuildCustomizer.class,
+					() -> configuration.obtain().warPluginContributor());
+		}
+		if (ProjectGenerationConditions.isPlatformVersion(description,
+				SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)) {
+			context.registerBean("applyDependencyManagementPluginContributor",
+					BuildCustomizer.class, () -> configuration.obtain()
+							.applyDependencyManagementPluginContributor());
+		}
+		context.registerBean("gradleBuildProjectContributor",
+				GradleBuildProjectContributor.class,
+				() -> configuration.obtain().gradleBuildProjectContributor(
+						beanFactory.getBean(GradleBuild.class)));
+	}
+
+}
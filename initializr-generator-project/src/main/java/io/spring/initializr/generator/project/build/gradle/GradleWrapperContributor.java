@@ -16,6 +16,9 @@
 
 package io.spring.initializr.generator.project.build.gradle;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import io.spring.initializr.generator.MultipleResourcesProjectContributor;
 
 /**
@@ -32,4 +35,9 @@ class GradleWrapperContributor extends MultipleResourcesProjectContributor {
 						|| filename.equals("gradlew.bat"));
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Arrays.asList("gradlew", "gradlew.bat", "gradle");
+	}
+
 }
@@ -18,6 +18,7 @@ package io.spring.initializr.generator.project.build.gradle;
 
 import io.spring.initializr.generator.ProjectDescription;
 import io.spring.initializr.generator.condition.ProjectGenerationCondition;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
 import io.spring.initializr.generator.util.Version;
 import io.spring.initializr.generator.util.VersionParser;
 import io.spring.initializr.generator.util.VersionRange;
@@ -33,30 +34,48 @@ import org.springframework.core.type.AnnotatedTypeMetadata;
  */
 public class OnGradleVersionCondition extends ProjectGenerationCondition {
 
+	/**
+	 * The Gradle generation used by Spring Boot 1.5 projects.
+	 */
+	static final String GRADLE_3 = "3";
+
+	/**
+	 * The Gradle generation used by Spring Boot 2.0 and later projects.
+	 */
+	static final String GRADLE_4 = "4";
+
 	private static final VersionRange GRADLE_3_BOOT_VERSION_RANGE = VersionParser.DEFAULT
-			.parseRange("[1.5.0.M1,2.0.0.M1)");
+			.parseRange(SpringBootVersionRanges.SPRING_BOOT_1_5);
 
 	private static final VersionRange GRADLE_4_BOOT_VERSION_RANGE = VersionParser.DEFAULT
-			.parseRange("2.0.0.M1");
+			.parseRange(SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER);
 
 	@Override
 	protected boolean matches(ProjectDescription projectDescription,
 			ConditionContext context, AnnotatedTypeMetadata metadata) {
+		String value = (String) metadata
+				.getAnnotationAttributes(ConditionalOnGradleVersion.class.getName())
+				.get("value");
+		return isGradleVersion(projectDescription, value);
+	}
+
+	/**
+	 * Specify if the specified Gradle generation is the one to use for the platform
+	 * version of the project.
+	 * @param projectDescription the description of the project
+	 * @param gradleVersion the Gradle generation, {@link #GRADLE_3} or {@link #GRADLE_4}
+	 * @return {@code true} if the project should use that Gradle generation
+	 */
+	static boolean isGradleVersion(ProjectDescription projectDescription,
+			String gradleVersion) {
 		Version springBootVersion = projectDescription.getPlatformVersion();
-		String gradleVersion;
 		if (GRADLE_3_BOOT_VERSION_RANGE.match(springBootVersion)) {
-			gradleVersion = "3";
-		}
-		else if (GRADLE_4_BOOT_VERSION_RANGE.match(springBootVersion)) {
-			gradleVersion = "4";
+			return GRADLE_3.equals(gradleVersion);
 		}
-		else {
-			return false;
+		if (GRADLE_4_BOOT_VERSION_RANGE.match(springBootVersion)) {
+			return GRADLE_4.equals(gradleVersion);
 		}
-		String value = (String) metadata
-				.getAnnotationAttributes(ConditionalOnGradleVersion.class.getName())
-				.get("value");
-		return gradleVersion.equals(value);
+		return false;
 	}
 
 }
@@ -19,6 +19,8 @@ package io.spring.initializr.generator.project.build.gradle;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
@@ -49,10 +51,15 @@ class SettingsGradleProjectContributor implements ProjectContributor {
 	@Override
 	public void contribute(Path projectRoot) throws IOException {
 		Path settingsGradle = Files.createFile(projectRoot.resolve("settings.gradle"));
-		try (IndentingWriter writer = this.indentingWriterFactory.createIndentingWriter(
-				"gradle", Files.newBufferedWriter(settingsGradle))) {
+		try (IndentingWriter writer = this.indentingWriterFactory
+				.createIndentingWriter("gradle", settingsGradle)) {
 			this.settingsWriter.writeTo(writer, this.build);
 		}
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton("settings.gradle");
+	}
+
 }
@@ -19,6 +19,8 @@ package io.spring.initializr.generator.project.build.maven;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
@@ -51,9 +53,14 @@ public class MavenBuildProjectContributor implements ProjectContributor {
 	public void contribute(Path projectRoot) throws IOException {
 		Path pomFile = Files.createFile(projectRoot.resolve("pom.xml"));
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("maven", Files.newBufferedWriter(pomFile))) {
+				.createIndentingWriter("maven", pomFile)) {
 			this.buildWriter.writeTo(writer, this.mavenBuild);
 		}
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton("pom.xml");
+	}
+
 }
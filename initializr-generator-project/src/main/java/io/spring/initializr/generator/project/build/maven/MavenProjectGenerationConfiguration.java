@@ -16,19 +16,15 @@
 
 package io.spring.initializr.generator.project.build.maven;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import io.spring.initializr.generator.ProjectDescription;
-import io.spring.initializr.generator.buildsystem.Build;
 import io.spring.initializr.generator.buildsystem.maven.ConditionalOnMaven;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.packaging.war.ConditionalOnWarPackaging;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 import io.spring.initializr.generator.project.build.BuildCustomizer;
 import io.spring.initializr.generator.project.scm.git.GitIgnoreContributor;
-import io.spring.initializr.generator.util.LambdaSafe;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
@@ -54,9 +50,13 @@ public class MavenProjectGenerationConfiguration {
 	}
 
 	@Bean
-	public MavenBuild mavenBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers) {
+	@SuppressWarnings("unchecked")
+	public MavenBuild mavenBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		MavenBuild mavenBuild = new MavenBuild();
-		customizeBuild(buildCustomizers, mavenBuild);
+		ProjectGenerationListener.invokeCustomizers(listener, BuildCustomizer.class,
+				buildCustomizers, mavenBuild,
+				(customizer) -> customizer.customize(mavenBuild));
 		return mavenBuild;
 	}
 
@@ -77,15 +77,6 @@ public class MavenProjectGenerationConfiguration {
 		return new MavenBuildProjectContributor(mavenBuild, indentingWriterFactory);
 	}
 
-	@SuppressWarnings("unchecked")
-	private void customizeBuild(ObjectProvider<BuildCustomizer<?>> buildCustomizers,
-			MavenBuild mavenBuild) {
-		List<BuildCustomizer<? extends Build>> customizers = buildCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe.callbacks(BuildCustomizer.class, customizers, mavenBuild)
-				.invoke((customizer) -> customizer.customize(mavenBuild));
-	}
-
 	@Bean
 	@ConditionalOnWarPackaging
 	public BuildCustomizer<MavenBuild> mavenWarPackagingConfigurer() {
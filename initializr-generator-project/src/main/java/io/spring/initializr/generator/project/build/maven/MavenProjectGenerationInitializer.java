@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.build.maven;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import io.spring.initializr.generator.project.scm.git.GitIgnoreContributor;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link MavenProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class MavenProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return MavenProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (!ProjectGenerationConditions.isBuildSystem(description,
+				MavenBuildSystem.ID)) {
+			return;
+		}
+		MavenProjectGenerationConfiguration configuration = new MavenProjectGenerationConfiguration();
+		context.registerBean("mavenWrapperContributor", MavenWrapperContributor.class,
+				configuration::mavenWrapperContributor);
+		context.registerBean("mavenGitIgnoreContributor", GitIgnoreContributor.class,
+				configuration::mavenGitIgnoreContributor);
+		context.registerBean("mavenBuild", MavenBuild.class,
+				() -> configuration.mavenBuild(
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(BuildCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+		context.registerBean("defaultMavenConfigurationContributor",
+				BuildCustomizer.class,
+				() -> configuration.defaultMavenConfigurationContributor(description));
+		context.registerBean("mavenBuildProjectContributor",
+				MavenBuildProjectContributor.class,
+				() -> configuration.mavenBuildProjectContributor(
+						beanFactory.getBean(MavenBuild.class),
+						beanFactory.getBean(IndentingWriterFactory.class)));
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			context.registerBean("mavenWarPackagingConfigurer", BuildCustomizer.class,
+					configuration::mavenWarPackagingConfigurer);
+		}
+	}
+
+}
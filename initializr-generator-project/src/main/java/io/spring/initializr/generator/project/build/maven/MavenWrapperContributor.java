@@ -16,6 +16,9 @@
 
 package io.spring.initializr.generator.project.build.maven;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import io.spring.initializr.generator.MultipleResourcesProjectContributor;
 
 /**
@@ -31,4 +34,9 @@ class MavenWrapperContributor extends MultipleResourcesProjectContributor {
 				(filename) -> filename.equals("mvnw") || filename.equals("mvnw.cmd"));
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Arrays.asList("mvnw", "mvnw.cmd", ".mvn");
+	}
+
 }
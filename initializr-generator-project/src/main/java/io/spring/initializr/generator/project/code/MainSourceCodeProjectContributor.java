@@ -16,11 +16,13 @@
 
 package io.spring.initializr.generator.project.code;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.ProjectDescription;
@@ -28,7 +30,7 @@ import io.spring.initializr.generator.language.CompilationUnit;
 import io.spring.initializr.generator.language.SourceCode;
 import io.spring.initializr.generator.language.SourceCodeWriter;
 import io.spring.initializr.generator.language.TypeDeclaration;
-import io.spring.initializr.generator.util.LambdaSafe;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 
 import org.springframework.beans.factory.ObjectProvider;
 
@@ -56,17 +58,21 @@ public class MainSourceCodeProjectContributor<T extends TypeDeclaration, C exten
 
 	private final ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers;
 
+	private final ObjectProvider<ProjectGenerationListener> listener;
+
 	public MainSourceCodeProjectContributor(ProjectDescription projectDescription,
 			Supplier<S> sourceFactory, SourceCodeWriter<S> sourceWriter,
 			ObjectProvider<MainApplicationTypeCustomizer<?>> mainTypeCustomizers,
 			ObjectProvider<MainCompilationUnitCustomizer<?, ?>> mainCompilationUnitCustomizers,
-			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers) {
+			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		this.projectDescription = projectDescription;
 		this.sourceFactory = sourceFactory;
 		this.sourceWriter = sourceWriter;
 		this.mainTypeCustomizers = mainTypeCustomizers;
 		this.mainCompilationUnitCustomizers = mainCompilationUnitCustomizers;
 		this.mainSourceCodeCustomizers = mainSourceCodeCustomizers;
+		this.listener = listener;
 	}
 
 	@Override
@@ -86,32 +92,34 @@ public class MainSourceCodeProjectContributor<T extends TypeDeclaration, C exten
 						sourceCode);
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		Path directory = this.projectDescription.getBuildSystem()
+				.getMainDirectory(Paths.get(""), this.projectDescription.getLanguage());
+		return Collections
+				.singleton(directory.toString().replace(File.separatorChar, '/'));
+	}
+
 	@SuppressWarnings("unchecked")
 	private void customizeMainApplicationType(T mainApplicationType) {
-		List<MainApplicationTypeCustomizer<?>> customizers = this.mainTypeCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe
-				.callbacks(MainApplicationTypeCustomizer.class, customizers,
-						mainApplicationType)
-				.invoke((customizer) -> customizer.customize(mainApplicationType));
+		ProjectGenerationListener.invokeCustomizers(this.listener,
+				MainApplicationTypeCustomizer.class, this.mainTypeCustomizers,
+				mainApplicationType,
+				(customizer) -> customizer.customize(mainApplicationType));
 	}
 
 	@SuppressWarnings("unchecked")
 	private void customizeMainCompilationUnit(C compilationUnit) {
-		List<MainCompilationUnitCustomizer<?, ?>> customizers = this.mainCompilationUnitCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe
-				.callbacks(MainCompilationUnitCustomizer.class, customizers,
-						compilationUnit)
-				.invoke((customizer) -> customizer.customize(compilationUnit));
+		ProjectGenerationListener.invokeCustomizers(this.listener,
+				MainCompilationUnitCustomizer.class, this.mainCompilationUnitCustomizers,
+				compilationUnit, (customizer) -> customizer.customize(compilationUnit));
 	}
 
 	@SuppressWarnings("unchecked")
 	private void customizeMainSourceCode(S sourceCode) {
-		List<MainSourceCodeCustomizer<?, ?, ?>> customizers = this.mainSourceCodeCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe.callbacks(MainSourceCodeCustomizer.class, customizers, sourceCode)
-				.invoke((customizer) -> customizer.customize(sourceCode));
+		ProjectGenerationListener.invokeCustomizers(this.listener,
+				MainSourceCodeCustomizer.class, this.mainSourceCodeCustomizers,
+				sourceCode, (customizer) -> customizer.customize(sourceCode));
 	}
 
 }
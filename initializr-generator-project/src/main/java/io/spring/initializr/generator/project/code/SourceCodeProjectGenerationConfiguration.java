@@ -22,6 +22,7 @@ import io.spring.initializr.generator.language.Annotation;
 import io.spring.initializr.generator.language.TypeDeclaration;
 import io.spring.initializr.generator.packaging.war.ConditionalOnWarPackaging;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
@@ -66,7 +67,7 @@ public class SourceCodeProjectGenerationConfiguration {
 		}
 
 		@Bean
-		@ConditionalOnPlatformVersion("[1.5.0.M1, 2.0.0.M1)")
+		@ConditionalOnPlatformVersion(SpringBootVersionRanges.SPRING_BOOT_1_5)
 		public ServletInitializerContributor boot15ServletInitializerContributor(
 				ObjectProvider<ServletInitializerCustomizer<?>> servletInitializerCustomizers) {
 			return new ServletInitializerContributor(
@@ -76,7 +77,7 @@ public class SourceCodeProjectGenerationConfiguration {
 		}
 
 		@Bean
-		@ConditionalOnPlatformVersion("2.0.0.M1")
+		@ConditionalOnPlatformVersion(SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)
 		public ServletInitializerContributor boot20ServletInitializerContributor(
 				ObjectProvider<ServletInitializerCustomizer<?>> servletInitializerCustomizers) {
 			return new ServletInitializerContributor(
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.code;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
+import io.spring.initializr.generator.project.code.SourceCodeProjectGenerationConfiguration.WarPackagingConfiguration;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+
+/**
+ * {@link ProjectGenerationInitializer} for
+ * {@link SourceCodeProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class SourceCodeProjectGenerationInitializer
+		implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return SourceCodeProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			WarPackagingConfiguration warPackaging = new WarPackagingConfiguration(
+					description);
+			if (ProjectGenerationConditions.isPlatformVersion(description,
+					SpringBootVersionRanges.SPRING_BOOT_1_5)) {
+				context.registerBean("boot15ServletInitializerContributor",
+						ServletInitializerContributor.class,
+						() -> warPackaging.boot15ServletInitializerContributor(
+								beanFactory.getBeanProvider(ResolvableType
+										.forClass(ServletInitializerCustomizer.class))));
+			}
+			if (ProjectGenerationConditions.isPlatformVersion(description,
+					SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)) {
+				context.registerBean("boot20ServletInitializerContributor",
+						ServletInitializerContributor.class,
+						() -> warPackaging.boot20ServletInitializerContributor(
+								beanFactory.getBeanProvider(ResolvableType
+										.forClass(ServletInitializerCustomizer.class))));
+			}
+		}
+		SourceCodeProjectGenerationConfiguration configuration = new SourceCodeProjectGenerationConfiguration();
+		context.registerBean("springBootApplicationAnnotator",
+				MainApplicationTypeCustomizer.class,
+				configuration::springBootApplicationAnnotator);
+		context.registerBean("springBootTestAnnotator",
+				TestApplicationTypeCustomizer.class,
+				configuration::springBootTestAnnotator);
+	}
+
+}
@@ -16,11 +16,13 @@
 
 package io.spring.initializr.generator.project.code;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.ProjectDescription;
@@ -28,7 +30,7 @@ import io.spring.initializr.generator.language.CompilationUnit;
 import io.spring.initializr.generator.language.SourceCode;
 import io.spring.initializr.generator.language.SourceCodeWriter;
 import io.spring.initializr.generator.language.TypeDeclaration;
-import io.spring.initializr.generator.util.LambdaSafe;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 
 import org.springframework.beans.factory.ObjectProvider;
 
@@ -53,15 +55,19 @@ public class TestSourceCodeProjectContributor<T extends TypeDeclaration, C exten
 
 	private final ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers;
 
+	private final ObjectProvider<ProjectGenerationListener> listener;
+
 	public TestSourceCodeProjectContributor(ProjectDescription projectDescription,
 			Supplier<S> sourceFactory, SourceCodeWriter<S> sourceWriter,
 			ObjectProvider<TestApplicationTypeCustomizer<?>> testApplicationTypeCustomizers,
-			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers) {
+			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		this.projectDescription = projectDescription;
 		this.sourceFactory = sourceFactory;
 		this.sourceWriter = sourceWriter;
 		this.testApplicationTypeCustomizers = testApplicationTypeCustomizers;
 		this.testSourceCodeCustomizers = testSourceCodeCustomizers;
+		this.listener = listener;
 	}
 
 	@Override
@@ -80,22 +86,27 @@ public class TestSourceCodeProjectContributor<T extends TypeDeclaration, C exten
 						sourceCode);
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		Path directory = this.projectDescription.getBuildSystem()
+				.getTestDirectory(Paths.get(""), this.projectDescription.getLanguage());
+		return Collections
+				.singleton(directory.toString().replace(File.separatorChar, '/'));
+	}
+
 	@SuppressWarnings("unchecked")
 	private void customizeTestApplicationType(TypeDeclaration testApplicationType) {
-		List<TestApplicationTypeCustomizer<?>> customizers = this.testApplicationTypeCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe
-				.callbacks(TestApplicationTypeCustomizer.class, customizers,
-						testApplicationType)
-				.invoke((customizer) -> customizer.customize(testApplicationType));
+		ProjectGenerationListener.invokeCustomizers(this.listener,
+				TestApplicationTypeCustomizer.class, this.testApplicationTypeCustomizers,
+				testApplicationType,
+				(customizer) -> customizer.customize(testApplicationType));
 	}
 
 	@SuppressWarnings("unchecked")
 	private void customizeTestSourceCode(S sourceCode) {
-		List<TestSourceCodeCustomizer<?, ?, ?>> customizers = this.testSourceCodeCustomizers
-				.orderedStream().collect(Collectors.toList());
-		LambdaSafe.callbacks(TestSourceCodeCustomizer.class, customizers, sourceCode)
-				.invoke((customizer) -> customizer.customize(sourceCode));
+		ProjectGenerationListener.invokeCustomizers(this.listener,
+				TestSourceCodeCustomizer.class, this.testSourceCodeCustomizers,
+				sourceCode, (customizer) -> customizer.customize(sourceCode));
 	}
 
 }
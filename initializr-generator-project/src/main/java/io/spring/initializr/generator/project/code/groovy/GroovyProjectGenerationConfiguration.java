@@ -24,6 +24,7 @@ import io.spring.initializr.generator.language.groovy.GroovySourceCode;
 import io.spring.initializr.generator.language.groovy.GroovySourceCodeWriter;
 import io.spring.initializr.generator.language.groovy.GroovyTypeDeclaration;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
 import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
 import io.spring.initializr.generator.project.code.MainSourceCodeCustomizer;
@@ -61,22 +62,24 @@ public class GroovyProjectGenerationConfiguration {
 	public MainSourceCodeProjectContributor<GroovyTypeDeclaration, GroovyCompilationUnit, GroovySourceCode> mainGroovySourceCodeProjectContributor(
 			ObjectProvider<MainApplicationTypeCustomizer<?>> mainApplicationTypeCustomizers,
 			ObjectProvider<MainCompilationUnitCustomizer<?, ?>> mainCompilationUnitCustomizers,
-			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers) {
+			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		return new MainSourceCodeProjectContributor<>(this.projectDescription,
 				GroovySourceCode::new,
 				new GroovySourceCodeWriter(this.indentingWriterFactory),
 				mainApplicationTypeCustomizers, mainCompilationUnitCustomizers,
-				mainSourceCodeCustomizers);
+				mainSourceCodeCustomizers, listener);
 	}
 
 	@Bean
 	public TestSourceCodeProjectContributor<GroovyTypeDeclaration, GroovyCompilationUnit, GroovySourceCode> testGroovySourceCodeProjectContributor(
 			ObjectProvider<TestApplicationTypeCustomizer<?>> testApplicationTypeCustomizers,
-			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers) {
+			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		return new TestSourceCodeProjectContributor<>(this.projectDescription,
 				GroovySourceCode::new,
 				new GroovySourceCodeWriter(this.indentingWriterFactory),
-				testApplicationTypeCustomizers, testSourceCodeCustomizers);
+				testApplicationTypeCustomizers, testSourceCodeCustomizers, listener);
 	}
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.code.groovy;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.language.groovy.GroovyLanguage;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.ServletInitializerCustomizer;
+import io.spring.initializr.generator.project.code.TestApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.groovy.GroovyProjectGenerationDefaultContributorsConfiguration.GroovyGradleProjectConfiguration;
+import io.spring.initializr.generator.project.code.groovy.GroovyProjectGenerationDefaultContributorsConfiguration.GroovyMavenProjectConfiguration;
+import io.spring.initializr.generator.project.code.groovy.GroovyProjectGenerationDefaultContributorsConfiguration.WarPackagingConfiguration;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link GroovyProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class GroovyProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return GroovyProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (!ProjectGenerationConditions.isLanguage(description, GroovyLanguage.ID)) {
+			return;
+		}
+		registerDefaultContributors(context, description);
+		SingletonSupplier<GroovyProjectGenerationConfiguration> configuration = SingletonSupplier
+				.of(() -> new GroovyProjectGenerationConfiguration(description,
+						beanFactory.getBean(IndentingWriterFactory.class)));
+		context.registerBean("mainGroovySourceCodeProjectContributor",
+				MainSourceCodeProjectContributor.class,
+				() -> configuration.obtain().mainGroovySourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainCompilationUnitCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(MainSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+		context.registerBean("testGroovySourceCodeProjectContributor",
+				TestSourceCodeProjectContributor.class,
+				() -> configuration.obtain().testGroovySourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(TestApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(TestSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+	}
+
+	private void registerDefaultContributors(GenericApplicationContext context,
+			ProjectDescription description) {
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			WarPackagingConfiguration warPackaging = new WarPackagingConfiguration();
+			context.registerBean("javaServletInitializerCustomizer",
+					ServletInitializerCustomizer.class,
+					warPackaging::javaServletInitializerCustomizer);
+		}
+		if (ProjectGenerationConditions.isBuildSystem(description, MavenBuildSystem.ID)) {
+			GroovyMavenProjectConfiguration maven = new GroovyMavenProjectConfiguration();
+			context.registerBean("groovyBuildCustomizer",
+					GroovyMavenBuildCustomizer.class, maven::groovyBuildCustomizer);
+		}
+		if (ProjectGenerationConditions.isBuildSystem(description,
+				GradleBuildSystem.ID)) {
+			GroovyGradleProjectConfiguration gradle = new GroovyGradleProjectConfiguration();
+			context.registerBean("groovyBuildCustomizer",
+					GroovyGradleBuildCustomizer.class, gradle::groovyBuildCustomizer);
+		}
+		GroovyProjectGenerationDefaultContributorsConfiguration defaultContributors = new GroovyProjectGenerationDefaultContributorsConfiguration();
+		context.registerBean("mainMethodContributor", MainApplicationTypeCustomizer.class,
+				defaultContributors::mainMethodContributor);
+		context.registerBean("testMethodContributor", TestApplicationTypeCustomizer.class,
+				defaultContributors::testMethodContributor);
+		context.registerBean("groovyDependenciesConfigurer", BuildCustomizer.class,
+				defaultContributors::groovyDependenciesConfigurer);
+	}
+
+}
@@ -24,6 +24,7 @@ import io.spring.initializr.generator.language.java.JavaSourceCode;
 import io.spring.initializr.generator.language.java.JavaSourceCodeWriter;
 import io.spring.initializr.generator.language.java.JavaTypeDeclaration;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
 import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
 import io.spring.initializr.generator.project.code.MainSourceCodeCustomizer;
@@ -61,22 +62,24 @@ public class JavaProjectGenerationConfiguration {
 	public MainSourceCodeProjectContributor<JavaTypeDeclaration, JavaCompilationUnit, JavaSourceCode> mainJavaSourceCodeProjectContributor(
 			ObjectProvider<MainApplicationTypeCustomizer<?>> mainApplicationTypeCustomizers,
 			ObjectProvider<MainCompilationUnitCustomizer<?, ?>> mainCompilationUnitCustomizers,
-			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers) {
+			ObjectProvider<MainSourceCodeCustomizer<?, ?, ?>> mainSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		return new MainSourceCodeProjectContributor<>(this.projectDescription,
 				JavaSourceCode::new,
 				new JavaSourceCodeWriter(this.indentingWriterFactory),
 				mainApplicationTypeCustomizers, mainCompilationUnitCustomizers,
-				mainSourceCodeCustomizers);
+				mainSourceCodeCustomizers, listener);
 	}
 
 	@Bean
 	public TestSourceCodeProjectContributor<JavaTypeDeclaration, JavaCompilationUnit, JavaSourceCode> testJavaSourceCodeProjectContributor(
 			ObjectProvider<TestApplicationTypeCustomizer<?>> testApplicationTypeCustomizers,
-			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers) {
+			ObjectProvider<TestSourceCodeCustomizer<?, ?, ?>> testSourceCodeCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener) {
 		return new TestSourceCodeProjectContributor<>(this.projectDescription,
 				JavaSourceCode::new,
 				new JavaSourceCodeWriter(this.indentingWriterFactory),
-				testApplicationTypeCustomizers, testSourceCodeCustomizers);
+				testApplicationTypeCustomizers, testSourceCodeCustomizers, listener);
 	}
 
 }
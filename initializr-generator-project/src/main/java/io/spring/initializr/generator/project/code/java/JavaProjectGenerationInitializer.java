@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.code.java;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.ServletInitializerCustomizer;
+import io.spring.initializr.generator.project.code.TestApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.java.JavaProjectGenerationDefaultContributorsConfiguration.WarPackagingConfiguration;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link JavaProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class JavaProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return JavaProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (!ProjectGenerationConditions.isLanguage(description, JavaLanguage.ID)) {
+			return;
+		}
+		registerDefaultContributors(context, description);
+		SingletonSupplier<JavaProjectGenerationConfiguration> configuration = SingletonSupplier
+				.of(() -> new JavaProjectGenerationConfiguration(description,
+						beanFactory.getBean(IndentingWriterFactory.class)));
+		context.registerBean("mainJavaSourceCodeProjectContributor",
+				MainSourceCodeProjectContributor.class,
+				() -> configuration.obtain().mainJavaSourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainCompilationUnitCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(MainSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+		context.registerBean("testJavaSourceCodeProjectContributor",
+				TestSourceCodeProjectContributor.class,
+				() -> configuration.obtain().testJavaSourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(TestApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(TestSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+	}
+
+	private void registerDefaultContributors(GenericApplicationContext context,
+			ProjectDescription description) {
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			WarPackagingConfiguration warPackaging = new WarPackagingConfiguration();
+			context.registerBean("javaServletInitializerCustomizer",
+					ServletInitializerCustomizer.class,
+					warPackaging::javaServletInitializerCustomizer);
+		}
+		JavaProjectGenerationDefaultContributorsConfiguration defaultContributors = new JavaProjectGenerationDefaultContributorsConfiguration();
+		context.registerBean("mainMethodContributor", MainApplicationTypeCustomizer.class,
+				defaultContributors::mainMethodContributor);
+		context.registerBean("testMethodContributor", TestApplicationTypeCustomizer.class,
+				defaultContributors::testMethodContributor);
+	}
+
+}
@@ -32,6 +32,7 @@ import io.spring.initializr.generator.language.kotlin.KotlinReifiedFunctionInvoc
 import io.spring.initializr.generator.language.kotlin.KotlinReturnStatement;
 import io.spring.initializr.generator.language.kotlin.KotlinTypeDeclaration;
 import io.spring.initializr.generator.packaging.war.ConditionalOnWarPackaging;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
 import io.spring.initializr.generator.project.build.BuildCustomizer;
 import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
 import io.spring.initializr.generator.project.code.ServletInitializerCustomizer;
@@ -69,7 +70,7 @@ class KotlinProjectGenerationDefaultContributorsConfiguration {
 	 * Configuration for Kotlin projects using Spring Boot 1.5.
 	 */
 	@Configuration
-	@ConditionalOnPlatformVersion("[1.5.0.M1, 2.0.0.M1)")
+	@ConditionalOnPlatformVersion(SpringBootVersionRanges.SPRING_BOOT_1_5)
 	static class SpringBoot15KotlinProjectGenerationConfiguration {
 
 		@Bean
@@ -97,7 +98,7 @@ class KotlinProjectGenerationDefaultContributorsConfiguration {
 	 * Configuration for Kotlin projects using Spring Boot 2.0 and later.
 	 */
 	@Configuration
-	@ConditionalOnPlatformVersion("2.0.0.M1")
+	@ConditionalOnPlatformVersion(SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)
 	static class SpringBoot2AndLaterKotlinProjectGenerationConfiguration {
 
 		@Bean
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.code.kotlin;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.language.kotlin.KotlinLanguage;
+import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+import io.spring.initializr.generator.project.SpringBootVersionRanges;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import io.spring.initializr.generator.project.code.MainApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.MainCompilationUnitCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.MainSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.ServletInitializerCustomizer;
+import io.spring.initializr.generator.project.code.TestApplicationTypeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeCustomizer;
+import io.spring.initializr.generator.project.code.TestSourceCodeProjectContributor;
+import io.spring.initializr.generator.project.code.kotlin.KotlinProjectGenerationDefaultContributorsConfiguration.KotlinGradleProjectConfiguration;
+import io.spring.initializr.generator.project.code.kotlin.KotlinProjectGenerationDefaultContributorsConfiguration.SpringBoot15KotlinProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.code.kotlin.KotlinProjectGenerationDefaultContributorsConfiguration.SpringBoot2AndLaterKotlinProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.code.kotlin.KotlinProjectGenerationDefaultContributorsConfiguration.WarPackagingConfiguration;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link KotlinProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class KotlinProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return KotlinProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		if (!ProjectGenerationConditions.isLanguage(description, KotlinLanguage.ID)) {
+			return;
+		}
+		registerDefaultContributors(context, description);
+		SingletonSupplier<KotlinProjectGenerationConfiguration> configuration = SingletonSupplier
+				.of(() -> new KotlinProjectGenerationConfiguration(description,
+						beanFactory.getBean(IndentingWriterFactory.class)));
+		context.registerBean("mainKotlinSourceCodeProjectContributor",
+				MainSourceCodeProjectContributor.class,
+				() -> configuration.obtain().mainKotlinSourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(MainCompilationUnitCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(MainSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+		context.registerBean("testKotlinSourceCodeProjectContributor",
+				TestSourceCodeProjectContributor.class,
+				() -> configuration.obtain().testKotlinSourceCodeProjectContributor(
+						beanFactory.getBeanProvider(ResolvableType
+								.forClass(TestApplicationTypeCustomizer.class)),
+						beanFactory.getBeanProvider(
+								ResolvableType.forClass(TestSourceCodeCustomizer.class)),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class)));
+	}
+
+	private void registerDefaultContributors(GenericApplicationContext context,
+			ProjectDescription description) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		boolean maven = ProjectGenerationConditions.isBuildSystem(description,
+				MavenBuildSystem.ID);
+		if (ProjectGenerationConditions.isPlatformVersion(description,
+				SpringBootVersionRanges.SPRING_BOOT_1_5)) {
+			SpringBoot15KotlinProjectGenerationConfiguration springBoot15 = new SpringBoot15KotlinProjectGenerationConfiguration();
+			if (maven) {
+				context.registerBean("kotlinBuildCustomizer",
+						KotlinMavenFullBuildCustomizer.class,
+						() -> springBoot15.kotlinBuildCustomizer(
+								beanFactory.getBean(KotlinProjectSettings.class)));
+			}
+			context.registerBean("boot15MainFunctionContributor",
+					MainCompilationUnitCustomizer.class,
+					springBoot15::boot15MainFunctionContributor);
+		}
+		if (ProjectGenerationConditions.isPlatformVersion(description,
+				SpringBootVersionRanges.SPRING_BOOT_2_0_AND_LATER)) {
+			SpringBoot2AndLaterKotlinProjectGenerationConfiguration springBoot2 = new SpringBoot2AndLaterKotlinProjectGenerationConfiguration();
+			if (maven) {
+				context.registerBean("kotlinBuildCustomizer",
+						KotlinMavenBuildCustomizer.class,
+						() -> springBoot2.kotlinBuildCustomizer(
+								beanFactory.getBean(KotlinProjectSettings.class)));
+			}
+			context.registerBean("mainFunctionContributor",
+					MainCompilationUnitCustomizer.class,
+					springBoot2::mainFunctionContributor);
+		}
+		if (ProjectGenerationConditions.isPackaging(description, WarPackaging.ID)) {
+			WarPackagingConfiguration warPackaging = new WarPackagingConfiguration();
+			context.registerBean("javaServletInitializerCustomizer",
+					ServletInitializerCustomizer.class,
+					warPackaging::javaServletInitializerCustomizer);
+		}
+		if (ProjectGenerationConditions.isBuildSystem(description,
+				GradleBuildSystem.ID)) {
+			KotlinGradleProjectConfiguration gradle = new KotlinGradleProjectConfiguration();
+			context.registerBean("kotlinBuildCustomizer",
+					KotlinGradleBuildCustomizer.class, () -> gradle.kotlinBuildCustomizer(
+							beanFactory.getBean(KotlinProjectSettings.class)));
+		}
+		KotlinProjectGenerationDefaultContributorsConfiguration defaultContributors = new KotlinProjectGenerationDefaultContributorsConfiguration();
+		context.registerBean("testMethodContributor", TestApplicationTypeCustomizer.class,
+				defaultContributors::testMethodContributor);
+		context.registerBean("kotlinDependenciesConfigurer", BuildCustomizer.class,
+				() -> defaultContributors.kotlinDependenciesConfigurer(description));
+	}
+
+}
@@ -24,7 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.util.template.TemplateRenderer;
 
 /**
  * {@link MustacheSection} for list of items.
@@ -38,12 +38,11 @@ public class BulletedSection<T> extends MustacheSection {
 
 	private List<T> items = new ArrayList<>();
 
-	public BulletedSection(MustacheTemplateRenderer templateRenderer,
-			String templateName) {
+	public BulletedSection(TemplateRenderer templateRenderer, String templateName) {
 		this(templateRenderer, templateName, "items");
 	}
 
-	public BulletedSection(MustacheTemplateRenderer templateRenderer, String templateName,
+	public BulletedSection(TemplateRenderer templateRenderer, String templateName,
 			String itemName) {
 		super(templateRenderer, templateName, new HashMap<>());
 		this.itemName = itemName;
@@ -19,7 +19,7 @@ package io.spring.initializr.generator.project.documentation;
 import java.util.ArrayList;
 import java.util.List;
 
-import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.util.template.TemplateRenderer;
 
 /**
  * Section that provides links and other important references to get started.
@@ -39,7 +39,7 @@ public final class GettingStartedSection extends PreDefinedSection {
 
 	private final BulletedSection<SupportingInfrastructureElement> infrastructureElements;
 
-	GettingStartedSection(MustacheTemplateRenderer templateRenderer) {
+	GettingStartedSection(TemplateRenderer templateRenderer) {
 		super("Getting Started");
 		this.referenceDocs = new BulletedSection<>(templateRenderer,
 				"reference-documentation");
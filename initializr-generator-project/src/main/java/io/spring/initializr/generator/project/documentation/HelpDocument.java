@@ -22,7 +22,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
-import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.util.template.TemplateRenderer;
 
 /**
  * Project's help document intended to give additional references to the users. Contains a
@@ -33,7 +33,7 @@ import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
  */
 public class HelpDocument {
 
-	private final MustacheTemplateRenderer templateRenderer;
+	private final TemplateRenderer templateRenderer;
 
 	private final GettingStartedSection gettingStarted;
 
@@ -41,18 +41,17 @@ public class HelpDocument {
 
 	private final LinkedList<Section> sections = new LinkedList<>();
 
-	public HelpDocument(MustacheTemplateRenderer templateRenderer) {
+	public HelpDocument(TemplateRenderer templateRenderer) {
 		this.templateRenderer = templateRenderer;
 		this.gettingStarted = new GettingStartedSection(templateRenderer);
 		this.nextSteps = new PreDefinedSection("Next Steps");
 	}
 
 	/**
-	 * Return a {@link MustacheTemplateRenderer} that can be used to render additional
-	 * sections.
-	 * @return a {@link MustacheTemplateRenderer}
+	 * Return a {@link TemplateRenderer} that can be used to render additional sections.
+	 * @return a {@link TemplateRenderer}
 	 */
-	public MustacheTemplateRenderer getTemplateRenderer() {
+	public TemplateRenderer getTemplateRenderer() {
 		return this.templateRenderer;
 	}
 
@@ -74,12 +73,11 @@ public class HelpDocument {
 	}
 
 	public void write(PrintWriter writer) throws IOException {
-		LinkedList<Section> allSections = new LinkedList<>(this.sections);
-		allSections.addFirst(this.gettingStarted);
-		allSections.addLast(this.nextSteps);
-		for (Section section : allSections) {
+		this.gettingStarted.write(writer);
+		for (Section section : this.sections) {
 			section.write(writer);
 		}
+		this.nextSteps.write(writer);
 	}
 
 	public boolean isEmpty() {
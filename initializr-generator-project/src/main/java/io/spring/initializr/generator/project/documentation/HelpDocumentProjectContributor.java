@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 
 import io.spring.initializr.generator.ProjectContributor;
 
@@ -48,4 +50,9 @@ public class HelpDocumentProjectContributor implements ProjectContributor {
 		}
 	}
 
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton("HELP.md");
+	}
+
 }
@@ -17,32 +17,52 @@
 package io.spring.initializr.generator.project.documentation;
 
 import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.project.ListeningTemplateRenderer;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
 import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.util.template.TemplateRenderer;
 
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 
 /**
- * Configuration for contributions specific to the help documentation of a project.
+ * Configuration for contributions specific to the help documentation of a project. The
+ * {@link MustacheTemplateRenderer} used to render the help document is usually provided
+ * by the infrastructure using the {@value #TEMPLATE_RENDERER_BEAN_NAME} bean name, a
+ * renderer for {@code classpath:/documentation/help} is used otherwise.
  *
  * @author Stephane Nicoll
  */
 @ProjectGenerationConfiguration
 public class HelpDocumentProjectGenerationConfiguration {
 
+	/**
+	 * The name of the {@link MustacheTemplateRenderer} bean used to render the help
+	 * document.
+	 */
+	public static final String TEMPLATE_RENDERER_BEAN_NAME = "helpMustacheTemplateRenderer";
+
 	@Bean
 	public HelpDocumentProjectContributor helpDocumentProjectContributor(
 			ProjectDescription projectDescription,
-			ObjectProvider<HelpDocumentCustomizer> helpDocumentCustomizers) {
-		HelpDocument helpDocument = new HelpDocument(helpMustacheTemplateRenderer());
-		helpDocumentCustomizers.orderedStream()
-				.forEach((customizer) -> customizer.customize(helpDocument));
+			ObjectProvider<HelpDocumentCustomizer> helpDocumentCustomizers,
+			ObjectProvider<ProjectGenerationListener> listener, BeanFactory beanFactory) {
+		TemplateRenderer templateRenderer = getTemplateRenderer(beanFactory);
+		HelpDocument helpDocument = new HelpDocument(new ListeningTemplateRenderer(
+				templateRenderer, ProjectGenerationListener.from(listener)));
+		ProjectGenerationListener.invokeCustomizers(listener,
+				HelpDocumentCustomizer.class, helpDocumentCustomizers, helpDocument,
+				(customizer) -> customizer.customize(helpDocument));
 		return new HelpDocumentProjectContributor(helpDocument);
 	}
 
-	@Bean
-	public MustacheTemplateRenderer helpMustacheTemplateRenderer() {
+	private TemplateRenderer getTemplateRenderer(BeanFactory beanFactory) {
+		if (beanFactory.containsBean(TEMPLATE_RENDERER_BEAN_NAME)) {
+			return beanFactory.getBean(TEMPLATE_RENDERER_BEAN_NAME,
+					MustacheTemplateRenderer.class);
+		}
 		return new MustacheTemplateRenderer("classpath:/documentation/help");
 	}
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.documentation;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+import io.spring.initializr.generator.project.ProjectGenerationListener;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ProjectGenerationInitializer} for
+ * {@link HelpDocumentProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class HelpDocumentProjectGenerationInitializer
+		implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return HelpDocumentProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		ProjectDescription description = beanFactory.getBean(ProjectDescription.class);
+		HelpDocumentProjectGenerationConfiguration configuration = new HelpDocumentProjectGenerationConfiguration();
+		context.registerBean("helpDocumentProjectContributor",
+				HelpDocumentProjectContributor.class,
+				() -> configuration.helpDocumentProjectContributor(description,
+						beanFactory.getBeanProvider(HelpDocumentCustomizer.class),
+						beanFactory.getBeanProvider(ProjectGenerationListener.class),
+						beanFactory));
+	}
+
+}
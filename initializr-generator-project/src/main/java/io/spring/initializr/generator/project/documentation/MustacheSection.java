@@ -20,22 +20,22 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Map;
 
-import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.util.template.TemplateRenderer;
 
 /**
- * {@link Section} that uses a {@link MustacheTemplateRenderer}.
+ * {@link Section} that uses a {@link TemplateRenderer}.
  *
  * @author Madhura Bhave
  */
 public class MustacheSection implements Section {
 
-	private final MustacheTemplateRenderer templateRenderer;
+	private final TemplateRenderer templateRenderer;
 
 	private final String templateName;
 
 	private final Map<String, Object> model;
 
-	public MustacheSection(MustacheTemplateRenderer templateRenderer, String templateName,
+	public MustacheSection(TemplateRenderer templateRenderer, String templateName,
 			Map<String, Object> model) {
 		this.templateRenderer = templateRenderer;
 		this.templateName = templateName;
@@ -44,8 +44,8 @@ public class MustacheSection implements Section {
 
 	@Override
 	public void write(PrintWriter writer) throws IOException {
-		writer.println(this.templateRenderer.render(this.templateName,
-				resolveModel(this.model)));
+		this.templateRenderer.render(this.templateName, resolveModel(this.model), writer);
+		writer.println();
 	}
 
 	/**
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.scm.git;
+
+import io.spring.initializr.generator.project.ProjectGenerationInitializer;
+
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ProjectGenerationInitializer} for {@link GitProjectGenerationConfiguration}.
+ *
+ * @author Stephane Nicoll
+ */
+public class GitProjectGenerationInitializer implements ProjectGenerationInitializer {
+
+	@Override
+	public Class<?> getConfigurationClass() {
+		return GitProjectGenerationConfiguration.class;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		GitProjectGenerationConfiguration configuration = new GitProjectGenerationConfiguration();
+		context.registerBean("gitIgnoreContributor", GitIgnoreContributor.class,
+				configuration::gitIgnoreContributor);
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.List;
+
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.project.AggregatingProjectGenerationListener.Statistics;
+import io.spring.initializr.generator.project.build.BuildCustomizer;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AggregatingProjectGenerationListener}.
+ *
+ * @author Stephane Nicoll
+ */
+class AggregatingProjectGenerationListenerTests {
+
+	@Test
+	void statisticsAreComputedPerPhaseAndName() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		for (int i = 1; i <= 100; i++) {
+			listener.onPhaseCompleted(ProjectGenerationPhase.CONTRIBUTOR, "test", i);
+		}
+		listener.onPhaseCompleted(ProjectGenerationPhase.CUSTOMIZER, "test", 42);
+		List<Statistics> statistics = listener.getStatistics();
+		assertThat(statistics).hasSize(2);
+		Statistics contributor = statistics.get(0);
+		assertThat(contributor.getPhase()).isEqualTo(ProjectGenerationPhase.CONTRIBUTOR);
+		assertThat(contributor.getName()).isEqualTo("test");
+		assertThat(contributor.getCount()).isEqualTo(100);
+		assertThat(contributor.getTotal()).isEqualTo(5050);
+		assertThat(contributor.getP50()).isEqualTo(50);
+		assertThat(contributor.getP90()).isEqualTo(90);
+		assertThat(contributor.getP99()).isEqualTo(99);
+		assertThat(contributor.getMax()).isEqualTo(100);
+		Statistics customizer = statistics.get(1);
+		assertThat(customizer.getPhase()).isEqualTo(ProjectGenerationPhase.CUSTOMIZER);
+		assertThat(customizer.getP50()).isEqualTo(42);
+	}
+
+	@Test
+	void percentilesUseMostRecentSamples() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener(
+				2);
+		listener.onPhaseCompleted(ProjectGenerationPhase.GENERATION, "test", 1000);
+		listener.onPhaseCompleted(ProjectGenerationPhase.GENERATION, "test", 10);
+		listener.onPhaseCompleted(ProjectGenerationPhase.GENERATION, "test", 20);
+		Statistics statistics = listener.getStatistics().get(0);
+		assertThat(statistics.getCount()).isEqualTo(3);
+		assertThat(statistics.getP99()).isEqualTo(20);
+		assertThat(statistics.getMax()).isEqualTo(1000);
+	}
+
+	@Test
+	void timedReportsDurationUsingTargetClassName() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		listener.timed(ProjectGenerationPhase.CUSTOMIZER, this, () -> {
+		});
+		assertThat(listener.getStatistics()).hasSize(1);
+		assertThat(listener.getStatistics().get(0).getName())
+				.isEqualTo(getClass().getName());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void invokeCustomizersReportsMatchingCustomizers() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("listener", listener);
+		beanFactory.registerSingleton("maven", new MavenNameCustomizer());
+		beanFactory.registerSingleton("gradle", new GradleNameCustomizer());
+		ObjectProvider<BuildCustomizer<?>> customizers = beanFactory
+				.getBeanProvider(ResolvableType.forClass(BuildCustomizer.class));
+		MavenBuild build = new MavenBuild();
+		ProjectGenerationListener.invokeCustomizers(
+				beanFactory.getBeanProvider(ProjectGenerationListener.class),
+				BuildCustomizer.class, customizers, build,
+				(customizer) -> customizer.customize(build));
+		assertThat(build.getName()).isEqualTo("maven");
+		assertThat(listener.getStatistics()).hasSize(1);
+		assertThat(listener.getStatistics().get(0).getName())
+				.isEqualTo(MavenNameCustomizer.class.getName());
+	}
+
+	@Test
+	void invokeCustomizersWithoutListener() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("maven", new MavenNameCustomizer());
+		MavenBuild build = new MavenBuild();
+		ProjectGenerationListener.invokeCustomizers(
+				beanFactory.getBeanProvider(ProjectGenerationListener.class),
+				MavenNameCustomizer.class,
+				beanFactory.getBeanProvider(MavenNameCustomizer.class), build,
+				(customizer) -> customizer.customize(build));
+		assertThat(build.getName()).isEqualTo("maven");
+	}
+
+	@Test
+	void scrapeReportsDurationsInMilliseconds() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		listener.onPhaseCompleted(ProjectGenerationPhase.TEMPLATE_RENDER, "help",
+				1500000);
+		assertThat(listener.scrape()).isEqualTo(String.format(
+				"TEMPLATE_RENDER help count=1 total=%.3f p50=%.3f p90=%.3f p99=%.3f max=%.3f%n",
+				1.5, 1.5, 1.5, 1.5, 1.5).replace(System.lineSeparator(), "\n"));
+	}
+
+	@Test
+	void resetDiscardsSamples() {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		listener.onPhaseCompleted(ProjectGenerationPhase.GENERATION, "test", 10);
+		listener.reset();
+		assertThat(listener.getStatistics()).isEmpty();
+	}
+
+	static class MavenNameCustomizer implements BuildCustomizer<MavenBuild> {
+
+		@Override
+		public void customize(MavenBuild build) {
+			build.setName("maven");
+		}
+
+	}
+
+	static class GradleNameCustomizer implements BuildCustomizer<GradleBuild> {
+
+		@Override
+		public void customize(GradleBuild build) {
+			throw new IllegalStateException("Should not be invoked");
+		}
+
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.ProjectContributor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ProjectContributors}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ProjectContributorsTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void contributorsWithDisjointPathsAreInvokedConcurrently(@TempDir Path directory)
+			throws IOException {
+		CountDownLatch latch = new CountDownLatch(2);
+		ProjectContributor first = new TestProjectContributor(
+				(projectRoot) -> awaitConcurrentContributor(latch), "pom.xml");
+		ProjectContributor second = new TestProjectContributor(
+				(projectRoot) -> awaitConcurrentContributor(latch), "mvnw");
+		new ProjectContributors(Arrays.asList(first, second)).contribute(directory,
+				this.executor);
+		assertThat(latch.getCount()).isEqualTo(0);
+	}
+
+	@Test
+	void contributorsWithOverlappingPathsAreInvokedInOrder(@TempDir Path directory)
+			throws IOException {
+		ProjectContributor first = new TestProjectContributor((projectRoot) -> {
+			sleep();
+			append(projectRoot.resolve(".gitignore"), "first");
+		}, ".gitignore");
+		ProjectContributor second = new TestProjectContributor(
+				(projectRoot) -> append(projectRoot.resolve(".gitignore"), "second"),
+				".gitignore");
+		new ProjectContributors(Arrays.asList(first, second)).contribute(directory,
+				this.executor);
+		assertThat(Files.readAllLines(directory.resolve(".gitignore")))
+				.containsExactly("first", "second");
+	}
+
+	@Test
+	void contributorsWithNestedPathsAreInvokedInOrder(@TempDir Path directory)
+			throws IOException {
+		List<String> invocations = new CopyOnWriteArrayList<>();
+		ProjectContributor first = new TestProjectContributor((projectRoot) -> {
+			sleep();
+			invocations.add("first");
+		}, "src/main");
+		ProjectContributor second = new TestProjectContributor(
+				(projectRoot) -> invocations.add("second"), "src/main/java");
+		new ProjectContributors(Arrays.asList(first, second)).contribute(directory,
+				this.executor);
+		assertThat(invocations).containsExactly("first", "second");
+	}
+
+	@Test
+	void contributorWithUnknownPathsIsInvokedInOrder(@TempDir Path directory)
+			throws IOException {
+		List<String> invocations = new CopyOnWriteArrayList<>();
+		ProjectContributor first = (projectRoot) -> {
+			sleep();
+			invocations.add("first");
+		};
+		ProjectContributor second = new TestProjectContributor(
+				(projectRoot) -> invocations.add("second"), "pom.xml");
+		new ProjectContributors(Arrays.asList(first, second)).contribute(directory,
+				this.executor);
+		assertThat(invocations).containsExactly("first", "second");
+	}
+
+	@Test
+	void contributorFailureIsPropagated(@TempDir Path directory) {
+		IOException failure = new IOException("test");
+		ProjectContributor contributor = new TestProjectContributor((projectRoot) -> {
+			throw failure;
+		}, "pom.xml");
+		assertThatThrownBy(
+				() -> new ProjectContributors(Collections.singletonList(contributor))
+						.contribute(directory, this.executor)).isSameAs(failure);
+	}
+
+	private static void awaitConcurrentContributor(CountDownLatch latch)
+			throws IOException {
+		latch.countDown();
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IOException("Contributors were not invoked concurrently");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void append(Path file, String line) throws IOException {
+		Files.write(file, Collections.singletonList(line), StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(100);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class TestProjectContributor implements ProjectContributor {
+
+		private final ProjectContributor delegate;
+
+		private final Collection<String> paths;
+
+		TestProjectContributor(ProjectContributor delegate, String... paths) {
+			this.delegate = delegate;
+			this.paths = Arrays.asList(paths);
+		}
+
+		@Override
+		public void contribute(Path projectRoot) throws IOException {
+			this.delegate.contribute(projectRoot);
+		}
+
+		@Override
+		public Collection<String> getContributedPaths() {
+			return this.paths;
+		}
+
+	}
+
+}
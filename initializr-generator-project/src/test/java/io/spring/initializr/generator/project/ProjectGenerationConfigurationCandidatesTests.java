@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationConfigurationCandidates}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ProjectGenerationConfigurationCandidatesTests {
+
+	@Test
+	void getAllReturnsCandidatesInConfiguredOrder(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationCandidates candidates = createCandidates(directory,
+				"com.example.Web=dependency:web", "com.example.Core=");
+		assertThat(candidates.getAll()).containsExactly("com.example.Web",
+				"com.example.Core");
+	}
+
+	@Test
+	void selectWithoutRequestedDependencyIgnoresGatedCandidates(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationCandidates candidates = createCandidates(directory,
+				"com.example.Web=dependency:web", "com.example.Core=",
+				"com.example.Unindexed");
+		assertThat(candidates.select(new ProjectDescription()))
+				.containsExactly("com.example.Core", "com.example.Unindexed");
+	}
+
+	@Test
+	void selectWithRequestedDependencyKeepsConfiguredOrder(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationCandidates candidates = createCandidates(directory,
+				"com.example.Web=dependency:web", "com.example.Core=",
+				"com.example.Data=dependency:data", "com.example.WebMvc=dependency:web");
+		ProjectDescription description = new ProjectDescription();
+		addDependency(description, "web");
+		addDependency(description, "security");
+		assertThat(candidates.select(description)).containsExactly("com.example.Web",
+				"com.example.Core", "com.example.WebMvc");
+	}
+
+	@Test
+	void selectWithRequestedDependencyAppliesOtherConditions(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationCandidates candidates = createCandidates(directory,
+				"com.example.WebMaven=buildSystem:maven;dependency:web",
+				"com.example.WebGradle=buildSystem:gradle;dependency:web");
+		ProjectDescription description = new ProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem());
+		addDependency(description, "web");
+		assertThat(candidates.select(description))
+				.containsExactly("com.example.WebGradle");
+		description.setBuildSystem(new MavenBuildSystem());
+		assertThat(candidates.select(description))
+				.containsExactly("com.example.WebMaven");
+	}
+
+	private void addDependency(ProjectDescription description, String id) {
+		description.addDependency(id,
+				new Dependency("com.example", id, DependencyType.COMPILE));
+	}
+
+	private ProjectGenerationConfigurationCandidates createCandidates(Path directory,
+			String... entries) throws IOException {
+		Path index = directory
+				.resolve(ProjectGenerationConfigurationIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		StringBuilder content = new StringBuilder();
+		String[] classNames = new String[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			int separator = entries[i].indexOf('=');
+			classNames[i] = (separator != -1) ? entries[i].substring(0, separator)
+					: entries[i];
+			if (separator != -1) {
+				content.append(entries[i]).append('\n');
+			}
+		}
+		Files.write(index, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+		ClassLoader classLoader = new URLClassLoader(
+				new URL[] { directory.toUri().toURL() }, null);
+		return new ProjectGenerationConfigurationCandidates(Arrays.asList(classNames),
+				ProjectGenerationConfigurationIndex.load(classLoader));
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.project.build.gradle.GradleProjectGenerationConfiguration;
+import io.spring.initializr.generator.util.Version;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationConfigurationIndex}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ProjectGenerationConfigurationIndexTests {
+
+	@Test
+	void indexIsGeneratedForProjectGenerationConfigurations() {
+		ProjectGenerationConfigurationIndex index = ProjectGenerationConfigurationIndex
+				.load(getClass().getClassLoader());
+		String className = GradleProjectGenerationConfiguration.class.getName();
+		ProjectDescription description = new ProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem());
+		assertThat(index.isCandidate(className, description)).isTrue();
+		description.setBuildSystem(new MavenBuildSystem());
+		assertThat(index.isCandidate(className, description)).isFalse();
+	}
+
+	@Test
+	void unknownClassIsCandidate(@TempDir Path directory) throws IOException {
+		ProjectGenerationConfigurationIndex index = load(directory,
+				"com.example.First=dependency:web");
+		assertThat(index.isCandidate("com.example.Second", new ProjectDescription()))
+				.isTrue();
+	}
+
+	@Test
+	void classWithoutConditionIsCandidate(@TempDir Path directory) throws IOException {
+		ProjectGenerationConfigurationIndex index = load(directory, "com.example.First=");
+		assertThat(index.isCandidate("com.example.First", new ProjectDescription()))
+				.isTrue();
+	}
+
+	@Test
+	void classWithDependencyCondition(@TempDir Path directory) throws IOException {
+		ProjectGenerationConfigurationIndex index = load(directory,
+				"com.example.First=dependency:web");
+		ProjectDescription description = new ProjectDescription();
+		assertThat(index.isCandidate("com.example.First", description)).isFalse();
+		description.addDependency("web", new Dependency("org.springframework.boot",
+				"spring-boot-starter-web", DependencyType.COMPILE));
+		assertThat(index.isCandidate("com.example.First", description)).isTrue();
+	}
+
+	@Test
+	void classWithSeveralConditionsMustMatchAll(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationIndex index = load(directory,
+				"com.example.First=language:java;platformVersion:[2.0.0.RELEASE,2.1.0.M1)");
+		ProjectDescription description = new ProjectDescription();
+		description.setLanguage(new JavaLanguage());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		assertThat(index.isCandidate("com.example.First", description)).isFalse();
+		description.setPlatformVersion(Version.parse("2.0.5.RELEASE"));
+		assertThat(index.isCandidate("com.example.First", description)).isTrue();
+	}
+
+	@Test
+	void classWithConditionThatCannotBeEvaluatedIsCandidate(@TempDir Path directory)
+			throws IOException {
+		ProjectGenerationConfigurationIndex index = load(directory,
+				"com.example.First=language:unknown");
+		ProjectDescription description = new ProjectDescription();
+		description.setLanguage(new JavaLanguage());
+		assertThat(index.isCandidate("com.example.First", description)).isTrue();
+	}
+
+	private ProjectGenerationConfigurationIndex load(Path directory, String content)
+			throws IOException {
+		Path index = directory
+				.resolve(ProjectGenerationConfigurationIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		Files.write(index, content.getBytes(StandardCharsets.ISO_8859_1));
+		return ProjectGenerationConfigurationIndex
+				.load(new URLClassLoader(new URL[] { directory.toUri().toURL() }, null));
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.Collections;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.util.Version;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationPlanCache}.
+ *
+ * @author Stephane Nicoll
+ */
+class ProjectGenerationPlanCacheTests {
+
+	@Test
+	void planIsReturnedForDescriptionWithSameShape() {
+		ProjectGenerationPlanCache cache = new ProjectGenerationPlanCache(10);
+		ProjectGenerationPlan plan = emptyPlan();
+		ProjectDescription first = createDescription(new MavenBuildSystem(), "web",
+				"data-jpa");
+		first.setGroupId("com.example");
+		cache.put(first, plan);
+		ProjectDescription second = createDescription(new MavenBuildSystem(), "data-jpa",
+				"web");
+		second.setGroupId("org.acme");
+		assertThat(cache.get(second)).isSameAs(plan);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(0);
+	}
+
+	@Test
+	void planIsNotReturnedForDescriptionWithDifferentShape() {
+		ProjectGenerationPlanCache cache = new ProjectGenerationPlanCache(10);
+		cache.put(createDescription(new MavenBuildSystem(), "web"), emptyPlan());
+		assertThat(cache.get(createDescription(new GradleBuildSystem(), "web"))).isNull();
+		assertThat(cache.get(createDescription(new MavenBuildSystem(), "web", "jdbc")))
+				.isNull();
+		ProjectDescription description = createDescription(new MavenBuildSystem(), "web");
+		description.setPlatformVersion(Version.parse("2.0.6.RELEASE"));
+		assertThat(cache.get(description)).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(0);
+		assertThat(cache.getMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	void leastRecentlyUsedPlanIsEvicted() {
+		ProjectGenerationPlanCache cache = new ProjectGenerationPlanCache(2);
+		ProjectDescription web = createDescription(new MavenBuildSystem(), "web");
+		ProjectDescription jdbc = createDescription(new MavenBuildSystem(), "jdbc");
+		ProjectDescription jpa = createDescription(new MavenBuildSystem(), "data-jpa");
+		cache.put(web, emptyPlan());
+		cache.put(jdbc, emptyPlan());
+		cache.get(web);
+		cache.put(jpa, emptyPlan());
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(jdbc)).isNull();
+		assertThat(cache.get(web)).isNotNull();
+		assertThat(cache.get(jpa)).isNotNull();
+	}
+
+	private ProjectDescription createDescription(BuildSystem buildSystem,
+			String... dependencies) {
+		ProjectDescription description = new ProjectDescription();
+		description.setBuildSystem(buildSystem);
+		description.setLanguage(new JavaLanguage());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		for (String dependency : dependencies) {
+			description.addDependency(dependency,
+					new Dependency("com.example", dependency, DependencyType.COMPILE));
+		}
+		return description;
+	}
+
+	private ProjectGenerationPlan emptyPlan() {
+		return new ProjectGenerationPlan(Collections.emptyMap());
+	}
+
+}
@@ -16,33 +16,69 @@
 
 package io.spring.initializr.generator.project;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import io.spring.initializr.generator.ProjectContributor;
 import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.BuildSystem;
 import io.spring.initializr.generator.buildsystem.Dependency;
 import io.spring.initializr.generator.buildsystem.DependencyType;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.io.memory.InMemoryFileSystem;
+import io.spring.initializr.generator.language.Language;
+import io.spring.initializr.generator.language.groovy.GroovyLanguage;
 import io.spring.initializr.generator.language.java.JavaLanguage;
 import io.spring.initializr.generator.language.kotlin.KotlinLanguage;
+import io.spring.initializr.generator.packaging.Packaging;
+import io.spring.initializr.generator.packaging.jar.JarPackaging;
 import io.spring.initializr.generator.packaging.war.WarPackaging;
+import io.spring.initializr.generator.project.archive.ZipProjectArchiver;
+import io.spring.initializr.generator.project.build.maven.MavenBuildProjectContributor;
+import io.spring.initializr.generator.project.build.maven.MavenProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.code.java.JavaProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.documentation.HelpDocumentCustomizer;
 import io.spring.initializr.generator.util.Version;
+import io.spring.initializr.generator.util.template.MustacheTemplateRenderer;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junitpioneer.jupiter.TempDirectory;
 import org.junitpioneer.jupiter.TempDirectory.TempDir;
 
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.io.support.SpringFactoriesLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ProjectGenerator}.
@@ -53,18 +89,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ExtendWith(TempDirectory.class)
 class ProjectGeneratorTests {
 
+	private final Consumer<AnnotationConfigApplicationContext> projectGenerationContext;
+
 	private final ProjectGenerator projectGenerator;
 
 	ProjectGeneratorTests(@TempDir Path directory) {
 		StaticApplicationContext parentContext = new StaticApplicationContext();
 		parentContext.refresh();
-		this.projectGenerator = new ProjectGenerator((projectGenerationContext) -> {
+		this.projectGenerationContext = (projectGenerationContext) -> {
 			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
 			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
 					() -> (description) -> Files.createTempDirectory(directory,
 							"project-"));
 			projectGenerationContext.setParent(parentContext);
-		});
+		};
+		this.projectGenerator = new ProjectGenerator(this.projectGenerationContext);
 	}
 
 	@Test
@@ -377,12 +416,550 @@ class ProjectGeneratorTests {
 				"test/demo-app/src/test/java/com/example/DemoApplicationTests.java");
 	}
 
+	@Test
+	void helpDocumentIsRenderedWithHelpTemplateRendererWhenOtherRenderersAreAvailable()
+			throws IOException {
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			this.projectGenerationContext.accept(projectGenerationContext);
+			projectGenerationContext.registerBean("customTemplateRenderer",
+					MustacheTemplateRenderer.class,
+					() -> new MustacheTemplateRenderer("classpath:/does-not-exist"));
+			projectGenerationContext.registerBean(HelpDocumentCustomizer.class,
+					() -> (helpDocument) -> helpDocument.gettingStarted()
+							.addGuideLink("https://example.com/guide", "Test guide"));
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		Path project = generator.generate(description);
+		assertThat(new String(Files.readAllBytes(project.resolve("HELP.md")),
+				StandardCharsets.UTF_8))
+						.contains("[Test guide](https://example.com/guide)");
+	}
+
+	@Test
+	void generateWithSharedParentContext(@TempDir Path directory) throws IOException {
+		try (AnnotationConfigApplicationContext parentContext = new AnnotationConfigApplicationContext(
+				ProjectGeneratorDefaultConfiguration.class)) {
+			ProjectGenerator generator = new ProjectGenerator(parentContext,
+					(projectGenerationContext) -> projectGenerationContext.registerBean(
+							ProjectDirectoryFactory.class, () -> (description) -> Files
+									.createTempDirectory(directory, "project-")));
+			ProjectDescription description = initProjectDescription();
+			description.setBuildSystem(new MavenBuildSystem());
+			description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+			description.setLanguage(new KotlinLanguage());
+			description.setGroupId("com.example");
+			Path first = generator.generate(description);
+			Path second = generator.generate(description);
+			assertThat(getRelativePathsOfProjectFiles(second))
+					.containsExactlyInAnyOrderElementsOf(
+							getRelativePathsOfProjectFiles(first));
+			assertThat(Files.readAllLines(second.resolve("pom.xml")))
+					.contains("        <kotlin.version>1.2.70</kotlin.version>");
+		}
+	}
+
+	@Test
+	void generateWithPlanCacheReusesPlanOfDescriptionWithSameShape() throws IOException {
+		ProjectGenerationPlanCache planCache = new ProjectGenerationPlanCache(10);
+		this.projectGenerator.setPlanCache(planCache);
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setPackaging(new WarPackaging());
+		description.setGroupId("com.example");
+		Path first = this.projectGenerator.generate(description);
+		Path second = this.projectGenerator.generate(description);
+		assertThat(planCache.getMissCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isEqualTo(1);
+		assertThat(getRelativePathsOfProjectFiles(second))
+				.containsExactlyInAnyOrderElementsOf(
+						getRelativePathsOfProjectFiles(first));
+		assertThat(Files.readAllLines(second.resolve("build.gradle")))
+				.isEqualTo(Files.readAllLines(first.resolve("build.gradle")));
+	}
+
+	@Test
+	void generateWithPlanCacheDoesNotReusePlanOfDescriptionWithDifferentShape()
+			throws IOException {
+		ProjectGenerationPlanCache planCache = new ProjectGenerationPlanCache(10);
+		this.projectGenerator.setPlanCache(planCache);
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		this.projectGenerator.generate(description);
+		description.setBuildSystem(new MavenBuildSystem());
+		Path project = this.projectGenerator.generate(description);
+		assertThat(planCache.getMissCount()).isEqualTo(2);
+		assertThat(planCache.size()).isEqualTo(2);
+		assertThat(getRelativePathsOfProjectFiles(project)).contains("pom.xml")
+				.doesNotContain("build.gradle");
+	}
+
+	@Test
+	void generateWithFunctionalRegistrationGeneratesSameProjects() throws IOException {
+		ProjectGenerator functionalGenerator = new ProjectGenerator(
+				this.projectGenerationContext);
+		functionalGenerator.setFunctionalRegistration(true);
+		functionalGenerator.setPlanCache(new ProjectGenerationPlanCache(32));
+		for (String platformVersion : Arrays.asList("1.5.17.RELEASE", "2.1.0.RELEASE")) {
+			for (BuildSystem buildSystem : Arrays.asList(new MavenBuildSystem(),
+					new GradleBuildSystem())) {
+				for (Language language : Arrays.asList(new JavaLanguage(),
+						new KotlinLanguage(), new GroovyLanguage())) {
+					for (Packaging packaging : Arrays.asList(new JarPackaging(),
+							new WarPackaging())) {
+						ProjectDescription description = initProjectDescription();
+						description.setPlatformVersion(Version.parse(platformVersion));
+						description.setBuildSystem(buildSystem);
+						description.setLanguage(language);
+						description.setPackaging(packaging);
+						description.setGroupId("com.example");
+						description.setArtifactId("demo");
+						description.setJavaVersion("1.8");
+						description.addDependency("acme", new Dependency("com.example",
+								"acme", DependencyType.COMPILE));
+						description.addDependency("acme-test", new Dependency(
+								"com.example", "acme-test", DependencyType.TEST_COMPILE));
+						Path expected = this.projectGenerator.generate(description);
+						assertSameProject(functionalGenerator.generate(description),
+								expected);
+						assertSameProject(functionalGenerator.generate(description),
+								expected);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void generateWithFunctionalRegistrationDoesNotProcessConfigurationClasses()
+			throws IOException {
+		List<String> beanNames = new ArrayList<>();
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			this.projectGenerationContext.accept(projectGenerationContext);
+			projectGenerationContext
+					.addBeanFactoryPostProcessor((beanFactory) -> beanNames
+							.addAll(Arrays.asList(beanFactory.getBeanDefinitionNames())));
+		});
+		generator.setFunctionalRegistration(true);
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		generator.generate(description);
+		assertThat(beanNames)
+				.contains("mavenBuild", "mainJavaSourceCodeProjectContributor")
+				.doesNotContain(MavenProjectGenerationConfiguration.class.getName(),
+						JavaProjectGenerationConfiguration.class.getName());
+	}
+
+	@Test
+	void generateWithContributorExecutor() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			this.projectGenerator.setContributorExecutor(executor);
+			ProjectDescription description = initProjectDescription();
+			description.setBuildSystem(new MavenBuildSystem());
+			description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+			description.setLanguage(new JavaLanguage());
+			description.setGroupId("com.example");
+			description.setBaseDirectory("test/demo-app");
+			Path project = this.projectGenerator.generate(description);
+			List<String> relativePaths = getRelativePathsOfProjectFiles(project);
+			assertThat(relativePaths).containsOnly("test/demo-app/.gitignore",
+					"test/demo-app/pom.xml", "test/demo-app/mvnw",
+					"test/demo-app/mvnw.cmd",
+					"test/demo-app/.mvn/wrapper/MavenWrapperDownloader.java",
+					"test/demo-app/.mvn/wrapper/maven-wrapper.properties",
+					"test/demo-app/.mvn/wrapper/maven-wrapper.jar",
+					"test/demo-app/src/main/java/com/example/DemoApplication.java",
+					"test/demo-app/src/main/resources/application.properties",
+					"test/demo-app/src/test/java/com/example/DemoApplicationTests.java");
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void generateArchiveKeepsWrapperExecutableAndDeletesProjectDirectory(
+			@TempDir Path directory) throws IOException {
+		Path projectsDirectory = Files.createTempDirectory(directory, "archive-");
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> Files.createTempDirectory(projectsDirectory,
+							"project-"));
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		generator.generate(description, new ZipProjectArchiver(), out);
+		Map<String, Integer> unixModes = new HashMap<>();
+		try (ZipFile zip = new ZipFile(
+				new SeekableInMemoryByteChannel(out.toByteArray()))) {
+			for (ZipArchiveEntry entry : Collections.list(zip.getEntries())) {
+				unixModes.put(entry.getName(), entry.getUnixMode());
+			}
+		}
+		assertThat(unixModes).containsEntry("mvnw", 0100755)
+				.containsEntry("mvnw.cmd", 0100755).containsEntry("pom.xml", 0100644)
+				.containsKey("src/main/java/com/example/DemoApplication.java");
+		try (Stream<Path> projects = Files.list(projectsDirectory)) {
+			assertThat(projects).isEmpty();
+		}
+	}
+
+	@Test
+	void generateWithInMemoryProjectDirectory() throws IOException {
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					InMemoryProjectDirectoryFactory::new);
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		Path project = generator.generate(description);
+		try {
+			assertThat(project.getFileSystem()).isInstanceOf(InMemoryFileSystem.class);
+			assertThat(getRelativePathsOfProjectFiles(project)).contains("pom.xml",
+					"mvnw", "src/main/java/com/example/DemoApplication.java");
+			assertThat(Files.isExecutable(project.resolve("mvnw"))).isTrue();
+		}
+		finally {
+			project.getFileSystem().close();
+		}
+	}
+
+	@Test
+	void generateArchiveWithInMemoryProjectDirectoryClosesFileSystem()
+			throws IOException {
+		List<Path> projects = new ArrayList<>();
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> {
+						Path project = new InMemoryProjectDirectoryFactory()
+								.createProjectDirectory(description);
+						projects.add(project);
+						return project;
+					});
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		generator.generate(description, new ZipProjectArchiver(), out);
+		Map<String, Integer> unixModes = new HashMap<>();
+		try (ZipFile zip = new ZipFile(
+				new SeekableInMemoryByteChannel(out.toByteArray()))) {
+			for (ZipArchiveEntry entry : Collections.list(zip.getEntries())) {
+				unixModes.put(entry.getName(), entry.getUnixMode());
+			}
+		}
+		assertThat(unixModes).containsEntry("mvnw", 0100755).containsEntry("pom.xml",
+				0100644);
+		assertThat(projects).hasSize(1);
+		assertThat(projects.get(0).getFileSystem().isOpen()).isFalse();
+	}
+
+	@Test
+	void generateWithFailingContributorClosesInMemoryFileSystem() {
+		List<Path> projects = new ArrayList<>();
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> {
+						Path project = new InMemoryProjectDirectoryFactory()
+								.createProjectDirectory(description);
+						projects.add(project);
+						return project;
+					});
+			projectGenerationContext.registerBean("failingContributor",
+					ProjectContributor.class, () -> (projectRoot) -> {
+						throw new IOException("Test failure");
+					});
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		assertThatIOException().isThrownBy(() -> generator.generate(description))
+				.withMessage("Test failure");
+		assertThat(projects).hasSize(1);
+		assertThat(projects.get(0).getFileSystem().isOpen()).isFalse();
+	}
+
+	@Test
+	void generateWithFailingContributorDeletesProjectDirectory(@TempDir Path directory) {
+		List<Path> projects = new ArrayList<>();
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> {
+						Path project = Files.createTempDirectory(directory, "project-");
+						projects.add(project);
+						return project;
+					});
+			projectGenerationContext.registerBean("failingContributor",
+					ProjectContributor.class, () -> (projectRoot) -> {
+						throw new IllegalStateException("Test failure");
+					});
+		});
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> generator.generate(description))
+				.withMessage("Test failure");
+		assertThat(projects).hasSize(1);
+		assertThat(projects.get(0)).doesNotExist();
+	}
+
+	@Test
+	void generateAllReportsEachProjectAndFailures() throws IOException {
+		ProjectGenerator generator = new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> {
+						if ("invalid".equals(description.getArtifactId())) {
+							throw new IOException("Test failure");
+						}
+						return new InMemoryProjectDirectoryFactory()
+								.createProjectDirectory(description);
+					});
+		});
+		List<ProjectDescription> descriptions = new ArrayList<>();
+		for (String artifactId : Arrays.asList("first", "invalid", "second", "third")) {
+			ProjectDescription description = initProjectDescription();
+			description.setBuildSystem(new MavenBuildSystem());
+			description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+			description.setLanguage(new JavaLanguage());
+			description.setGroupId("com.example");
+			description.setArtifactId(artifactId);
+			descriptions.add(description);
+		}
+		Map<String, String> poms = new ConcurrentHashMap<>();
+		Map<String, Exception> failures = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			generator.generateAll(descriptions, new ProjectGenerationSink() {
+
+				@Override
+				public void onGenerated(ProjectDescription description, Path projectRoot)
+						throws IOException {
+					try (FileSystem fileSystem = projectRoot.getFileSystem()) {
+						poms.put(description.getArtifactId(),
+								new String(
+										Files.readAllBytes(
+												projectRoot.resolve("pom.xml")),
+										StandardCharsets.UTF_8));
+					}
+				}
+
+				@Override
+				public void onFailure(ProjectDescription description, Exception failure) {
+					failures.put(description.getArtifactId(), failure);
+				}
+
+			}, executor);
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(poms).containsOnlyKeys("first", "second", "third");
+		poms.forEach((artifactId, pom) -> assertThat(pom)
+				.contains("<artifactId>" + artifactId + "</artifactId>"));
+		assertThat(failures).containsOnlyKeys("invalid");
+		assertThat(failures.get("invalid")).hasMessage("Test failure");
+	}
+
+	@Test
+	void generateAllReportsRejectedGenerationsAndGeneratesOtherProjects() {
+		List<Path> projects = new CopyOnWriteArrayList<>();
+		ProjectGenerator generator = createInMemoryProjectGenerator(projects);
+		List<ProjectDescription> descriptions = createMavenProjectDescriptions("first",
+				"rejected", "second");
+		List<String> generated = new CopyOnWriteArrayList<>();
+		Map<String, Exception> failures = new ConcurrentHashMap<>();
+		AtomicInteger submissions = new AtomicInteger();
+		generator.generateAll(descriptions, new ProjectGenerationSink() {
+
+			@Override
+			public void onGenerated(ProjectDescription description, Path projectRoot)
+					throws IOException {
+				projectRoot.getFileSystem().close();
+				generated.add(description.getArtifactId());
+			}
+
+			@Override
+			public void onFailure(ProjectDescription description, Exception failure) {
+				failures.put(description.getArtifactId(), failure);
+			}
+
+		}, (task) -> {
+			if (submissions.incrementAndGet() == 2) {
+				throw new RejectedExecutionException("Test rejection");
+			}
+			task.run();
+		});
+		assertThat(generated).containsExactly("first", "second");
+		assertThat(failures).containsOnlyKeys("rejected");
+		assertThat(failures.get("rejected"))
+				.isInstanceOf(RejectedExecutionException.class);
+		assertThat(projects).hasSize(2);
+	}
+
+	@Test
+	void generateAllWithFailingSinkReleasesProjectAndGeneratesOtherProjects() {
+		List<Path> projects = new CopyOnWriteArrayList<>();
+		ProjectGenerator generator = createInMemoryProjectGenerator(projects);
+		List<ProjectDescription> descriptions = createMavenProjectDescriptions("first",
+				"invalid", "second");
+		List<String> generated = new CopyOnWriteArrayList<>();
+		Map<String, Exception> failures = new ConcurrentHashMap<>();
+		assertThatIllegalStateException().isThrownBy(
+				() -> generator.generateAll(descriptions, new ProjectGenerationSink() {
+
+					@Override
+					public void onGenerated(ProjectDescription description,
+							Path projectRoot) throws IOException {
+						if ("invalid".equals(description.getArtifactId())) {
+							throw new IOException("Test failure");
+						}
+						projectRoot.getFileSystem().close();
+						generated.add(description.getArtifactId());
+					}
+
+					@Override
+					public void onFailure(ProjectDescription description,
+							Exception failure) {
+						failures.put(description.getArtifactId(), failure);
+					}
+
+				})).withCauseInstanceOf(IOException.class);
+		assertThat(generated).containsExactly("first", "second");
+		assertThat(failures).isEmpty();
+		assertThat(projects).hasSize(3);
+		assertThat(projects).allSatisfy(
+				(project) -> assertThat(project.getFileSystem().isOpen()).isFalse());
+	}
+
+	@Test
+	void listenerIsNotifiedOfEachGenerationPhase() throws IOException {
+		AggregatingProjectGenerationListener listener = new AggregatingProjectGenerationListener();
+		this.projectGenerator.setListener(listener);
+		ProjectDescription description = initProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		this.projectGenerator.generate(description);
+		List<AggregatingProjectGenerationListener.Statistics> statistics = listener
+				.getStatistics();
+		assertThat(statistics)
+				.extracting(AggregatingProjectGenerationListener.Statistics::getPhase)
+				.contains(ProjectGenerationPhase.GENERATION,
+						ProjectGenerationPhase.CONTEXT_REFRESH,
+						ProjectGenerationPhase.CONTRIBUTOR,
+						ProjectGenerationPhase.CUSTOMIZER);
+		assertThat(statistics).filteredOn(
+				(element) -> element.getPhase() == ProjectGenerationPhase.GENERATION)
+				.hasSize(1)
+				.allSatisfy((element) -> assertThat(element.getCount()).isEqualTo(1));
+		assertThat(statistics)
+				.extracting(AggregatingProjectGenerationListener.Statistics::getName)
+				.contains(MavenBuildProjectContributor.class.getName());
+	}
+
+	@Test
+	void generationConfigurationsAreLoadedUsingTheBeanClassLoader(@TempDir Path directory)
+			throws IOException {
+		Path springFactories = Files.write(directory.resolve("spring.factories"),
+				Collections.singletonList(ProjectGenerationConfiguration.class.getName()
+						+ "=com.example.TestConfiguration"));
+		ProjectGenerator.ProjectGenerationImportSelector selector = new ProjectGenerator.ProjectGenerationImportSelector();
+		selector.setBeanClassLoader(new ClassLoader(getClass().getClassLoader()) {
+
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+					return Collections.enumeration(
+							Collections.singleton(springFactories.toUri().toURL()));
+				}
+				return super.getResources(name);
+			}
+
+		});
+		assertThat(selector.selectImports(null))
+				.containsExactly("com.example.TestConfiguration");
+	}
+
+	private ProjectGenerator createInMemoryProjectGenerator(List<Path> projects) {
+		return new ProjectGenerator((projectGenerationContext) -> {
+			projectGenerationContext.register(ProjectGeneratorDefaultConfiguration.class);
+			projectGenerationContext.registerBean(ProjectDirectoryFactory.class,
+					() -> (description) -> {
+						Path project = new InMemoryProjectDirectoryFactory()
+								.createProjectDirectory(description);
+						projects.add(project);
+						return project;
+					});
+		});
+	}
+
+	private List<ProjectDescription> createMavenProjectDescriptions(
+			String... artifactIds) {
+		List<ProjectDescription> descriptions = new ArrayList<>();
+		for (String artifactId : artifactIds) {
+			ProjectDescription description = initProjectDescription();
+			description.setBuildSystem(new MavenBuildSystem());
+			description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+			description.setLanguage(new JavaLanguage());
+			description.setGroupId("com.example");
+			description.setArtifactId(artifactId);
+			descriptions.add(description);
+		}
+		return descriptions;
+	}
+
 	private ProjectDescription initProjectDescription() {
 		ProjectDescription description = new ProjectDescription();
 		description.setApplicationName("DemoApplication");
 		return description;
 	}
 
+	private void assertSameProject(Path actual, Path expected) throws IOException {
+		List<String> relativePaths = getRelativePathsOfProjectFiles(expected);
+		assertThat(getRelativePathsOfProjectFiles(actual))
+				.containsExactlyInAnyOrderElementsOf(relativePaths);
+		for (String relativePath : relativePaths) {
+			assertThat(actual.resolve(relativePath)).as(relativePath)
+					.hasBinaryContent(Files.readAllBytes(expected.resolve(relativePath)));
+		}
+	}
+
 	private List<String> getRelativePathsOfProjectFiles(Path project) throws IOException {
 		List<String> relativePaths = new ArrayList<>();
 		Files.walkFileTree(project, new SimpleFileVisitor<Path>() {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.util.Version;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachingProjectArchiveGenerator}.
+ *
+ * @author Stephane Nicoll
+ */
+class CachingProjectArchiveGeneratorTests {
+
+	private final AtomicInteger generations = new AtomicInteger();
+
+	private final ProjectArchiveGenerator delegate = (
+			description) -> new byte[] { (byte) this.generations.incrementAndGet() };
+
+	private final InMemoryProjectArchiveCache cache = new InMemoryProjectArchiveCache(
+			1024);
+
+	@Test
+	void identicalDescriptionIsGeneratedOnce() throws IOException {
+		CachingProjectArchiveGenerator generator = new CachingProjectArchiveGenerator(
+				this.delegate, this.cache, "test");
+		byte[] first = generator.generate(createDescription("demo"));
+		byte[] second = generator.generate(createDescription("demo"));
+		byte[] third = generator.generate(createDescription("another"));
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotEqualTo(first);
+		assertThat(this.generations).hasValue(2);
+	}
+
+	@Test
+	void changeOfFingerprintInvalidatesCachedArchives() throws IOException {
+		new CachingProjectArchiveGenerator(this.delegate, this.cache, "v1")
+				.generate(createDescription("demo"));
+		new CachingProjectArchiveGenerator(this.delegate, this.cache, "v2")
+				.generate(createDescription("demo"));
+		assertThat(this.generations).hasValue(2);
+	}
+
+	private ProjectDescription createDescription(String artifactId) {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setArtifactId(artifactId);
+		return description;
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.project.archive.CoalescingProjectArchiveGenerator.FanOut;
+import io.spring.initializr.generator.util.Version;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CoalescingProjectArchiveGenerator}.
+ *
+ * @author Stephane Nicoll
+ */
+class CoalescingProjectArchiveGeneratorTests {
+
+	private static final int REQUESTS = 4;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+
+	private final AtomicInteger generations = new AtomicInteger();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.release.countDown();
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentIdenticalRequestsShareGeneration() throws Exception {
+		CoalescingProjectArchiveGenerator generator = new CoalescingProjectArchiveGenerator(
+				blockingGenerator(null));
+		List<byte[]> archives = generateConcurrently(generator);
+		assertThat(this.generations).hasValue(1);
+		assertThat(generator.getRequestCount()).isEqualTo(REQUESTS);
+		assertThat(generator.getCoalescedCount()).isEqualTo(REQUESTS - 1);
+		for (byte[] archive : archives) {
+			assertThat(archive).isSameAs(archives.get(0));
+		}
+	}
+
+	@Test
+	void concurrentIdenticalRequestsWithCopyFanOutReceiveDistinctArchives()
+			throws Exception {
+		CoalescingProjectArchiveGenerator generator = new CoalescingProjectArchiveGenerator(
+				blockingGenerator(null), FanOut.COPY);
+		List<byte[]> archives = generateConcurrently(generator);
+		assertThat(this.generations).hasValue(1);
+		for (int i = 1; i < archives.size(); i++) {
+			assertThat(archives.get(i)).isEqualTo(archives.get(0))
+					.isNotSameAs(archives.get(0));
+		}
+	}
+
+	@Test
+	void failureIsReportedToAllCoalescedRequests() throws Exception {
+		CoalescingProjectArchiveGenerator generator = new CoalescingProjectArchiveGenerator(
+				blockingGenerator(new IOException("Test failure")));
+		List<Future<byte[]>> requests = submitConcurrently(generator);
+		this.release.countDown();
+		for (Future<byte[]> request : requests) {
+			assertThatThrownBy(request::get).isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(IOException.class)
+					.hasStackTraceContaining("Test failure");
+		}
+		assertThat(this.generations).hasValue(1);
+	}
+
+	@Test
+	void runtimeFailureIsWrappedForEachCoalescedRequest() throws Exception {
+		IllegalArgumentException failure = new IllegalArgumentException("Test failure");
+		CoalescingProjectArchiveGenerator generator = new CoalescingProjectArchiveGenerator(
+				blockingGenerator(failure));
+		List<Future<byte[]>> requests = submitConcurrently(generator);
+		this.release.countDown();
+		List<Throwable> failures = new ArrayList<>();
+		for (Future<byte[]> request : requests) {
+			assertThatThrownBy(request::get).isInstanceOf(ExecutionException.class)
+					.satisfies((ex) -> failures.add(ex.getCause()));
+		}
+		assertThat(failures).filteredOn((ex) -> ex == failure).hasSize(1);
+		assertThat(failures).filteredOn((ex) -> ex != failure).hasSize(REQUESTS - 1)
+				.doesNotHaveDuplicates().allSatisfy(
+						(ex) -> assertThat(ex).isInstanceOf(IllegalStateException.class)
+								.hasMessage("Test failure").hasCause(failure));
+	}
+
+	@Test
+	void sequentialRequestsAreNotCoalesced() throws IOException {
+		this.release.countDown();
+		CoalescingProjectArchiveGenerator generator = new CoalescingProjectArchiveGenerator(
+				blockingGenerator(null));
+		generator.generate(createDescription());
+		generator.generate(createDescription());
+		assertThat(this.generations).hasValue(2);
+		assertThat(generator.getCoalescedCount()).isZero();
+	}
+
+	private List<byte[]> generateConcurrently(CoalescingProjectArchiveGenerator generator)
+			throws Exception {
+		List<Future<byte[]>> requests = submitConcurrently(generator);
+		this.release.countDown();
+		List<byte[]> archives = new ArrayList<>();
+		for (Future<byte[]> request : requests) {
+			archives.add(request.get(10, TimeUnit.SECONDS));
+		}
+		return archives;
+	}
+
+	private List<Future<byte[]>> submitConcurrently(
+			CoalescingProjectArchiveGenerator generator) throws InterruptedException {
+		List<Future<byte[]>> requests = new ArrayList<>();
+		for (int i = 0; i < REQUESTS; i++) {
+			requests.add(
+					this.executor.submit(() -> generator.generate(createDescription())));
+		}
+		long deadline = System.currentTimeMillis() + 10000;
+		while (generator.getCoalescedCount() < REQUESTS - 1
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		return requests;
+	}
+
+	private ProjectArchiveGenerator blockingGenerator(Exception failure) {
+		return (description) -> {
+			this.generations.incrementAndGet();
+			try {
+				this.release.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure instanceof IOException) {
+				throw (IOException) failure;
+			}
+			if (failure != null) {
+				throw (RuntimeException) failure;
+			}
+			return new byte[] { 1, 2, 3 };
+		};
+	}
+
+	private ProjectDescription createDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setArtifactId("demo");
+		return description;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InMemoryProjectArchiveCache}.
+ *
+ * @author Stephane Nicoll
+ */
+class InMemoryProjectArchiveCacheTests {
+
+	@Test
+	void getArchiveThatIsCached() {
+		InMemoryProjectArchiveCache cache = new InMemoryProjectArchiveCache(100);
+		byte[] archive = new byte[10];
+		cache.put("test", archive);
+		assertThat(cache.get("test")).isSameAs(archive);
+		assertThat(cache.get("another")).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getWeight()).isEqualTo(10);
+	}
+
+	@Test
+	void leastRecentlyUsedArchivesAreEvictedWhenMaximumWeightIsReached() {
+		InMemoryProjectArchiveCache cache = new InMemoryProjectArchiveCache(100);
+		cache.put("first", new byte[40]);
+		cache.put("second", new byte[40]);
+		cache.get("first");
+		cache.put("third", new byte[40]);
+		assertThat(cache.get("first")).isNotNull();
+		assertThat(cache.get("second")).isNull();
+		assertThat(cache.get("third")).isNotNull();
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getWeight()).isEqualTo(80);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void archiveLargerThanMaximumWeightIsNotCached() {
+		InMemoryProjectArchiveCache cache = new InMemoryProjectArchiveCache(100);
+		cache.put("first", new byte[40]);
+		cache.put("large", new byte[101]);
+		assertThat(cache.get("large")).isNull();
+		assertThat(cache.get("first")).isNotNull();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyType;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.util.Version;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectDescriptionDigest}.
+ *
+ * @author Stephane Nicoll
+ */
+class ProjectDescriptionDigestTests {
+
+	@Test
+	void digestOfEquivalentDescriptionsIsEqual() {
+		ProjectDescription first = createDescription();
+		ProjectDescription second = createDescription();
+		assertThat(ProjectDescriptionDigest.of(first))
+				.isEqualTo(ProjectDescriptionDigest.of(second));
+		assertThat(ProjectDescriptionDigest.of(first).toString()).hasSize(64);
+	}
+
+	@Test
+	void digestDoesNotDependOnDependenciesOrder() {
+		ProjectDescription first = createDescription();
+		first.addDependency("web", web());
+		first.addDependency("jpa", jpa());
+		ProjectDescription second = createDescription();
+		second.addDependency("jpa", jpa());
+		second.addDependency("web", web());
+		assertThat(ProjectDescriptionDigest.of(first))
+				.isEqualTo(ProjectDescriptionDigest.of(second));
+	}
+
+	@Test
+	void digestDependsOnRequestedDependencies() {
+		ProjectDescription first = createDescription();
+		first.addDependency("web", web());
+		ProjectDescription second = createDescription();
+		second.addDependency("web", web());
+		second.addDependency("jpa", jpa());
+		assertThat(ProjectDescriptionDigest.of(first))
+				.isNotEqualTo(ProjectDescriptionDigest.of(second));
+	}
+
+	@Test
+	void digestDependsOnDescriptionAttributes() {
+		ProjectDescriptionDigest digest = ProjectDescriptionDigest
+				.of(createDescription());
+		ProjectDescription buildSystem = createDescription();
+		buildSystem.setBuildSystem(new GradleBuildSystem());
+		ProjectDescription platformVersion = createDescription();
+		platformVersion.setPlatformVersion(Version.parse("2.0.6.RELEASE"));
+		ProjectDescription artifactId = createDescription();
+		artifactId.setArtifactId("another");
+		ProjectDescription baseDirectory = createDescription();
+		baseDirectory.setBaseDirectory("demo");
+		assertThat(ProjectDescriptionDigest.of(buildSystem)).isNotEqualTo(digest);
+		assertThat(ProjectDescriptionDigest.of(platformVersion)).isNotEqualTo(digest);
+		assertThat(ProjectDescriptionDigest.of(artifactId)).isNotEqualTo(digest);
+		assertThat(ProjectDescriptionDigest.of(baseDirectory)).isNotEqualTo(digest);
+	}
+
+	private ProjectDescription createDescription() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setLanguage(new JavaLanguage());
+		description.setGroupId("com.example");
+		description.setArtifactId("demo");
+		return description;
+	}
+
+	private Dependency web() {
+		return new Dependency("org.springframework.boot", "spring-boot-starter-web",
+				DependencyType.COMPILE);
+	}
+
+	private Dependency jpa() {
+		return new Dependency("org.springframework.boot", "spring-boot-starter-data-jpa",
+				DependencyType.COMPILE);
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationFingerprint}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ProjectGenerationFingerprintTests {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	void fingerprintIsStable() throws IOException {
+		String fingerprint = ProjectGenerationFingerprint.compute(this.classLoader);
+		assertThat(fingerprint).hasSize(64);
+		assertThat(ProjectGenerationFingerprint.compute(this.classLoader))
+				.isEqualTo(fingerprint);
+	}
+
+	@Test
+	void fingerprintChangesWhenTemplateChanges(@TempDir Path directory)
+			throws IOException {
+		Path template = Files.write(directory.resolve("test.mustache"),
+				Collections.singletonList("{{name}}"));
+		String location = directory.toUri() + "**/*.mustache";
+		String fingerprint = ProjectGenerationFingerprint.compute(this.classLoader,
+				location);
+		assertThat(ProjectGenerationFingerprint.compute(this.classLoader))
+				.isNotEqualTo(fingerprint);
+		Files.write(template, Collections.singletonList("Hello {{name}}"));
+		assertThat(ProjectGenerationFingerprint.compute(this.classLoader, location))
+				.isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void fingerprintDoesNotDependOnInstallationDirectory(@TempDir Path directory)
+			throws IOException {
+		Path first = createInstallation(directory.resolve("first"));
+		Path second = createInstallation(directory.resolve("second/nested"));
+		assertThat(computeInstallationFingerprint(first))
+				.isEqualTo(computeInstallationFingerprint(second))
+				.isNotEqualTo(computeInstallationFingerprint(directory.resolve("empty")));
+	}
+
+	@Test
+	void fingerprintOfJarDoesNotDependOnInstallationDirectory(@TempDir Path directory)
+			throws IOException {
+		Path first = createJar(createInstallation(directory.resolve("first")),
+				directory.resolve("first.jar"));
+		Path second = createJar(createInstallation(directory.resolve("second")),
+				Files.createDirectories(directory.resolve("lib")).resolve("second.jar"));
+		assertThat(computeInstallationFingerprint(first))
+				.isEqualTo(computeInstallationFingerprint(second))
+				.isNotEqualTo(computeInstallationFingerprint(directory.resolve("empty")));
+	}
+
+	private Path createInstallation(Path root) throws IOException {
+		Path factories = root.resolve("META-INF/spring.factories");
+		Files.createDirectories(factories.getParent());
+		Files.write(factories, Collections.singletonList(
+				ProjectGenerationConfiguration.class.getName() + "=com.example.Test"));
+		Path configuration = root.resolve("com/example/Test.class");
+		Files.createDirectories(configuration.getParent());
+		Files.write(configuration, new byte[] { 1, 2, 3 });
+		Path template = root.resolve("templates/test.mustache");
+		Files.createDirectories(template.getParent());
+		Files.write(template, Collections.singletonList("{{name}}"));
+		return root;
+	}
+
+	private Path createJar(Path root, Path jar) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+				Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.sorted()::iterator) {
+				String name = root.relativize(path).toString().replace('\\', '/');
+				if (Files.isDirectory(path)) {
+					if (!name.isEmpty()) {
+						out.putNextEntry(new JarEntry(name + "/"));
+						out.closeEntry();
+					}
+				}
+				else {
+					out.putNextEntry(new JarEntry(name));
+					out.write(Files.readAllBytes(path));
+					out.closeEntry();
+				}
+			}
+		}
+		return jar;
+	}
+
+	private String computeInstallationFingerprint(Path installation) throws IOException {
+		try (URLClassLoader installationClassLoader = new URLClassLoader(
+				new URL[] { installation.toUri().toURL() }, null)) {
+			return ProjectGenerationFingerprint.compute(installationClassLoader,
+					"classpath*:/templates/**/*.mustache");
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TarGzProjectArchiver}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class TarGzProjectArchiverTests {
+
+	@Test
+	void archiveContainsFilesAndDirectories(@TempDir Path directory) throws IOException {
+		Files.createDirectories(directory.resolve("src/main/java"));
+		Files.write(directory.resolve("src/main/java/Test.java"),
+				Collections.singletonList("class Test {}"));
+		Map<String, TarArchiveEntry> entries = new LinkedHashMap<>();
+		Map<String, String> contents = new LinkedHashMap<>();
+		readArchive(directory, entries, contents);
+		assertThat(entries).containsOnlyKeys("src/", "src/main/", "src/main/java/",
+				"src/main/java/Test.java");
+		assertThat(entries.get("src/main/").isDirectory()).isTrue();
+		assertThat(entries.get("src/main/").getMode()).isEqualTo(040755);
+		assertThat(contents.get("src/main/java/Test.java")).isEqualTo("class Test {}\n");
+	}
+
+	@Test
+	void archiveKeepsExecutableFilesExecutable(@TempDir Path directory)
+			throws IOException {
+		Path gradlew = Files.createFile(directory.resolve("gradlew"));
+		Files.setPosixFilePermissions(gradlew, EnumSet.of(PosixFilePermission.OWNER_READ,
+				PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE));
+		Files.createFile(directory.resolve("gradlew.bat"));
+		Map<String, TarArchiveEntry> entries = new LinkedHashMap<>();
+		readArchive(directory, entries, new LinkedHashMap<>());
+		assertThat(entries.get("gradlew").getMode()).isEqualTo(0100755);
+		assertThat(entries.get("gradlew.bat").getMode()).isEqualTo(0100644);
+	}
+
+	private void readArchive(Path directory, Map<String, TarArchiveEntry> entries,
+			Map<String, String> contents) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new TarGzProjectArchiver().archive(directory, out);
+		try (TarArchiveInputStream tar = new TarArchiveInputStream(
+				new GzipCompressorInputStream(
+						new ByteArrayInputStream(out.toByteArray())))) {
+			TarArchiveEntry entry;
+			while ((entry = tar.getNextTarEntry()) != null) {
+				entries.put(entry.getName(), entry);
+				if (!entry.isDirectory()) {
+					contents.put(entry.getName(),
+							StreamUtils.copyToString(tar, StandardCharsets.UTF_8));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ZipProjectArchiver}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class ZipProjectArchiverTests {
+
+	@Test
+	void archiveContainsFilesAndDirectories(@TempDir Path directory) throws IOException {
+		Files.createDirectories(directory.resolve("src/main/java"));
+		Files.write(directory.resolve("src/main/java/Test.java"),
+				Collections.singletonList("class Test {}"));
+		Files.write(directory.resolve("pom.xml"),
+				Collections.singletonList("<project/>"));
+		Map<String, ZipArchiveEntry> entries = archive(directory);
+		assertThat(entries).containsOnlyKeys("pom.xml", "src/", "src/main/",
+				"src/main/java/", "src/main/java/Test.java");
+		assertThat(entries.get("src/").isDirectory()).isTrue();
+		assertThat(entries.get("src/").getUnixMode()).isEqualTo(040755);
+		assertThat(entries.get("pom.xml").getUnixMode()).isEqualTo(0100644);
+	}
+
+	@Test
+	void archiveKeepsExecutableFilesExecutable(@TempDir Path directory)
+			throws IOException {
+		Path mvnw = Files.createFile(directory.resolve("mvnw"));
+		Files.setPosixFilePermissions(mvnw, EnumSet.of(PosixFilePermission.OWNER_READ,
+				PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE));
+		Files.createFile(directory.resolve("mvnw.cmd"));
+		Map<String, ZipArchiveEntry> entries = archive(directory);
+		assertThat(entries.get("mvnw").getUnixMode()).isEqualTo(0100755);
+		assertThat(entries.get("mvnw.cmd").getUnixMode()).isEqualTo(0100644);
+	}
+
+	@Test
+	void archiveEntriesAreSorted(@TempDir Path directory) throws IOException {
+		Files.createFile(directory.resolve("b"));
+		Files.createFile(directory.resolve("c"));
+		Files.createFile(directory.resolve("a"));
+		assertThat(archive(directory)).containsOnlyKeys("a", "b", "c");
+		assertThat(new ArrayList<>(archive(directory).keySet())).containsExactly("a", "b",
+				"c");
+	}
+
+	private Map<String, ZipArchiveEntry> archive(Path directory) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new ZipProjectArchiver().archive(directory, out);
+		Map<String, ZipArchiveEntry> entries = new LinkedHashMap<>();
+		try (ZipFile zip = new ZipFile(
+				new SeekableInMemoryByteChannel(out.toByteArray()))) {
+			List<ZipArchiveEntry> zipEntries = Collections
+					.list(zip.getEntriesInPhysicalOrder());
+			for (ZipArchiveEntry entry : zipEntries) {
+				entries.put(entry.getName(), entry);
+				if (!entry.isDirectory()) {
+					StreamUtils.copyToByteArray(zip.getInputStream(entry));
+				}
+			}
+		}
+		return entries;
+	}
+
+}
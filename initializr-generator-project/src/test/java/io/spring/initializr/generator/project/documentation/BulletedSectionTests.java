@@ -19,6 +19,7 @@ package io.spring.initializr.generator.project.documentation;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Collections;
 import java.util.Map;
 
@@ -34,7 +35,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -75,24 +75,24 @@ class BulletedSectionTests {
 
 	@Test
 	void bulletedSectionWithDefaultItemName() throws IOException {
-		given(this.renderer.render(eq("template"), any())).willReturn("output");
 		BulletedSection<String> section = new BulletedSection<>(this.renderer,
 				"template");
 		section.addItem("test");
 		section.write(new PrintWriter(new StringWriter()));
-		verify(this.renderer).render(eq("template"), this.modelCaptor.capture());
+		verify(this.renderer).render(eq("template"), this.modelCaptor.capture(),
+				any(Writer.class));
 		Map<String, Object> model = this.modelCaptor.getValue();
 		assertThat(model).containsOnly(entry("items", Collections.singletonList("test")));
 	}
 
 	@Test
 	void bulletedSectionWithCustomItemName() throws IOException {
-		given(this.renderer.render(eq("template"), any())).willReturn("output");
 		BulletedSection<String> section = new BulletedSection<>(this.renderer, "template",
 				"elements");
 		section.addItem("test");
 		section.write(new PrintWriter(new StringWriter()));
-		verify(this.renderer).render(eq("template"), this.modelCaptor.capture());
+		verify(this.renderer).render(eq("template"), this.modelCaptor.capture(),
+				any(Writer.class));
 		Map<String, Object> model = this.modelCaptor.getValue();
 		assertThat(model)
 				.containsOnly(entry("elements", Collections.singletonList("test")));
@@ -17,13 +17,18 @@
 package io.spring.initializr.generator;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.util.FileCopyUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * A {@link ProjectContributor} that contributes all of the resources found beneath a root
@@ -34,10 +39,10 @@ import org.springframework.util.FileCopyUtils;
  */
 public class MultipleResourcesProjectContributor implements ProjectContributor {
 
-	private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-
 	private final String rootResource;
 
+	private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
 	private final Predicate<String> executable;
 
 	public MultipleResourcesProjectContributor(String rootResource) {
@@ -52,21 +57,32 @@ public class MultipleResourcesProjectContributor implements ProjectContributor {
 
 	@Override
 	public void contribute(Path projectRoot) throws IOException {
-		Resource root = this.resolver.getResource(this.rootResource);
-		Resource[] resources = this.resolver.getResources(this.rootResource + "/**");
-		for (Resource resource : resources) {
-			String filename = resource.getURI().toString()
-					.substring(root.getURI().toString().length() + 1);
-			if (resource.isReadable()) {
-				Path output = projectRoot.resolve(filename);
-				Files.createDirectories(output.getParent());
-				Files.createFile(output);
-				FileCopyUtils.copy(resource.getInputStream(),
-						Files.newOutputStream(output));
-				// TODO Set executable using NIO
-				output.toFile().setExecutable(this.executable.test(filename));
+		Map<String, byte[]> contents = StaticResourceCache.getContents(this.classLoader,
+				this.rootResource);
+		for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+			String filename = entry.getKey();
+			Path output = projectRoot.resolve(filename);
+			Files.createDirectories(output.getParent());
+			Files.write(output, entry.getValue(), StandardOpenOption.CREATE_NEW,
+					StandardOpenOption.WRITE);
+			if (this.executable.test(filename)) {
+				setExecutable(output);
 			}
 		}
 	}
 
+	private void setExecutable(Path output) throws IOException {
+		PosixFileAttributeView attributes = Files.getFileAttributeView(output,
+				PosixFileAttributeView.class);
+		if (attributes != null) {
+			Set<PosixFilePermission> permissions = attributes.readAttributes()
+					.permissions();
+			permissions.add(PosixFilePermission.OWNER_EXECUTE);
+			attributes.setPermissions(permissions);
+		}
+		else if (output.getFileSystem() == FileSystems.getDefault()) {
+			output.toFile().setExecutable(true);
+		}
+	}
+
 }
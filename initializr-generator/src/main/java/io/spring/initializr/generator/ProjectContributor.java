@@ -18,6 +18,7 @@ package io.spring.initializr.generator;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 
 import org.springframework.core.Ordered;
 
@@ -38,6 +39,18 @@ public interface ProjectContributor extends Ordered {
 	 */
 	void contribute(Path projectRoot) throws IOException;
 
+	/**
+	 * Return the paths, relative to the project root and using {@code /} as separator, of
+	 * the files and directories that this contributor may create or modify. A directory
+	 * covers everything beneath it. Contributors whose paths overlap are never invoked
+	 * concurrently. By default, the paths are not known and this contributor is never
+	 * invoked concurrently with any other contributor.
+	 * @return the contributed paths or {@code null} if they are not known
+	 */
+	default Collection<String> getContributedPaths() {
+		return null;
+	}
+
 	@Override
 	default int getOrder() {
 		return 0;
@@ -20,10 +20,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
 
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.util.FileCopyUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link ProjectContributor} that contributes a single file, identified by a resource
@@ -34,12 +35,12 @@ import org.springframework.util.FileCopyUtils;
  */
 public class SingleResourceProjectContributor implements ProjectContributor {
 
-	private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-
 	private final String filename;
 
 	private final String resourcePattern;
 
+	private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
 	public SingleResourceProjectContributor(String filename, String resourcePattern) {
 		this.filename = filename;
 		this.resourcePattern = resourcePattern;
@@ -52,9 +53,14 @@ public class SingleResourceProjectContributor implements ProjectContributor {
 			Files.createDirectories(output.getParent());
 			Files.createFile(output);
 		}
-		Resource resource = this.resolver.getResource(this.resourcePattern);
-		FileCopyUtils.copy(resource.getInputStream(),
-				Files.newOutputStream(output, StandardOpenOption.APPEND));
+		Files.write(output,
+				StaticResourceCache.getContent(this.classLoader, this.resourcePattern),
+				StandardOpenOption.APPEND);
+	}
+
+	@Override
+	public Collection<String> getContributedPaths() {
+		return Collections.singleton(this.filename);
 	}
 
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * A cache of the content of the static resources that are copied to generated projects so
+ * that they are resolved and read once rather than for each project. Resources are
+ * resolved and cached per {@link ClassLoader}. Content is softly referenced and read
+ * again if it has been reclaimed.
+ *
+ * @author Stephane Nicoll
+ */
+final class StaticResourceCache {
+
+	private static final Map<CacheKey, byte[]> resources = new ConcurrentReferenceHashMap<>(
+			16, ReferenceType.SOFT);
+
+	private static final Map<CacheKey, Map<String, byte[]>> directories = new ConcurrentReferenceHashMap<>(
+			16, ReferenceType.SOFT);
+
+	private StaticResourceCache() {
+	}
+
+	/**
+	 * Return the content of the resource at the specified location.
+	 * @param classLoader the class loader to use to resolve the resource
+	 * @param location the location of the resource
+	 * @return the content of the resource
+	 * @throws IOException if the resource could not be read
+	 */
+	static byte[] getContent(ClassLoader classLoader, String location)
+			throws IOException {
+		try {
+			return resources.computeIfAbsent(new CacheKey(classLoader, location),
+					(key) -> {
+						try {
+							return read(
+									new PathMatchingResourcePatternResolver(classLoader)
+											.getResource(location));
+						}
+						catch (IOException ex) {
+							throw new UncheckedIOException(ex);
+						}
+					});
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Return the content of the readable resources found beneath the specified root
+	 * location, keyed by their path relative to the root.
+	 * @param classLoader the class loader to use to resolve the resources
+	 * @param rootLocation the root location
+	 * @return the content of the resources beneath the root location
+	 * @throws IOException if a resource could not be read
+	 */
+	static Map<String, byte[]> getContents(ClassLoader classLoader, String rootLocation)
+			throws IOException {
+		try {
+			return directories.computeIfAbsent(new CacheKey(classLoader, rootLocation),
+					(key) -> {
+						try {
+							return readAll(
+									new PathMatchingResourcePatternResolver(classLoader),
+									rootLocation);
+						}
+						catch (IOException ex) {
+							throw new UncheckedIOException(ex);
+						}
+					});
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private static Map<String, byte[]> readAll(
+			PathMatchingResourcePatternResolver resolver, String rootLocation)
+			throws IOException {
+		Resource root = resolver.getResource(rootLocation);
+		String rootUri = root.getURI().toString();
+		Map<String, byte[]> contents = new LinkedHashMap<>();
+		for (Resource resource : resolver.getResources(rootLocation + "/**")) {
+			if (resource.isReadable()) {
+				String filename = resource.getURI().toString()
+						.substring(rootUri.length() + 1);
+				contents.put(filename, read(resource));
+			}
+		}
+		return Collections.unmodifiableMap(contents);
+	}
+
+	private static byte[] read(Resource resource) throws IOException {
+		return FileCopyUtils.copyToByteArray(resource.getInputStream());
+	}
+
+	/**
+	 * The key of a cached resource.
+	 */
+	private static final class CacheKey {
+
+		private final ClassLoader classLoader;
+
+		private final String location;
+
+		CacheKey(ClassLoader classLoader, String location) {
+			this.classLoader = classLoader;
+			this.location = location;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return this.classLoader == other.classLoader
+					&& this.location.equals(other.location);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.classLoader)
+					+ this.location.hashCode();
+		}
+
+	}
+
+}
@@ -43,6 +43,8 @@ public abstract class Build {
 
 	private final Map<String, Dependency> dependencies = new LinkedHashMap<>();
 
+	private final DependencyIndex dependencyIndex = new DependencyIndex();
+
 	private final List<BillOfMaterials> boms = new ArrayList<>();
 
 	private final List<MavenRepository> repositories = new ArrayList<>();
@@ -99,12 +101,13 @@ public abstract class Build {
 
 	public void addDependency(String id, Dependency dependency) {
 		this.dependencies.put(id, dependency);
+		this.dependencyIndex.put(id, dependency);
 	}
 
 	public Dependency addDependency(String id, String groupId, String artifactId,
 			DependencyType dependencyType) {
 		Dependency dependency = new Dependency(groupId, artifactId, dependencyType);
-		this.dependencies.put(id, dependency);
+		addDependency(id, dependency);
 		return dependency;
 	}
 
@@ -112,7 +115,7 @@ public abstract class Build {
 			VersionReference version, DependencyType dependencyType) {
 		Dependency dependency = new Dependency(groupId, artifactId, version,
 				dependencyType);
-		this.dependencies.put(id, dependency);
+		addDependency(id, dependency);
 		return dependency;
 	}
 
@@ -120,6 +123,27 @@ public abstract class Build {
 		return Collections.unmodifiableMap(this.dependencies);
 	}
 
+	/**
+	 * Return the dependencies of the specified types, sorted using the
+	 * {@link DependencyComparator}. The dependencies of each type are kept sorted as they
+	 * are added so that no sorting happens when this method is called with a single type.
+	 * @param types the dependency types to consider
+	 * @return an immutable snapshot of the sorted dependencies, not updated when
+	 * dependencies are added
+	 */
+	public List<Dependency> getDependenciesOfType(DependencyType... types) {
+		return this.dependencyIndex.get(types);
+	}
+
+	/**
+	 * Return all the dependencies, sorted using the {@link DependencyComparator}.
+	 * @return an immutable snapshot of the sorted dependencies, not updated when
+	 * dependencies are added
+	 */
+	public List<Dependency> getSortedDependencies() {
+		return this.dependencyIndex.getAll();
+	}
+
 	public void addBom(BillOfMaterials bom) {
 		this.boms.add(bom);
 	}
@@ -17,12 +17,9 @@
 package io.spring.initializr.generator.buildsystem;
 
 import java.nio.file.Path;
-import java.util.Objects;
 
 import io.spring.initializr.generator.language.Language;
 
-import org.springframework.core.io.support.SpringFactoriesLoader;
-
 /**
  * A build system that can be used by a generated project.
  *
@@ -44,14 +41,25 @@ public interface BuildSystem {
 		return projectRoot.resolve("src/test/" + language.id());
 	}
 
+	/**
+	 * Return the {@link BuildSystem} with the specified id. The registered
+	 * {@link BuildSystemFactory build system factories} are only loaded once and the same
+	 * instance is returned for a given id.
+	 * @param id the id of the build system
+	 * @return the build system
+	 * @throws IllegalStateException if the id is not recognized
+	 */
 	static BuildSystem forId(String id) {
-		return SpringFactoriesLoader
-				.loadFactories(BuildSystemFactory.class,
-						BuildSystem.class.getClassLoader())
-				.stream().map((factory) -> factory.createBuildSystem(id))
-				.filter(Objects::nonNull).findFirst()
-				.orElseThrow(() -> new IllegalStateException(
-						"Unrecognized build system id '" + id + "'"));
+		return BuildSystemRegistry.INSTANCE.get(id);
+	}
+
+	/**
+	 * Load the registered {@link BuildSystemFactory build system factories} again using
+	 * the specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 */
+	static void reloadFactories(ClassLoader classLoader) {
+		BuildSystemRegistry.INSTANCE.reload(classLoader);
 	}
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import io.spring.initializr.generator.util.FactoryRegistry;
+
+/**
+ * Holder of the {@link FactoryRegistry} of the {@link BuildSystem build systems} created
+ * by the registered {@link BuildSystemFactory factories}.
+ *
+ * @author Stephane Nicoll
+ */
+final class BuildSystemRegistry {
+
+	static final FactoryRegistry<BuildSystemFactory, BuildSystem> INSTANCE = new FactoryRegistry<>(
+			BuildSystemFactory.class, BuildSystemFactory::createBuildSystem,
+			"build system", BuildSystem.class.getClassLoader());
+
+	private BuildSystemRegistry() {
+	}
+
+}
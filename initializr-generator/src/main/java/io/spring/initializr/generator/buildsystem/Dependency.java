@@ -33,6 +33,8 @@ public class Dependency {
 
 	private final DependencyType type;
 
+	private DependencyComparator.SortKey sortKey;
+
 	public Dependency(String groupId, String artifactId, DependencyType type) {
 		this(groupId, artifactId, null, type);
 	}
@@ -78,4 +80,18 @@ public class Dependency {
 		return this.type;
 	}
 
+	/**
+	 * Return the key used to sort this dependency, computed on first use.
+	 * @return the sort key
+	 * @see DependencyComparator
+	 */
+	DependencyComparator.SortKey getSortKey() {
+		DependencyComparator.SortKey key = this.sortKey;
+		if (key == null) {
+			key = new DependencyComparator.SortKey(getGroupId(), getArtifactId());
+			this.sortKey = key;
+		}
+		return key;
+	}
+
 }
@@ -33,24 +33,46 @@ public class DependencyComparator implements Comparator<Dependency> {
 
 	@Override
 	public int compare(Dependency o1, Dependency o2) {
-		if (isSpringBootDependency(o1) && isSpringBootDependency(o2)) {
-			return o1.getArtifactId().compareTo(o2.getArtifactId());
+		SortKey key1 = o1.getSortKey();
+		SortKey key2 = o2.getSortKey();
+		if (key1.springBoot && key2.springBoot) {
+			return compare(key1.artifactId, key2.artifactId);
 		}
-		if (isSpringBootDependency(o1)) {
+		if (key1.springBoot) {
 			return -1;
 		}
-		if (isSpringBootDependency(o2)) {
+		if (key2.springBoot) {
 			return 1;
 		}
-		int group = o1.getGroupId().compareTo(o2.getGroupId());
+		int group = compare(key1.groupId, key2.groupId);
 		if (group != 0) {
 			return group;
 		}
-		return o1.getArtifactId().compareTo(o2.getArtifactId());
+		return compare(key1.artifactId, key2.artifactId);
 	}
 
-	private boolean isSpringBootDependency(Dependency dependency) {
-		return dependency.getGroupId().startsWith("org.springframework.boot");
+	private static int compare(String s1, String s2) {
+		return (s1 == s2) ? 0 : s1.compareTo(s2);
+	}
+
+	/**
+	 * The attributes of a {@link Dependency} that determine its order. Identifiers are
+	 * interned so that identical identifiers are compared by reference.
+	 */
+	static final class SortKey {
+
+		private final boolean springBoot;
+
+		private final String groupId;
+
+		private final String artifactId;
+
+		SortKey(String groupId, String artifactId) {
+			this.springBoot = groupId.startsWith("org.springframework.boot");
+			this.groupId = groupId.intern();
+			this.artifactId = artifactId.intern();
+		}
+
 	}
 
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the {@link Dependency dependencies} of a {@link Build} by
+ * {@link DependencyType}. Each bucket is kept sorted using the
+ * {@link DependencyComparator} as dependencies are added, dependencies that are equal
+ * according to the comparator being kept in the order they were first added.
+ *
+ * @author Stephane Nicoll
+ */
+final class DependencyIndex {
+
+	private static final Comparator<Entry> ENTRY_COMPARATOR = Comparator
+			.comparing((Entry entry) -> entry.dependency, DependencyComparator.INSTANCE)
+			.thenComparingLong((entry) -> entry.order);
+
+	private final Map<DependencyType, List<Entry>> buckets = new EnumMap<>(
+			DependencyType.class);
+
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	private long sequence;
+
+	private List<Dependency> all;
+
+	/**
+	 * Add the specified {@link Dependency}, replacing the one with the same {@code id} if
+	 * any.
+	 * @param id the identifier of the dependency
+	 * @param dependency the dependency
+	 */
+	void put(String id, Dependency dependency) {
+		Entry previous = this.entries.get(id);
+		long order;
+		if (previous != null) {
+			List<Entry> bucket = this.buckets.get(previous.dependency.getType());
+			bucket.remove(Collections.binarySearch(bucket, previous, ENTRY_COMPARATOR));
+			order = previous.order;
+		}
+		else {
+			order = this.sequence++;
+		}
+		this.all = null;
+		Entry entry = new Entry(dependency, order);
+		this.entries.put(id, entry);
+		List<Entry> bucket = this.buckets.computeIfAbsent(dependency.getType(),
+				(type) -> new ArrayList<>());
+		int index = Collections.binarySearch(bucket, entry, ENTRY_COMPARATOR);
+		bucket.add(-index - 1, entry);
+	}
+
+	/**
+	 * Return the dependencies of the specified types, sorted using the
+	 * {@link DependencyComparator}.
+	 * @param types the dependency types to consider
+	 * @return an immutable snapshot of the sorted dependencies
+	 */
+	List<Dependency> get(DependencyType... types) {
+		if (types.length == 1) {
+			return toDependencies(
+					this.buckets.getOrDefault(types[0], Collections.emptyList()));
+		}
+		List<Entry> merged = Collections.emptyList();
+		for (DependencyType type : types) {
+			List<Entry> bucket = this.buckets.get(type);
+			if (bucket != null && !bucket.isEmpty()) {
+				merged = (merged.isEmpty()) ? bucket : merge(merged, bucket);
+			}
+		}
+		return toDependencies(merged);
+	}
+
+	/**
+	 * Return all the dependencies, sorted using the {@link DependencyComparator}. The
+	 * result is cached until a dependency is added.
+	 * @return an immutable snapshot of the sorted dependencies
+	 */
+	List<Dependency> getAll() {
+		List<Dependency> dependencies = this.all;
+		if (dependencies == null) {
+			dependencies = get(DependencyType.values());
+			this.all = dependencies;
+		}
+		return dependencies;
+	}
+
+	private static List<Dependency> toDependencies(List<Entry> entries) {
+		if (entries.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Dependency[] dependencies = new Dependency[entries.size()];
+		for (int i = 0; i < dependencies.length; i++) {
+			dependencies[i] = entries.get(i).dependency;
+		}
+		return Collections.unmodifiableList(Arrays.asList(dependencies));
+	}
+
+	private static List<Entry> merge(List<Entry> first, List<Entry> second) {
+		List<Entry> merged = new ArrayList<>(first.size() + second.size());
+		int i = 0;
+		int j = 0;
+		while (i < first.size() && j < second.size()) {
+			if (ENTRY_COMPARATOR.compare(first.get(i), second.get(j)) <= 0) {
+				merged.add(first.get(i++));
+			}
+			else {
+				merged.add(second.get(j++));
+			}
+		}
+		merged.addAll(first.subList(i, first.size()));
+		merged.addAll(second.subList(j, second.size()));
+		return merged;
+	}
+
+	/**
+	 * A {@link Dependency} and the order in which its identifier was first added.
+	 */
+	private static final class Entry {
+
+		private final Dependency dependency;
+
+		private final long order;
+
+		private Entry(Dependency dependency, long order) {
+			this.dependency = dependency;
+			this.order = order;
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package io.spring.initializr.generator.buildsystem;
 
 import io.spring.initializr.generator.ProjectDescription;
 import io.spring.initializr.generator.condition.ProjectGenerationCondition;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
 
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -36,8 +37,8 @@ class OnBuildSystemCondition extends ProjectGenerationCondition {
 		String buildSystemId = (String) metadata
 				.getAllAnnotationAttributes(ConditionalOnBuildSystem.class.getName())
 				.getFirst("value");
-		BuildSystem buildSystem = BuildSystem.forId(buildSystemId);
-		return projectDescription.getBuildSystem().id().equals(buildSystem.id());
+		return ProjectGenerationConditions.isBuildSystem(projectDescription,
+				buildSystemId);
 	}
 
 }
@@ -25,7 +25,10 @@ import io.spring.initializr.generator.buildsystem.BuildSystem;
  */
 public class GradleBuildSystem implements BuildSystem {
 
-	static final String ID = "gradle";
+	/**
+	 * The id of the Gradle build system.
+	 */
+	public static final String ID = "gradle";
 
 	@Override
 	public String id() {
@@ -18,7 +18,6 @@ package io.spring.initializr.generator.buildsystem.gradle;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
@@ -28,11 +27,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.buildsystem.BillOfMaterials;
 import io.spring.initializr.generator.buildsystem.Dependency;
-import io.spring.initializr.generator.buildsystem.DependencyComparator;
 import io.spring.initializr.generator.buildsystem.DependencyType;
 import io.spring.initializr.generator.buildsystem.MavenRepository;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild.TaskCustomization;
@@ -137,18 +134,14 @@ public class GradleBuildWriter {
 	}
 
 	private void writeDependencies(IndentingWriter writer, GradleBuild build) {
-		Collection<Dependency> allDependencies = build.getDependencies().values();
 		Set<Dependency> dependencies = new LinkedHashSet<>();
-		dependencies.addAll(filterDependencies(allDependencies, DependencyType.COMPILE));
-		dependencies.addAll(filterDependencies(allDependencies, DependencyType.RUNTIME));
-		dependencies.addAll(
-				filterDependencies(allDependencies, DependencyType.ANNOTATION_PROCESSOR));
-		dependencies.addAll(
-				filterDependencies(allDependencies, DependencyType.PROVIDED_RUNTIME));
+		dependencies.addAll(build.getDependenciesOfType(DependencyType.COMPILE));
+		dependencies.addAll(build.getDependenciesOfType(DependencyType.RUNTIME));
 		dependencies
-				.addAll(filterDependencies(allDependencies, DependencyType.TEST_COMPILE));
-		dependencies
-				.addAll(filterDependencies(allDependencies, DependencyType.TEST_RUNTIME));
+				.addAll(build.getDependenciesOfType(DependencyType.ANNOTATION_PROCESSOR));
+		dependencies.addAll(build.getDependenciesOfType(DependencyType.PROVIDED_RUNTIME));
+		dependencies.addAll(build.getDependenciesOfType(DependencyType.TEST_COMPILE));
+		dependencies.addAll(build.getDependenciesOfType(DependencyType.TEST_RUNTIME));
 		writeNestedCollection(writer, "dependencies", dependencies,
 				this::dependencyAsString, writer::println);
 	}
@@ -276,13 +269,6 @@ public class GradleBuildWriter {
 		}
 	}
 
-	private static Collection<Dependency> filterDependencies(
-			Collection<Dependency> dependencies, DependencyType... types) {
-		List<DependencyType> candidates = Arrays.asList(types);
-		return dependencies.stream().filter((dep) -> candidates.contains(dep.getType()))
-				.sorted(DependencyComparator.INSTANCE).collect(Collectors.toList());
-	}
-
 	private String configurationForType(DependencyType type) {
 		switch (type) {
 		case ANNOTATION_PROCESSOR:
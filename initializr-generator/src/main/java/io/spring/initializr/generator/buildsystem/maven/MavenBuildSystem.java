@@ -25,7 +25,10 @@ import io.spring.initializr.generator.buildsystem.BuildSystem;
  */
 public class MavenBuildSystem implements BuildSystem {
 
-	static final String ID = "maven";
+	/**
+	 * The id of the Maven build system.
+	 */
+	public static final String ID = "maven";
 
 	@Override
 	public String id() {
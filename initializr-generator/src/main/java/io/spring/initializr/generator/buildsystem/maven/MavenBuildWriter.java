@@ -18,7 +18,6 @@ package io.spring.initializr.generator.buildsystem.maven;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -27,7 +26,6 @@ import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.buildsystem.BillOfMaterials;
 import io.spring.initializr.generator.buildsystem.Dependency;
-import io.spring.initializr.generator.buildsystem.DependencyComparator;
 import io.spring.initializr.generator.buildsystem.DependencyType;
 import io.spring.initializr.generator.buildsystem.MavenRepository;
 import io.spring.initializr.generator.buildsystem.maven.MavenPlugin.Configuration;
@@ -120,28 +118,27 @@ public class MavenBuildWriter {
 	}
 
 	private void writeDependencies(IndentingWriter writer, MavenBuild build) {
-		Collection<Dependency> dependencies = build.getDependencies().values();
-		if (dependencies.isEmpty()) {
+		if (build.getDependencies().isEmpty()) {
 			return;
 		}
 		writer.println();
 		writeElement(writer, "dependencies", () -> {
-			Collection<Dependency> compiledDependencies = writeDependencies(writer,
-					dependencies, DependencyType.COMPILE);
+			Collection<Dependency> compiledDependencies = writeDependencies(writer, build,
+					DependencyType.COMPILE);
 			if (!compiledDependencies.isEmpty()) {
 				writer.println();
 			}
-			writeDependencies(writer, dependencies, DependencyType.RUNTIME);
-			writeDependencies(writer, dependencies, DependencyType.ANNOTATION_PROCESSOR);
-			writeDependencies(writer, dependencies, DependencyType.PROVIDED_RUNTIME);
-			writeDependencies(writer, dependencies, DependencyType.TEST_COMPILE,
+			writeDependencies(writer, build, DependencyType.RUNTIME);
+			writeDependencies(writer, build, DependencyType.ANNOTATION_PROCESSOR);
+			writeDependencies(writer, build, DependencyType.PROVIDED_RUNTIME);
+			writeDependencies(writer, build, DependencyType.TEST_COMPILE,
 					DependencyType.TEST_RUNTIME);
 		});
 	}
 
 	private Collection<Dependency> writeDependencies(IndentingWriter writer,
-			Collection<Dependency> dependencies, DependencyType... types) {
-		Collection<Dependency> candidates = filterDependencies(dependencies, types);
+			MavenBuild build, DependencyType... types) {
+		Collection<Dependency> candidates = build.getDependenciesOfType(types);
 		writeCollection(writer, candidates, this::writeDependency);
 		return candidates;
 	}
@@ -159,13 +156,6 @@ public class MavenBuildWriter {
 		});
 	}
 
-	private static Collection<Dependency> filterDependencies(
-			Collection<Dependency> dependencies, DependencyType... types) {
-		List<DependencyType> candidates = Arrays.asList(types);
-		return dependencies.stream().filter((dep) -> candidates.contains(dep.getType()))
-				.sorted(DependencyComparator.INSTANCE).collect(Collectors.toList());
-	}
-
 	private String scopeForType(DependencyType type) {
 		switch (type) {
 		case ANNOTATION_PROCESSOR:
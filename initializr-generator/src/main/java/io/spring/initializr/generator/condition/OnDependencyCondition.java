@@ -35,7 +35,7 @@ class OnDependencyCondition extends ProjectGenerationCondition {
 		String id = (String) metadata
 				.getAnnotationAttributes(ConditionalOnRequestedDependency.class.getName())
 				.get("id");
-		return projectDescription.getRequestedDependencies().containsKey(id);
+		return ProjectGenerationConditions.isDependencyRequested(projectDescription, id);
 	}
 
 }
@@ -17,8 +17,6 @@
 package io.spring.initializr.generator.condition;
 
 import io.spring.initializr.generator.ProjectDescription;
-import io.spring.initializr.generator.util.VersionParser;
-import io.spring.initializr.generator.util.VersionRange;
 
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -34,13 +32,10 @@ class OnPlatformVersionCondition extends ProjectGenerationCondition {
 	@Override
 	protected boolean matches(ProjectDescription projectDescription,
 			ConditionContext context, AnnotatedTypeMetadata metadata) {
-		if (projectDescription.getPlatformVersion() == null) {
-			return false;
-		}
-		VersionRange range = VersionParser.DEFAULT.parseRange((String) metadata
+		String range = (String) metadata
 				.getAnnotationAttributes(ConditionalOnPlatformVersion.class.getName())
-				.get("value"));
-		return range.match(projectDescription.getPlatformVersion());
+				.get("value");
+		return ProjectGenerationConditions.isPlatformVersion(projectDescription, range);
 	}
 
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.condition;
+
+import io.spring.initializr.generator.ProjectDescription;
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.language.Language;
+import io.spring.initializr.generator.packaging.Packaging;
+import io.spring.initializr.generator.util.VersionParser;
+
+/**
+ * Programmatic equivalent of the project generation conditions, such as
+ * {@link ConditionalOnRequestedDependency} or {@link ConditionalOnPlatformVersion}. Used
+ * by the condition implementations and by components that register beans functionally.
+ *
+ * @author Stephane Nicoll
+ */
+public final class ProjectGenerationConditions {
+
+	private ProjectGenerationConditions() {
+	}
+
+	/**
+	 * Specify if the dependency with the specified id is requested.
+	 * @param description the description of the project
+	 * @param id the identifier of the dependency
+	 * @return {@code true} if the dependency is requested
+	 */
+	public static boolean isDependencyRequested(ProjectDescription description,
+			String id) {
+		return description.getRequestedDependencies().containsKey(id);
+	}
+
+	/**
+	 * Specify if the project uses the build system with the specified id.
+	 * @param description the description of the project
+	 * @param id the identifier of the build system
+	 * @return {@code true} if the project uses that build system
+	 * @see BuildSystem#forId(String)
+	 */
+	public static boolean isBuildSystem(ProjectDescription description, String id) {
+		return description.getBuildSystem().id().equals(BuildSystem.forId(id).id());
+	}
+
+	/**
+	 * Specify if the project uses the language with the specified id.
+	 * @param description the description of the project
+	 * @param id the identifier of the language
+	 * @return {@code true} if the project uses that language
+	 * @see Language#forId(String)
+	 */
+	public static boolean isLanguage(ProjectDescription description, String id) {
+		return (description.getLanguage() != null)
+				&& description.getLanguage().id().equals(Language.forId(id).id());
+	}
+
+	/**
+	 * Specify if the project uses the packaging with the specified id.
+	 * @param description the description of the project
+	 * @param id the identifier of the packaging
+	 * @return {@code true} if the project uses that packaging
+	 * @see Packaging#forId(String)
+	 */
+	public static boolean isPackaging(ProjectDescription description, String id) {
+		return (description.getPackaging() != null)
+				&& description.getPackaging().id().equals(Packaging.forId(id).id());
+	}
+
+	/**
+	 * Specify if the platform version of the project matches the specified version range.
+	 * @param description the description of the project
+	 * @param range the version range to match
+	 * @return {@code true} if the platform version is in range
+	 */
+	public static boolean isPlatformVersion(ProjectDescription description,
+			String range) {
+		return (description.getPlatformVersion() != null) && VersionParser.DEFAULT
+				.parseRange(range).match(description.getPlatformVersion());
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of heap {@link ByteBuffer byte buffers}.
+ *
+ * @author Stephane Nicoll
+ */
+final class ByteBufferPool {
+
+	private final int initialCapacity;
+
+	private final int maximumRetainedCapacity;
+
+	private final BlockingQueue<ByteBuffer> buffers;
+
+	/**
+	 * Create a new pool.
+	 * @param maximumPooledBuffers the maximum number of idle buffers to keep
+	 * @param initialCapacity the capacity of a new buffer
+	 * @param maximumRetainedCapacity the capacity above which a released buffer is
+	 * discarded rather than pooled
+	 */
+	ByteBufferPool(int maximumPooledBuffers, int initialCapacity,
+			int maximumRetainedCapacity) {
+		this.buffers = new ArrayBlockingQueue<>(maximumPooledBuffers);
+		this.initialCapacity = initialCapacity;
+		this.maximumRetainedCapacity = maximumRetainedCapacity;
+	}
+
+	/**
+	 * Return an empty buffer, reusing a pooled one if available.
+	 * @return a buffer ready to be written to
+	 */
+	ByteBuffer acquire() {
+		ByteBuffer buffer = this.buffers.poll();
+		return (buffer != null) ? buffer : ByteBuffer.allocate(this.initialCapacity);
+	}
+
+	/**
+	 * Return a buffer that is no longer used to the pool.
+	 * @param buffer the buffer to release
+	 */
+	void release(ByteBuffer buffer) {
+		if (buffer.capacity() <= this.maximumRetainedCapacity) {
+			buffer.clear();
+			this.buffers.offer(buffer);
+		}
+	}
+
+	int size() {
+		return this.buffers.size();
+	}
+
+}
@@ -18,6 +18,7 @@ package io.spring.initializr.generator.io;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.function.Function;
 
 /**
@@ -27,13 +28,19 @@ import java.util.function.Function;
  */
 public class IndentingWriter extends Writer {
 
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private static final char[] NO_INDENT = new char[0];
+
 	private final Writer out;
 
 	private final Function<Integer, String> indentStrategy;
 
+	private char[][] indents = new char[0][];
+
 	private int level = 0;
 
-	private String indent = "";
+	private char[] indent = NO_INDENT;
 
 	private boolean prependIndent = false;
 
@@ -47,18 +54,17 @@ public class IndentingWriter extends Writer {
 	}
 
 	public void print(String string) {
-		write(string.toCharArray(), 0, string.length());
+		write(string, 0, string.length());
 	}
 
 	public void println(String string) {
-		write(string.toCharArray(), 0, string.length());
+		write(string, 0, string.length());
 		println();
 	}
 
 	public void println() {
-		String separator = System.lineSeparator();
 		try {
-			this.out.write(separator.toCharArray(), 0, separator.length());
+			this.out.write(LINE_SEPARATOR, 0, LINE_SEPARATOR.length());
 		}
 		catch (IOException ex) {
 
@@ -83,16 +89,21 @@ public class IndentingWriter extends Writer {
 	}
 
 	private void refreshIndent() {
-		this.indent = this.indentStrategy.apply(this.level);
+		if (this.level >= this.indents.length) {
+			this.indents = Arrays.copyOf(this.indents, this.level + 1);
+		}
+		char[] levelIndent = this.indents[this.level];
+		if (levelIndent == null) {
+			levelIndent = this.indentStrategy.apply(this.level).toCharArray();
+			this.indents[this.level] = levelIndent;
+		}
+		this.indent = levelIndent;
 	}
 
 	@Override
 	public void write(char[] chars, int offset, int length) {
 		try {
-			if (this.prependIndent) {
-				this.out.write(this.indent.toCharArray(), 0, this.indent.length());
-				this.prependIndent = false;
-			}
+			writeIndentIfNecessary();
 			this.out.write(chars, offset, length);
 		}
 		catch (IOException ex) {
@@ -100,6 +111,24 @@ public class IndentingWriter extends Writer {
 		}
 	}
 
+	@Override
+	public void write(String string, int offset, int length) {
+		try {
+			writeIndentIfNecessary();
+			this.out.write(string, offset, length);
+		}
+		catch (IOException ex) {
+
+		}
+	}
+
+	private void writeIndentIfNecessary() throws IOException {
+		if (this.prependIndent) {
+			this.out.write(this.indent, 0, this.indent.length);
+			this.prependIndent = false;
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		this.out.flush();
@@ -16,7 +16,10 @@
 
 package io.spring.initializr.generator.io;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -31,13 +34,23 @@ import java.util.function.Function;
  */
 public final class IndentingWriterFactory {
 
+	private static final int INITIAL_BUFFER_CAPACITY = 8 * 1024;
+
+	private static final int MAXIMUM_RETAINED_BUFFER_CAPACITY = 256 * 1024;
+
 	private final Function<Integer, String> defaultIndentingStrategy;
 
 	private final Map<String, Function<Integer, String>> indentingStrategies;
 
+	private final ByteBufferPool bufferPool;
+
 	private IndentingWriterFactory(Builder builder) {
 		this.defaultIndentingStrategy = builder.defaultIndentingStrategy;
 		this.indentingStrategies = new HashMap<>(builder.indentingStrategies);
+		this.bufferPool = (builder.pooledBuffers > 0)
+				? new ByteBufferPool(builder.pooledBuffers, INITIAL_BUFFER_CAPACITY,
+						MAXIMUM_RETAINED_BUFFER_CAPACITY)
+				: null;
 	}
 
 	/**
@@ -52,6 +65,24 @@ public final class IndentingWriterFactory {
 		return new IndentingWriter(out, indentingStrategy);
 	}
 
+	/**
+	 * Create an {@link IndentingWriter} for the specified content that writes to the
+	 * specified file using UTF-8. If this factory uses {@link Builder#pooledBuffers(int)
+	 * pooled buffers}, the content is encoded in a pooled buffer and written to the file
+	 * in a single operation when the writer is closed. Otherwise, a buffered writer for
+	 * the file is used.
+	 * @param contentId the identifier of the content
+	 * @param file the file to write to
+	 * @return a configured {@link IndentingWriter}
+	 * @throws IOException if the file cannot be opened
+	 */
+	public IndentingWriter createIndentingWriter(String contentId, Path file)
+			throws IOException {
+		Writer out = (this.bufferPool != null) ? new Utf8FileWriter(file, this.bufferPool)
+				: Files.newBufferedWriter(file);
+		return createIndentingWriter(contentId, out);
+	}
+
 	/**
 	 * Create an {@link IndentingWriterFactory} with default settings.
 	 * @return an {@link IndentingWriterFactory} with default settings
@@ -93,6 +124,8 @@ public final class IndentingWriterFactory {
 
 		private final Map<String, Function<Integer, String>> indentingStrategies = new HashMap<>();
 
+		private int pooledBuffers;
+
 		private Builder(Function<Integer, String> defaultIndentingStrategy) {
 			this.defaultIndentingStrategy = defaultIndentingStrategy;
 		}
@@ -110,6 +143,19 @@ public final class IndentingWriterFactory {
 			return this;
 		}
 
+		/**
+		 * Encode the content of the writers created for a file in pooled byte buffers,
+		 * rather than using a buffered writer per file.
+		 * @param pooledBuffers the maximum number of idle buffers to keep, or {@code 0}
+		 * to use a buffered writer per file
+		 * @return this builder
+		 * @see #createIndentingWriter(String, Path)
+		 */
+		public Builder pooledBuffers(int pooledBuffers) {
+			this.pooledBuffers = pooledBuffers;
+			return this;
+		}
+
 	}
 
 }
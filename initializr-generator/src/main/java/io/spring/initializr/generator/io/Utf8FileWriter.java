@@ -0,0 +1,181 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Writer} that encodes its content in UTF-8 into a pooled {@link ByteBuffer} and
+ * writes it to a file in a single operation when it is closed. Nothing is written to the
+ * file before that.
+ *
+ * @author Stephane Nicoll
+ */
+final class Utf8FileWriter extends Writer {
+
+	private final Path file;
+
+	private final ByteBufferPool pool;
+
+	private ByteBuffer buffer;
+
+	private char highSurrogate;
+
+	Utf8FileWriter(Path file, ByteBufferPool pool) {
+		this.file = file;
+		this.pool = pool;
+		this.buffer = pool.acquire();
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		encode((char) c);
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) throws IOException {
+		ensureOpen();
+		ensureCapacity(length);
+		int end = offset + length;
+		int i = offset;
+		if (this.highSurrogate == 0) {
+			while (i < end && chars[i] < 0x80) {
+				this.buffer.put((byte) chars[i++]);
+			}
+		}
+		while (i < end) {
+			encode(chars[i++]);
+		}
+	}
+
+	@Override
+	public void write(String string, int offset, int length) throws IOException {
+		ensureOpen();
+		ensureCapacity(length);
+		int end = offset + length;
+		int i = offset;
+		if (this.highSurrogate == 0) {
+			while (i < end && string.charAt(i) < 0x80) {
+				this.buffer.put((byte) string.charAt(i++));
+			}
+		}
+		while (i < end) {
+			encode(string.charAt(i++));
+		}
+	}
+
+	private void encode(char c) {
+		if (this.highSurrogate != 0) {
+			char high = this.highSurrogate;
+			this.highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int codePoint = Character.toCodePoint(high, c);
+				ensureCapacity(4);
+				this.buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				this.buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				this.buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				this.buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+				return;
+			}
+			encodeMalformed();
+		}
+		if (c < 0x80) {
+			ensureCapacity(1);
+			this.buffer.put((byte) c);
+		}
+		else if (c < 0x800) {
+			ensureCapacity(2);
+			this.buffer.put((byte) (0xC0 | (c >> 6)));
+			this.buffer.put((byte) (0x80 | (c & 0x3F)));
+		}
+		else if (Character.isHighSurrogate(c)) {
+			this.highSurrogate = c;
+		}
+		else if (Character.isLowSurrogate(c)) {
+			encodeMalformed();
+		}
+		else {
+			ensureCapacity(3);
+			this.buffer.put((byte) (0xE0 | (c >> 12)));
+			this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+			this.buffer.put((byte) (0x80 | (c & 0x3F)));
+		}
+	}
+
+	private void encodeMalformed() {
+		ensureCapacity(1);
+		this.buffer.put((byte) '?');
+	}
+
+	private void ensureCapacity(int length) {
+		if (this.buffer.remaining() < length) {
+			int capacity = Math.max(this.buffer.capacity() * 2,
+					this.buffer.position() + length);
+			ByteBuffer larger = ByteBuffer.allocate(capacity);
+			this.buffer.flip();
+			larger.put(this.buffer);
+			this.buffer = larger;
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (this.buffer == null) {
+			throw new IOException("Writer for '" + this.file + "' is closed");
+		}
+	}
+
+	/**
+	 * Does nothing as the content is written to the file when this writer is closed.
+	 */
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.buffer == null) {
+			return;
+		}
+		if (this.highSurrogate != 0) {
+			this.highSurrogate = 0;
+			encodeMalformed();
+		}
+		ByteBuffer content = this.buffer;
+		this.buffer = null;
+		try {
+			content.flip();
+			try (SeekableByteChannel channel = Files.newByteChannel(this.file,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				while (content.hasRemaining()) {
+					channel.write(content);
+				}
+			}
+		}
+		finally {
+			this.pool.release(content);
+		}
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * A {@link SeekableByteChannel} to the content of an {@link InMemoryNode.File}.
+ *
+ * @author Stephane Nicoll
+ */
+class InMemoryByteChannel implements SeekableByteChannel {
+
+	private final InMemoryFileSystem fileSystem;
+
+	private final InMemoryNode.File file;
+
+	private final boolean readable;
+
+	private final boolean writable;
+
+	private final boolean append;
+
+	private volatile boolean open = true;
+
+	private long position;
+
+	InMemoryByteChannel(InMemoryFileSystem fileSystem, InMemoryNode.File file,
+			boolean readable, boolean writable, boolean append) {
+		this.fileSystem = fileSystem;
+		this.file = file;
+		this.readable = readable;
+		this.writable = writable;
+		this.append = append;
+		this.position = (append) ? file.getSize() : 0;
+	}
+
+	@Override
+	public synchronized int read(ByteBuffer dst) throws IOException {
+		checkOpen();
+		if (!this.readable) {
+			throw new NonReadableChannelException();
+		}
+		int length = dst.remaining();
+		byte[] buffer = (dst.hasArray()) ? dst.array() : new byte[length];
+		int offset = (dst.hasArray()) ? dst.arrayOffset() + dst.position() : 0;
+		int read = this.file.read(this.position, buffer, offset, length);
+		if (read > 0) {
+			if (dst.hasArray()) {
+				dst.position(dst.position() + read);
+			}
+			else {
+				dst.put(buffer, 0, read);
+			}
+			this.position += read;
+		}
+		this.file.setLastAccessTime(FileTime.fromMillis(System.currentTimeMillis()));
+		return read;
+	}
+
+	@Override
+	public synchronized int write(ByteBuffer src) throws IOException {
+		checkOpen();
+		if (!this.writable) {
+			throw new NonWritableChannelException();
+		}
+		int length = src.remaining();
+		if (src.hasArray()) {
+			this.position = this.file.write(this.position, src.array(),
+					src.arrayOffset() + src.position(), length, this.append);
+			src.position(src.position() + length);
+		}
+		else {
+			byte[] buffer = new byte[length];
+			src.get(buffer);
+			this.position = this.file.write(this.position, buffer, 0, length,
+					this.append);
+		}
+		return length;
+	}
+
+	@Override
+	public synchronized long position() throws IOException {
+		checkOpen();
+		return this.position;
+	}
+
+	@Override
+	public synchronized SeekableByteChannel position(long newPosition)
+			throws IOException {
+		checkOpen();
+		if (newPosition < 0) {
+			throw new IllegalArgumentException(
+					"Position must not be negative, got " + newPosition);
+		}
+		this.position = newPosition;
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+		checkOpen();
+		return this.file.getSize();
+	}
+
+	@Override
+	public synchronized SeekableByteChannel truncate(long size) throws IOException {
+		checkOpen();
+		if (!this.writable) {
+			throw new NonWritableChannelException();
+		}
+		if (size < 0) {
+			throw new IllegalArgumentException("Size must not be negative, got " + size);
+		}
+		this.file.truncate(size);
+		this.position = Math.min(this.position, size);
+		return this;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return this.open && this.fileSystem.isOpen();
+	}
+
+	@Override
+	public void close() {
+		this.open = false;
+	}
+
+	private void checkOpen() throws ClosedChannelException {
+		if (!isOpen()) {
+			throw new ClosedChannelException();
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.IOException;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.GroupPrincipal;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
+
+/**
+ * A {@link PosixFileAttributeView} of a path of an {@link InMemoryFileSystem}. All nodes
+ * are owned by the same {@linkplain #OWNER user} and {@linkplain #GROUP group}.
+ *
+ * @author Stephane Nicoll
+ */
+class InMemoryFileAttributeView implements PosixFileAttributeView {
+
+	static final Principal OWNER = new Principal("user");
+
+	static final Principal GROUP = new Principal("group");
+
+	private final InMemoryPath path;
+
+	InMemoryFileAttributeView(InMemoryPath path) {
+		this.path = path;
+	}
+
+	@Override
+	public String name() {
+		return "posix";
+	}
+
+	@Override
+	public PosixFileAttributes readAttributes() throws IOException {
+		return new Attributes(this.path.getFileSystem().getNode(this.path));
+	}
+
+	@Override
+	public void setTimes(FileTime lastModifiedTime, FileTime lastAccessTime,
+			FileTime createTime) throws IOException {
+		InMemoryNode node = this.path.getFileSystem().getNode(this.path);
+		if (lastModifiedTime != null) {
+			node.setLastModifiedTime(lastModifiedTime);
+		}
+		if (lastAccessTime != null) {
+			node.setLastAccessTime(lastAccessTime);
+		}
+		if (createTime != null) {
+			node.setCreationTime(createTime);
+		}
+	}
+
+	@Override
+	public void setPermissions(Set<PosixFilePermission> permissions) throws IOException {
+		this.path.getFileSystem().getNode(this.path).setPermissions(permissions);
+	}
+
+	@Override
+	public UserPrincipal getOwner() {
+		return OWNER;
+	}
+
+	@Override
+	public void setOwner(UserPrincipal owner) {
+		throw new UnsupportedOperationException("Changing the owner is not supported");
+	}
+
+	@Override
+	public void setGroup(GroupPrincipal group) {
+		throw new UnsupportedOperationException("Changing the group is not supported");
+	}
+
+	/**
+	 * A snapshot of the attributes of an {@link InMemoryNode}.
+	 */
+	static class Attributes implements PosixFileAttributes {
+
+		private final InMemoryNode node;
+
+		private final FileTime lastModifiedTime;
+
+		private final FileTime lastAccessTime;
+
+		private final FileTime creationTime;
+
+		private final long size;
+
+		private final Set<PosixFilePermission> permissions;
+
+		Attributes(InMemoryNode node) {
+			this.node = node;
+			this.lastModifiedTime = node.getLastModifiedTime();
+			this.lastAccessTime = node.getLastAccessTime();
+			this.creationTime = node.getCreationTime();
+			this.size = node.getSize();
+			this.permissions = node.getPermissions();
+		}
+
+		@Override
+		public FileTime lastModifiedTime() {
+			return this.lastModifiedTime;
+		}
+
+		@Override
+		public FileTime lastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		@Override
+		public FileTime creationTime() {
+			return this.creationTime;
+		}
+
+		@Override
+		public boolean isRegularFile() {
+			return this.node instanceof InMemoryNode.File;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return this.node instanceof InMemoryNode.Directory;
+		}
+
+		@Override
+		public boolean isSymbolicLink() {
+			return false;
+		}
+
+		@Override
+		public boolean isOther() {
+			return false;
+		}
+
+		@Override
+		public long size() {
+			return this.size;
+		}
+
+		@Override
+		public Object fileKey() {
+			return this.node.getFileKey();
+		}
+
+		@Override
+		public UserPrincipal owner() {
+			return OWNER;
+		}
+
+		@Override
+		public GroupPrincipal group() {
+			return GROUP;
+		}
+
+		@Override
+		public Set<PosixFilePermission> permissions() {
+			return this.permissions;
+		}
+
+	}
+
+	/**
+	 * A fixed {@link GroupPrincipal}, used for both the owner and the group.
+	 */
+	static final class Principal implements GroupPrincipal {
+
+		private final String name;
+
+		private Principal(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String toString() {
+			return this.name;
+		}
+
+	}
+
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipalLookupService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link FileSystem} that keeps its content on the heap. Instances are fully isolated
+ * from each other and can be used concurrently: structural changes are serialized while
+ * files can be read and written in parallel. {@linkplain #close() Closing} the file
+ * system releases its content.
+ * <p>
+ * Only regular files and directories are supported. Paths use {@code /} as separator and
+ * relative paths are resolved against the single root directory.
+ *
+ * @author Stephane Nicoll
+ * @see #create()
+ */
+public final class InMemoryFileSystem extends FileSystem {
+
+	private static final Set<PosixFilePermission> DEFAULT_DIRECTORY_PERMISSIONS = PosixFilePermissions
+			.fromString("rwxr-xr-x");
+
+	private static final Set<PosixFilePermission> DEFAULT_FILE_PERMISSIONS = PosixFilePermissions
+			.fromString("rw-r--r--");
+
+	private static final Set<String> SUPPORTED_FILE_ATTRIBUTE_VIEWS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList("basic", "posix")));
+
+	private final InMemoryFileSystemProvider provider;
+
+	private final String id;
+
+	private final InMemoryNode.Directory root = new InMemoryNode.Directory(
+			DEFAULT_DIRECTORY_PERMISSIONS);
+
+	private volatile boolean open = true;
+
+	InMemoryFileSystem(InMemoryFileSystemProvider provider, String id) {
+		this.provider = provider;
+		this.id = id;
+	}
+
+	/**
+	 * Create a new, empty, {@link InMemoryFileSystem}.
+	 * @return a new file system
+	 */
+	public static InMemoryFileSystem create() {
+		return InMemoryFileSystemProvider.INSTANCE.newFileSystem();
+	}
+
+	String getId() {
+		return this.id;
+	}
+
+	@Override
+	public InMemoryFileSystemProvider provider() {
+		return this.provider;
+	}
+
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (!this.open) {
+				return;
+			}
+			this.open = false;
+			release(this.root);
+		}
+		this.provider.release(this);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return this.open;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return false;
+	}
+
+	@Override
+	public String getSeparator() {
+		return "/";
+	}
+
+	@Override
+	public Iterable<Path> getRootDirectories() {
+		return Collections.singleton(InMemoryPath.root(this));
+	}
+
+	@Override
+	public Iterable<FileStore> getFileStores() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Set<String> supportedFileAttributeViews() {
+		return SUPPORTED_FILE_ATTRIBUTE_VIEWS;
+	}
+
+	@Override
+	public Path getPath(String first, String... more) {
+		if (more.length == 0) {
+			return InMemoryPath.parse(this, first);
+		}
+		StringBuilder path = new StringBuilder(first);
+		for (String segment : more) {
+			if (!segment.isEmpty()) {
+				path.append('/').append(segment);
+			}
+		}
+		return InMemoryPath.parse(this, path.toString());
+	}
+
+	@Override
+	public PathMatcher getPathMatcher(String syntaxAndPattern) {
+		int index = syntaxAndPattern.indexOf(':');
+		if (index <= 0) {
+			throw new IllegalArgumentException(
+					"Invalid syntax and pattern '" + syntaxAndPattern + "'");
+		}
+		String syntax = syntaxAndPattern.substring(0, index);
+		String pattern = syntaxAndPattern.substring(index + 1);
+		Pattern regex;
+		if ("regex".equalsIgnoreCase(syntax)) {
+			regex = Pattern.compile(pattern);
+		}
+		else if ("glob".equalsIgnoreCase(syntax)) {
+			regex = Pattern.compile(globToRegex(pattern));
+		}
+		else {
+			throw new UnsupportedOperationException(
+					"Syntax '" + syntax + "' is not supported");
+		}
+		return (path) -> regex.matcher(path.toString()).matches();
+	}
+
+	@Override
+	public UserPrincipalLookupService getUserPrincipalLookupService() {
+		throw new UnsupportedOperationException("Principal lookup is not supported");
+	}
+
+	@Override
+	public WatchService newWatchService() {
+		throw new UnsupportedOperationException("Watching is not supported");
+	}
+
+	@Override
+	public String toString() {
+		return "InMemoryFileSystem[" + this.id + "]";
+	}
+
+	InMemoryNode getNode(InMemoryPath path) throws IOException {
+		synchronized (this) {
+			checkOpen();
+			InMemoryNode node = findNode(path.getNodeNames());
+			if (node == null) {
+				throw new NoSuchFileException(path.toString());
+			}
+			return node;
+		}
+	}
+
+	void createDirectory(InMemoryPath path, FileAttribute<?>... attributes)
+			throws IOException {
+		Set<PosixFilePermission> permissions = getPermissions(attributes,
+				DEFAULT_DIRECTORY_PERMISSIONS);
+		synchronized (this) {
+			checkOpen();
+			String[] names = path.getNodeNames();
+			if (names.length == 0) {
+				throw new FileAlreadyExistsException(path.toString());
+			}
+			InMemoryNode.Directory parent = getParentDirectory(path, names);
+			String name = names[names.length - 1];
+			if (parent.getChildren().containsKey(name)) {
+				throw new FileAlreadyExistsException(path.toString());
+			}
+			parent.getChildren().put(name, new InMemoryNode.Directory(permissions));
+			parent.touch();
+		}
+	}
+
+	SeekableByteChannel newByteChannel(InMemoryPath path,
+			Set<? extends OpenOption> options, FileAttribute<?>... attributes)
+			throws IOException {
+		boolean append = options.contains(StandardOpenOption.APPEND);
+		boolean writable = append || options.contains(StandardOpenOption.WRITE);
+		boolean readable = options.contains(StandardOpenOption.READ) || !writable;
+		if (append
+				&& (readable || options.contains(StandardOpenOption.TRUNCATE_EXISTING))) {
+			throw new IllegalArgumentException(
+					"APPEND is not allowed with READ or TRUNCATE_EXISTING");
+		}
+		if (options.contains(StandardOpenOption.DELETE_ON_CLOSE)) {
+			throw new UnsupportedOperationException("DELETE_ON_CLOSE is not supported");
+		}
+		Set<PosixFilePermission> permissions = getPermissions(attributes,
+				DEFAULT_FILE_PERMISSIONS);
+		InMemoryNode.File file;
+		synchronized (this) {
+			checkOpen();
+			String[] names = path.getNodeNames();
+			if (names.length == 0) {
+				throw new FileSystemException(path.toString(), null, "Is a directory");
+			}
+			InMemoryNode.Directory parent = getParentDirectory(path, names);
+			String name = names[names.length - 1];
+			InMemoryNode node = parent.getChildren().get(name);
+			if (node == null) {
+				if (!writable || !(options.contains(StandardOpenOption.CREATE)
+						|| options.contains(StandardOpenOption.CREATE_NEW))) {
+					throw new NoSuchFileException(path.toString());
+				}
+				node = new InMemoryNode.File(permissions);
+				parent.getChildren().put(name, node);
+				parent.touch();
+			}
+			else if (writable && options.contains(StandardOpenOption.CREATE_NEW)) {
+				throw new FileAlreadyExistsException(path.toString());
+			}
+			if (!(node instanceof InMemoryNode.File)) {
+				throw new FileSystemException(path.toString(), null, "Is a directory");
+			}
+			file = (InMemoryNode.File) node;
+		}
+		if (writable && options.contains(StandardOpenOption.TRUNCATE_EXISTING)) {
+			file.truncate(0);
+		}
+		return new InMemoryByteChannel(this, file, readable, writable, append);
+	}
+
+	DirectoryStream<Path> newDirectoryStream(InMemoryPath directory,
+			DirectoryStream.Filter<? super Path> filter) throws IOException {
+		List<Path> entries = new ArrayList<>();
+		synchronized (this) {
+			InMemoryNode node = getNode(directory);
+			if (!(node instanceof InMemoryNode.Directory)) {
+				throw new NotDirectoryException(directory.toString());
+			}
+			for (String name : ((InMemoryNode.Directory) node).getChildren().keySet()) {
+				entries.add(directory.resolve(name));
+			}
+		}
+		List<Path> filtered = new ArrayList<>(entries.size());
+		for (Path entry : entries) {
+			if (filter.accept(entry)) {
+				filtered.add(entry);
+			}
+		}
+		return new SnapshotDirectoryStream(filtered);
+	}
+
+	void delete(InMemoryPath path) throws IOException {
+		synchronized (this) {
+			checkOpen();
+			String[] names = path.getNodeNames();
+			if (names.length == 0) {
+				throw new FileSystemException(path.toString(), null,
+						"Cannot delete the root directory");
+			}
+			InMemoryNode.Directory parent = getParentDirectory(path, names);
+			String name = names[names.length - 1];
+			InMemoryNode node = parent.getChildren().get(name);
+			if (node == null) {
+				throw new NoSuchFileException(path.toString());
+			}
+			if (node instanceof InMemoryNode.Directory
+					&& !((InMemoryNode.Directory) node).getChildren().isEmpty()) {
+				throw new DirectoryNotEmptyException(path.toString());
+			}
+			parent.getChildren().remove(name);
+			parent.touch();
+			release(node);
+		}
+	}
+
+	void copy(InMemoryPath source, InMemoryPath target, boolean move,
+			CopyOption... options) throws IOException {
+		List<CopyOption> copyOptions = Arrays.asList(options);
+		synchronized (this) {
+			checkOpen();
+			String[] sourceNames = source.getNodeNames();
+			String[] targetNames = target.getNodeNames();
+			if (Arrays.equals(sourceNames, targetNames)) {
+				getNode(source);
+				return;
+			}
+			if (sourceNames.length == 0 || targetNames.length == 0) {
+				throw new FileSystemException(source.toString(), target.toString(),
+						"Cannot copy or move the root directory");
+			}
+			InMemoryNode.Directory sourceParent = getParentDirectory(source, sourceNames);
+			InMemoryNode node = sourceParent.getChildren()
+					.get(sourceNames[sourceNames.length - 1]);
+			if (node == null) {
+				throw new NoSuchFileException(source.toString());
+			}
+			if (move && node instanceof InMemoryNode.Directory && target.toAbsolutePath()
+					.normalize().startsWith(source.toAbsolutePath().normalize())) {
+				throw new FileSystemException(source.toString(), target.toString(),
+						"Cannot move a directory inside itself");
+			}
+			InMemoryNode.Directory targetParent = getParentDirectory(target, targetNames);
+			String targetName = targetNames[targetNames.length - 1];
+			InMemoryNode existing = targetParent.getChildren().get(targetName);
+			if (existing != null) {
+				if (!copyOptions.contains(StandardCopyOption.REPLACE_EXISTING)) {
+					throw new FileAlreadyExistsException(target.toString());
+				}
+				if (existing instanceof InMemoryNode.Directory
+						&& !((InMemoryNode.Directory) existing).getChildren().isEmpty()) {
+					throw new DirectoryNotEmptyException(target.toString());
+				}
+			}
+			InMemoryNode copy = (move) ? node : copyNode(node,
+					copyOptions.contains(StandardCopyOption.COPY_ATTRIBUTES));
+			if (move) {
+				sourceParent.getChildren().remove(sourceNames[sourceNames.length - 1]);
+				sourceParent.touch();
+			}
+			targetParent.getChildren().put(targetName, copy);
+			targetParent.touch();
+		}
+	}
+
+	private InMemoryNode copyNode(InMemoryNode node, boolean copyAttributes) {
+		Set<PosixFilePermission> permissions = node.getPermissions();
+		InMemoryNode copy;
+		if (node instanceof InMemoryNode.File) {
+			copy = ((InMemoryNode.File) node)
+					.copy((copyAttributes) ? permissions : DEFAULT_FILE_PERMISSIONS);
+		}
+		else {
+			copy = new InMemoryNode.Directory(
+					(copyAttributes) ? permissions : DEFAULT_DIRECTORY_PERMISSIONS);
+		}
+		if (copyAttributes) {
+			copy.setCreationTime(node.getCreationTime());
+			copy.setLastModifiedTime(node.getLastModifiedTime());
+			copy.setLastAccessTime(node.getLastAccessTime());
+		}
+		return copy;
+	}
+
+	private InMemoryNode findNode(String[] names) {
+		InMemoryNode node = this.root;
+		for (String name : names) {
+			if (!(node instanceof InMemoryNode.Directory)) {
+				return null;
+			}
+			node = ((InMemoryNode.Directory) node).getChildren().get(name);
+		}
+		return node;
+	}
+
+	private InMemoryNode.Directory getParentDirectory(InMemoryPath path, String[] names)
+			throws IOException {
+		InMemoryNode parent = findNode(Arrays.copyOf(names, names.length - 1));
+		if (parent == null) {
+			throw new NoSuchFileException(path.toString(), null,
+					"Parent directory does not exist");
+		}
+		if (!(parent instanceof InMemoryNode.Directory)) {
+			throw new NotDirectoryException(path.toString());
+		}
+		return (InMemoryNode.Directory) parent;
+	}
+
+	private void release(InMemoryNode node) {
+		if (node instanceof InMemoryNode.File) {
+			((InMemoryNode.File) node).release();
+		}
+		else {
+			InMemoryNode.Directory directory = (InMemoryNode.Directory) node;
+			directory.getChildren().values().forEach(this::release);
+			directory.getChildren().clear();
+		}
+	}
+
+	private void checkOpen() {
+		if (!this.open) {
+			throw new ClosedFileSystemException();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<PosixFilePermission> getPermissions(FileAttribute<?>[] attributes,
+			Set<PosixFilePermission> defaultPermissions) {
+		Set<PosixFilePermission> permissions = defaultPermissions;
+		for (FileAttribute<?> attribute : attributes) {
+			if (!"posix:permissions".equals(attribute.name())) {
+				throw new UnsupportedOperationException(
+						"Attribute '" + attribute.name() + "' is not supported");
+			}
+			permissions = (Set<PosixFilePermission>) attribute.value();
+		}
+		return permissions;
+	}
+
+	private static String globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		boolean inGroup = false;
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			if (c == '*') {
+				boolean crossDirectories = i + 1 < glob.length()
+						&& glob.charAt(i + 1) == '*';
+				regex.append((crossDirectories) ? ".*" : "[^/]*");
+				i += (crossDirectories) ? 1 : 0;
+			}
+			else if (c == '?') {
+				regex.append("[^/]");
+			}
+			else if (c == '{') {
+				regex.append("(?:");
+				inGroup = true;
+			}
+			else if (c == '}' && inGroup) {
+				regex.append(")");
+				inGroup = false;
+			}
+			else if (c == ',' && inGroup) {
+				regex.append("|");
+			}
+			else if (c == '\\' && i + 1 < glob.length()) {
+				regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+			}
+			else {
+				regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return regex.toString();
+	}
+
+	/**
+	 * A {@link DirectoryStream} over a snapshot of the entries of a directory.
+	 */
+	private static final class SnapshotDirectoryStream implements DirectoryStream<Path> {
+
+		private final List<Path> entries;
+
+		private boolean iterated;
+
+		private boolean closed;
+
+		private SnapshotDirectoryStream(List<Path> entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		public Iterator<Path> iterator() {
+			if (this.iterated || this.closed) {
+				throw new IllegalStateException("Iterator already obtained or closed");
+			}
+			this.iterated = true;
+			return Collections.unmodifiableList(this.entries).iterator();
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AccessMode;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link FileSystemProvider} of {@link InMemoryFileSystem} instances, using the
+ * {@value #SCHEME} URI scheme. A file system is identified by a {@code memory:<id>} URI
+ * and paths by {@code memory:<id>:<absolute path>} URIs. File systems are tracked until
+ * they are {@linkplain InMemoryFileSystem#close() closed}.
+ *
+ * @author Stephane Nicoll
+ */
+public class InMemoryFileSystemProvider extends FileSystemProvider {
+
+	/**
+	 * The URI scheme of in-memory file systems.
+	 */
+	public static final String SCHEME = "memory";
+
+	static final InMemoryFileSystemProvider INSTANCE = new InMemoryFileSystemProvider();
+
+	private final Map<String, InMemoryFileSystem> fileSystems = new ConcurrentHashMap<>();
+
+	private final AtomicLong counter = new AtomicLong();
+
+	@Override
+	public String getScheme() {
+		return SCHEME;
+	}
+
+	/**
+	 * Create a new {@link InMemoryFileSystem} with a generated id.
+	 * @return a new file system
+	 */
+	public InMemoryFileSystem newFileSystem() {
+		while (true) {
+			String id = "fs-" + this.counter.incrementAndGet();
+			InMemoryFileSystem fileSystem = new InMemoryFileSystem(this, id);
+			if (this.fileSystems.putIfAbsent(id, fileSystem) == null) {
+				return fileSystem;
+			}
+		}
+	}
+
+	@Override
+	public InMemoryFileSystem newFileSystem(URI uri, Map<String, ?> env) {
+		String id = getFileSystemId(uri);
+		InMemoryFileSystem fileSystem = new InMemoryFileSystem(this, id);
+		if (this.fileSystems.putIfAbsent(id, fileSystem) != null) {
+			throw new FileSystemAlreadyExistsException(id);
+		}
+		return fileSystem;
+	}
+
+	@Override
+	public InMemoryFileSystem getFileSystem(URI uri) {
+		String id = getFileSystemId(uri);
+		InMemoryFileSystem fileSystem = this.fileSystems.get(id);
+		if (fileSystem == null) {
+			throw new FileSystemNotFoundException(id);
+		}
+		return fileSystem;
+	}
+
+	@Override
+	public Path getPath(URI uri) {
+		String schemeSpecificPart = uri.getSchemeSpecificPart();
+		int index = schemeSpecificPart.indexOf(':');
+		if (index == -1) {
+			throw new IllegalArgumentException("URI '" + uri + "' has no path");
+		}
+		return getFileSystem(uri).getPath(schemeSpecificPart.substring(index + 1));
+	}
+
+	@Override
+	public SeekableByteChannel newByteChannel(Path path,
+			Set<? extends OpenOption> options, FileAttribute<?>... attrs)
+			throws IOException {
+		InMemoryPath inMemoryPath = checkPath(path);
+		return inMemoryPath.getFileSystem().newByteChannel(inMemoryPath, options, attrs);
+	}
+
+	@Override
+	public DirectoryStream<Path> newDirectoryStream(Path dir,
+			DirectoryStream.Filter<? super Path> filter) throws IOException {
+		InMemoryPath directory = checkPath(dir);
+		return directory.getFileSystem().newDirectoryStream(directory, filter);
+	}
+
+	@Override
+	public void createDirectory(Path dir, FileAttribute<?>... attrs) throws IOException {
+		InMemoryPath directory = checkPath(dir);
+		directory.getFileSystem().createDirectory(directory, attrs);
+	}
+
+	@Override
+	public void delete(Path path) throws IOException {
+		InMemoryPath inMemoryPath = checkPath(path);
+		inMemoryPath.getFileSystem().delete(inMemoryPath);
+	}
+
+	@Override
+	public void copy(Path source, Path target, CopyOption... options) throws IOException {
+		copyOrMove(source, target, false, options);
+	}
+
+	@Override
+	public void move(Path source, Path target, CopyOption... options) throws IOException {
+		copyOrMove(source, target, true, options);
+	}
+
+	private void copyOrMove(Path source, Path target, boolean move, CopyOption... options)
+			throws IOException {
+		InMemoryPath sourcePath = checkPath(source);
+		InMemoryPath targetPath = checkPath(target);
+		if (sourcePath.getFileSystem() != targetPath.getFileSystem()) {
+			throw new ProviderMismatchException(
+					"Cannot copy or move across in-memory file systems");
+		}
+		sourcePath.getFileSystem().copy(sourcePath, targetPath, move, options);
+	}
+
+	@Override
+	public boolean isSameFile(Path path, Path path2) throws IOException {
+		if (path.equals(path2)) {
+			return true;
+		}
+		if (!(path2 instanceof InMemoryPath)) {
+			return false;
+		}
+		InMemoryPath first = checkPath(path);
+		InMemoryPath second = (InMemoryPath) path2;
+		return first.getFileSystem() == second.getFileSystem() && first.getFileSystem()
+				.getNode(first) == second.getFileSystem().getNode(second);
+	}
+
+	@Override
+	public boolean isHidden(Path path) {
+		Path fileName = checkPath(path).getFileName();
+		return fileName != null && fileName.toString().startsWith(".");
+	}
+
+	@Override
+	public FileStore getFileStore(Path path) {
+		throw new UnsupportedOperationException("File stores are not supported");
+	}
+
+	@Override
+	public void checkAccess(Path path, AccessMode... modes) throws IOException {
+		InMemoryPath inMemoryPath = checkPath(path);
+		Set<PosixFilePermission> permissions = inMemoryPath.getFileSystem()
+				.getNode(inMemoryPath).getPermissions();
+		for (AccessMode mode : modes) {
+			if (!permissions.contains(getOwnerPermission(mode))) {
+				throw new AccessDeniedException(path.toString());
+			}
+		}
+	}
+
+	private PosixFilePermission getOwnerPermission(AccessMode mode) {
+		switch (mode) {
+		case READ:
+			return PosixFilePermission.OWNER_READ;
+		case WRITE:
+			return PosixFilePermission.OWNER_WRITE;
+		default:
+			return PosixFilePermission.OWNER_EXECUTE;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V extends FileAttributeView> V getFileAttributeView(Path path, Class<V> type,
+			LinkOption... options) {
+		if (type == BasicFileAttributeView.class
+				|| type == PosixFileAttributeView.class) {
+			return (V) new InMemoryFileAttributeView(checkPath(path));
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> type,
+			LinkOption... options) throws IOException {
+		if (type == BasicFileAttributes.class || type == PosixFileAttributes.class) {
+			return (A) new InMemoryFileAttributeView(checkPath(path)).readAttributes();
+		}
+		throw new UnsupportedOperationException(
+				"Attributes of type " + type.getName() + " are not supported");
+	}
+
+	@Override
+	public Map<String, Object> readAttributes(Path path, String attributes,
+			LinkOption... options) throws IOException {
+		int index = attributes.indexOf(':');
+		String view = (index != -1) ? attributes.substring(0, index) : "basic";
+		String names = attributes.substring(index + 1);
+		if (!"basic".equals(view) && !"posix".equals(view)) {
+			throw new UnsupportedOperationException(
+					"View '" + view + "' is not supported");
+		}
+		PosixFileAttributes posixAttributes = readAttributes(path,
+				PosixFileAttributes.class);
+		Map<String, Object> all = new LinkedHashMap<>();
+		all.put("lastModifiedTime", posixAttributes.lastModifiedTime());
+		all.put("lastAccessTime", posixAttributes.lastAccessTime());
+		all.put("creationTime", posixAttributes.creationTime());
+		all.put("size", posixAttributes.size());
+		all.put("isRegularFile", posixAttributes.isRegularFile());
+		all.put("isDirectory", posixAttributes.isDirectory());
+		all.put("isSymbolicLink", posixAttributes.isSymbolicLink());
+		all.put("isOther", posixAttributes.isOther());
+		all.put("fileKey", posixAttributes.fileKey());
+		if ("posix".equals(view)) {
+			all.put("permissions", posixAttributes.permissions());
+			all.put("owner", posixAttributes.owner());
+			all.put("group", posixAttributes.group());
+		}
+		if ("*".equals(names)) {
+			return all;
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (String name : names.split(",")) {
+			if ("*".equals(name)) {
+				result.putAll(all);
+			}
+			else if (all.containsKey(name)) {
+				result.put(name, all.get(name));
+			}
+			else {
+				throw new IllegalArgumentException(
+						"Attribute '" + name + "' is not supported by view " + view);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void setAttribute(Path path, String attribute, Object value,
+			LinkOption... options) throws IOException {
+		int index = attribute.indexOf(':');
+		String name = attribute.substring(index + 1);
+		InMemoryFileAttributeView view = new InMemoryFileAttributeView(checkPath(path));
+		switch (name) {
+		case "lastModifiedTime":
+			view.setTimes((FileTime) value, null, null);
+			break;
+		case "lastAccessTime":
+			view.setTimes(null, (FileTime) value, null);
+			break;
+		case "creationTime":
+			view.setTimes(null, null, (FileTime) value);
+			break;
+		case "permissions":
+			view.setPermissions((Set<PosixFilePermission>) value);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Attribute '" + attribute + "' cannot be set");
+		}
+	}
+
+	void release(InMemoryFileSystem fileSystem) {
+		this.fileSystems.remove(fileSystem.getId(), fileSystem);
+	}
+
+	private String getFileSystemId(URI uri) {
+		if (!SCHEME.equalsIgnoreCase(uri.getScheme())) {
+			throw new IllegalArgumentException(
+					"URI scheme must be '" + SCHEME + "', got '" + uri.getScheme() + "'");
+		}
+		String id = uri.getSchemeSpecificPart();
+		int index = id.indexOf(':');
+		return (index != -1) ? id.substring(0, index) : id;
+	}
+
+	private InMemoryPath checkPath(Path path) {
+		if (!(path instanceof InMemoryPath)) {
+			throw new ProviderMismatchException(
+					"Path '" + path + "' is not an in-memory path");
+		}
+		return (InMemoryPath) path;
+	}
+
+}
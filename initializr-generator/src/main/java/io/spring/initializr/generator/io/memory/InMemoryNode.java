@@ -0,0 +1,195 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A node of an {@link InMemoryFileSystem}, either a {@link Directory} or a {@link File}.
+ * Structural changes are guarded by the owning file system while the content of a file is
+ * guarded by the file itself.
+ *
+ * @author Stephane Nicoll
+ */
+abstract class InMemoryNode {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final Object fileKey = new Object();
+
+	private volatile FileTime creationTime;
+
+	private volatile FileTime lastModifiedTime;
+
+	private volatile FileTime lastAccessTime;
+
+	private volatile Set<PosixFilePermission> permissions;
+
+	InMemoryNode(Set<PosixFilePermission> permissions) {
+		FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+		this.creationTime = now;
+		this.lastModifiedTime = now;
+		this.lastAccessTime = now;
+		this.permissions = copy(permissions);
+	}
+
+	Object getFileKey() {
+		return this.fileKey;
+	}
+
+	FileTime getCreationTime() {
+		return this.creationTime;
+	}
+
+	void setCreationTime(FileTime creationTime) {
+		this.creationTime = creationTime;
+	}
+
+	FileTime getLastModifiedTime() {
+		return this.lastModifiedTime;
+	}
+
+	void setLastModifiedTime(FileTime lastModifiedTime) {
+		this.lastModifiedTime = lastModifiedTime;
+	}
+
+	FileTime getLastAccessTime() {
+		return this.lastAccessTime;
+	}
+
+	void setLastAccessTime(FileTime lastAccessTime) {
+		this.lastAccessTime = lastAccessTime;
+	}
+
+	Set<PosixFilePermission> getPermissions() {
+		return copy(this.permissions);
+	}
+
+	void setPermissions(Set<PosixFilePermission> permissions) {
+		this.permissions = copy(permissions);
+	}
+
+	void touch() {
+		this.lastModifiedTime = FileTime.fromMillis(System.currentTimeMillis());
+	}
+
+	abstract long getSize();
+
+	private static Set<PosixFilePermission> copy(Set<PosixFilePermission> permissions) {
+		return (permissions.isEmpty()) ? EnumSet.noneOf(PosixFilePermission.class)
+				: EnumSet.copyOf(permissions);
+	}
+
+	/**
+	 * A directory holding its children by name.
+	 */
+	static class Directory extends InMemoryNode {
+
+		private final Map<String, InMemoryNode> children = new TreeMap<>();
+
+		Directory(Set<PosixFilePermission> permissions) {
+			super(permissions);
+		}
+
+		Map<String, InMemoryNode> getChildren() {
+			return this.children;
+		}
+
+		@Override
+		long getSize() {
+			return 0;
+		}
+
+	}
+
+	/**
+	 * A regular file holding its content on the heap.
+	 */
+	static class File extends InMemoryNode {
+
+		private byte[] content = EMPTY;
+
+		private int size;
+
+		File(Set<PosixFilePermission> permissions) {
+			super(permissions);
+		}
+
+		@Override
+		synchronized long getSize() {
+			return this.size;
+		}
+
+		synchronized void truncate(long size) {
+			if (size < this.size) {
+				this.size = (int) size;
+				touch();
+			}
+		}
+
+		synchronized int read(long position, byte[] target, int offset, int length) {
+			if (position >= this.size) {
+				return -1;
+			}
+			int count = (int) Math.min(length, this.size - position);
+			System.arraycopy(this.content, (int) position, target, offset, count);
+			return count;
+		}
+
+		synchronized long write(long position, byte[] source, int offset, int length,
+				boolean append) {
+			long start = (append) ? this.size : position;
+			long end = start + length;
+			if (end > Integer.MAX_VALUE) {
+				throw new IllegalStateException(
+						"In-memory files are limited to 2GB, got " + end);
+			}
+			if (end > this.content.length) {
+				int capacity = (int) Math.max(end,
+						Math.min(Integer.MAX_VALUE, this.content.length * 2L));
+				this.content = Arrays.copyOf(this.content, Math.max(capacity, 256));
+			}
+			if (start > this.size) {
+				Arrays.fill(this.content, this.size, (int) start, (byte) 0);
+			}
+			System.arraycopy(source, offset, this.content, (int) start, length);
+			this.size = Math.max(this.size, (int) end);
+			touch();
+			return end;
+		}
+
+		synchronized File copy(Set<PosixFilePermission> permissions) {
+			File copy = new File(permissions);
+			copy.content = Arrays.copyOf(this.content, this.size);
+			copy.size = this.size;
+			return copy;
+		}
+
+		synchronized void release() {
+			this.content = EMPTY;
+			this.size = 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Path} of an {@link InMemoryFileSystem}. Names are separated by {@code /} and
+ * the working directory of relative paths is the root of the file system.
+ *
+ * @author Stephane Nicoll
+ */
+final class InMemoryPath implements Path {
+
+	private static final String[] NO_NAMES = new String[0];
+
+	private final InMemoryFileSystem fileSystem;
+
+	private final boolean absolute;
+
+	private final String[] names;
+
+	private InMemoryPath(InMemoryFileSystem fileSystem, boolean absolute,
+			String[] names) {
+		this.fileSystem = fileSystem;
+		this.absolute = absolute;
+		this.names = names;
+	}
+
+	static InMemoryPath parse(InMemoryFileSystem fileSystem, String path) {
+		if (path.indexOf('\u0000') != -1) {
+			throw new InvalidPathException(path, "Nul character not allowed");
+		}
+		List<String> names = new ArrayList<>();
+		int start = 0;
+		while (start <= path.length()) {
+			int end = path.indexOf('/', start);
+			if (end == -1) {
+				end = path.length();
+			}
+			if (end > start) {
+				names.add(path.substring(start, end));
+			}
+			start = end + 1;
+		}
+		return new InMemoryPath(fileSystem, path.startsWith("/"),
+				names.toArray(NO_NAMES));
+	}
+
+	static InMemoryPath root(InMemoryFileSystem fileSystem) {
+		return new InMemoryPath(fileSystem, true, NO_NAMES);
+	}
+
+	/**
+	 * Return the names of the absolute and normalized form of this path, suitable to look
+	 * up a node from the root of the file system.
+	 * @return the names of the node this path points to
+	 */
+	String[] getNodeNames() {
+		return ((InMemoryPath) toAbsolutePath().normalize()).names;
+	}
+
+	@Override
+	public InMemoryFileSystem getFileSystem() {
+		return this.fileSystem;
+	}
+
+	@Override
+	public boolean isAbsolute() {
+		return this.absolute;
+	}
+
+	@Override
+	public Path getRoot() {
+		return (this.absolute) ? root(this.fileSystem) : null;
+	}
+
+	@Override
+	public Path getFileName() {
+		if (this.names.length == 0) {
+			return null;
+		}
+		return relative(this.names[this.names.length - 1]);
+	}
+
+	@Override
+	public Path getParent() {
+		if (this.names.length == 0 || (this.names.length == 1 && !this.absolute)) {
+			return null;
+		}
+		return new InMemoryPath(this.fileSystem, this.absolute,
+				Arrays.copyOf(this.names, this.names.length - 1));
+	}
+
+	@Override
+	public int getNameCount() {
+		return this.names.length;
+	}
+
+	@Override
+	public Path getName(int index) {
+		if (index < 0 || index >= this.names.length) {
+			throw new IllegalArgumentException("Invalid name index " + index);
+		}
+		return relative(this.names[index]);
+	}
+
+	@Override
+	public Path subpath(int beginIndex, int endIndex) {
+		if (beginIndex < 0 || beginIndex >= endIndex || endIndex > this.names.length) {
+			throw new IllegalArgumentException(
+					"Invalid sub path range " + beginIndex + "-" + endIndex);
+		}
+		return new InMemoryPath(this.fileSystem, false,
+				Arrays.copyOfRange(this.names, beginIndex, endIndex));
+	}
+
+	@Override
+	public boolean startsWith(Path other) {
+		InMemoryPath path = checkPath(other);
+		if (path.absolute != this.absolute || path.names.length > this.names.length) {
+			return false;
+		}
+		for (int i = 0; i < path.names.length; i++) {
+			if (!path.names[i].equals(this.names[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean startsWith(String other) {
+		return startsWith(parse(this.fileSystem, other));
+	}
+
+	@Override
+	public boolean endsWith(Path other) {
+		InMemoryPath path = checkPath(other);
+		if (path.absolute) {
+			return equals(path);
+		}
+		int offset = this.names.length - path.names.length;
+		if (offset < 0) {
+			return false;
+		}
+		for (int i = 0; i < path.names.length; i++) {
+			if (!path.names[i].equals(this.names[offset + i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean endsWith(String other) {
+		return endsWith(parse(this.fileSystem, other));
+	}
+
+	@Override
+	public Path normalize() {
+		List<String> normalized = new ArrayList<>(this.names.length);
+		for (String name : this.names) {
+			if (".".equals(name)) {
+				continue;
+			}
+			if ("..".equals(name)) {
+				int last = normalized.size() - 1;
+				if (last >= 0 && !"..".equals(normalized.get(last))) {
+					normalized.remove(last);
+					continue;
+				}
+				if (this.absolute) {
+					continue;
+				}
+			}
+			normalized.add(name);
+		}
+		return new InMemoryPath(this.fileSystem, this.absolute,
+				normalized.toArray(NO_NAMES));
+	}
+
+	@Override
+	public Path resolve(Path other) {
+		InMemoryPath path = checkPath(other);
+		if (path.absolute) {
+			return path;
+		}
+		if (path.names.length == 0) {
+			return this;
+		}
+		String[] names = Arrays.copyOf(this.names, this.names.length + path.names.length);
+		System.arraycopy(path.names, 0, names, this.names.length, path.names.length);
+		return new InMemoryPath(this.fileSystem, this.absolute, names);
+	}
+
+	@Override
+	public Path resolve(String other) {
+		return resolve(parse(this.fileSystem, other));
+	}
+
+	@Override
+	public Path resolveSibling(Path other) {
+		Path parent = getParent();
+		return (parent != null) ? parent.resolve(other) : checkPath(other);
+	}
+
+	@Override
+	public Path resolveSibling(String other) {
+		return resolveSibling(parse(this.fileSystem, other));
+	}
+
+	@Override
+	public Path relativize(Path other) {
+		InMemoryPath path = checkPath(other);
+		if (path.absolute != this.absolute) {
+			throw new IllegalArgumentException(
+					"Cannot relativize '" + other + "' against '" + this + "'");
+		}
+		int common = 0;
+		while (common < this.names.length && common < path.names.length
+				&& this.names[common].equals(path.names[common])) {
+			common++;
+		}
+		List<String> names = new ArrayList<>();
+		for (int i = common; i < this.names.length; i++) {
+			names.add("..");
+		}
+		names.addAll(Arrays.asList(path.names).subList(common, path.names.length));
+		return new InMemoryPath(this.fileSystem, false, names.toArray(NO_NAMES));
+	}
+
+	@Override
+	public URI toUri() {
+		try {
+			return new URI(InMemoryFileSystemProvider.SCHEME,
+					this.fileSystem.getId() + ":" + toAbsolutePath(), null);
+		}
+		catch (URISyntaxException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Override
+	public Path toAbsolutePath() {
+		return (this.absolute) ? this : root(this.fileSystem).resolve(this);
+	}
+
+	@Override
+	public Path toRealPath(LinkOption... options) throws IOException {
+		Path realPath = toAbsolutePath().normalize();
+		this.fileSystem.provider().checkAccess(realPath);
+		return realPath;
+	}
+
+	@Override
+	public File toFile() {
+		throw new UnsupportedOperationException(
+				"In-memory paths cannot be converted to a File");
+	}
+
+	@Override
+	public WatchKey register(WatchService watcher, WatchEvent.Kind<?>[] events,
+			WatchEvent.Modifier... modifiers) {
+		throw new UnsupportedOperationException("Watching is not supported");
+	}
+
+	@Override
+	public WatchKey register(WatchService watcher, WatchEvent.Kind<?>... events) {
+		throw new UnsupportedOperationException("Watching is not supported");
+	}
+
+	@Override
+	public Iterator<Path> iterator() {
+		List<Path> paths = new ArrayList<>(this.names.length);
+		for (String name : this.names) {
+			paths.add(relative(name));
+		}
+		return paths.iterator();
+	}
+
+	@Override
+	public int compareTo(Path other) {
+		return toString().compareTo(checkPath(other).toString());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		InMemoryPath other = (InMemoryPath) obj;
+		return this.fileSystem == other.fileSystem && this.absolute == other.absolute
+				&& Arrays.equals(this.names, other.names);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Boolean.hashCode(this.absolute) + Arrays.hashCode(this.names);
+	}
+
+	@Override
+	public String toString() {
+		String path = String.join("/", this.names);
+		return (this.absolute) ? "/" + path : path;
+	}
+
+	private InMemoryPath relative(String name) {
+		return new InMemoryPath(this.fileSystem, false, new String[] { name });
+	}
+
+	private InMemoryPath checkPath(Path path) {
+		if (!(path instanceof InMemoryPath)
+				|| ((InMemoryPath) path).fileSystem != this.fileSystem) {
+			throw new ProviderMismatchException(
+					"Path '" + path + "' is not a path of " + this.fileSystem);
+		}
+		return (InMemoryPath) path;
+	}
+
+}
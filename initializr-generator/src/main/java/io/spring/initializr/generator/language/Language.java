@@ -16,10 +16,6 @@
 
 package io.spring.initializr.generator.language;
 
-import java.util.Objects;
-
-import org.springframework.core.io.support.SpringFactoriesLoader;
-
 /**
  * A language in which a generated project can be written.
  *
@@ -29,14 +25,25 @@ public interface Language {
 
 	String id();
 
+	/**
+	 * Return the {@link Language} with the specified id. The registered
+	 * {@link LanguageFactory language factories} are only loaded once and the same
+	 * instance is returned for a given id.
+	 * @param id the id of the language
+	 * @return the language
+	 * @throws IllegalStateException if the id is not recognized
+	 */
 	static Language forId(String id) {
-		return SpringFactoriesLoader
-				.loadFactories(LanguageFactory.class,
-						LanguageFactory.class.getClassLoader())
-				.stream().map((factory) -> factory.createLanguage(id))
-				.filter(Objects::nonNull).findFirst()
-				.orElseThrow(() -> new IllegalStateException(
-						"Unrecognized language id '" + id + "'"));
+		return LanguageRegistry.INSTANCE.get(id);
+	}
+
+	/**
+	 * Load the registered {@link LanguageFactory language factories} again using the
+	 * specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 */
+	static void reloadFactories(ClassLoader classLoader) {
+		LanguageRegistry.INSTANCE.reload(classLoader);
 	}
 
 }
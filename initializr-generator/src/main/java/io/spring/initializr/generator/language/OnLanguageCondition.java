@@ -18,6 +18,7 @@ package io.spring.initializr.generator.language;
 
 import io.spring.initializr.generator.ProjectDescription;
 import io.spring.initializr.generator.condition.ProjectGenerationCondition;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
 
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -33,14 +34,10 @@ class OnLanguageCondition extends ProjectGenerationCondition {
 	@Override
 	protected boolean matches(ProjectDescription projectDescription,
 			ConditionContext context, AnnotatedTypeMetadata metadata) {
-		if (projectDescription.getLanguage() == null) {
-			return false;
-		}
 		String languageId = (String) metadata
 				.getAllAnnotationAttributes(ConditionalOnLanguage.class.getName())
 				.getFirst("value");
-		Language language = Language.forId(languageId);
-		return projectDescription.getLanguage().id().equals(language.id());
+		return ProjectGenerationConditions.isLanguage(projectDescription, languageId);
 	}
 
 }
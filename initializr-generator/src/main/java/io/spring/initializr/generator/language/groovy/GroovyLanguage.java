@@ -25,7 +25,10 @@ import io.spring.initializr.generator.language.Language;
  */
 public class GroovyLanguage implements Language {
 
-	static final String ID = "groovy";
+	/**
+	 * The id of the Groovy language.
+	 */
+	public static final String ID = "groovy";
 
 	@Override
 	public String id() {
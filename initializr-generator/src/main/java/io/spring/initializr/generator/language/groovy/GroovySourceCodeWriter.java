@@ -85,7 +85,7 @@ public class GroovySourceCodeWriter implements SourceCodeWriter<GroovySourceCode
 		Path output = fileForCompilationUnit(directory, compilationUnit);
 		Files.createDirectories(output.getParent());
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("groovy", Files.newBufferedWriter(output))) {
+				.createIndentingWriter("groovy", output)) {
 			writer.println("package " + compilationUnit.getPackageName());
 			writer.println();
 			Set<String> imports = determineImports(compilationUnit);
@@ -25,7 +25,10 @@ import io.spring.initializr.generator.language.Language;
  */
 public class JavaLanguage implements Language {
 
-	static final String ID = "java";
+	/**
+	 * The id of the Java language.
+	 */
+	public static final String ID = "java";
 
 	@Override
 	public String id() {
@@ -86,7 +86,7 @@ public class JavaSourceCodeWriter implements SourceCodeWriter<JavaSourceCode> {
 		Path output = fileForCompilationUnit(directory, compilationUnit);
 		Files.createDirectories(output.getParent());
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("java", Files.newBufferedWriter(output))) {
+				.createIndentingWriter("java", output)) {
 			writer.println("package " + compilationUnit.getPackageName() + ";");
 			writer.println();
 			Set<String> imports = determineImports(compilationUnit);
@@ -25,7 +25,10 @@ import io.spring.initializr.generator.language.Language;
  */
 public class KotlinLanguage implements Language {
 
-	static final String ID = "kotlin";
+	/**
+	 * The id of the Kotlin language.
+	 */
+	public static final String ID = "kotlin";
 
 	@Override
 	public String id() {
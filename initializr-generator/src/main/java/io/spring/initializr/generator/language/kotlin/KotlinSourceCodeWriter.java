@@ -66,7 +66,7 @@ public class KotlinSourceCodeWriter implements SourceCodeWriter<KotlinSourceCode
 		Path output = fileForCompilationUnit(directory, compilationUnit);
 		Files.createDirectories(output.getParent());
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("kotlin", Files.newBufferedWriter(output))) {
+				.createIndentingWriter("kotlin", output)) {
 			writer.println("package " + compilationUnit.getPackageName());
 			writer.println();
 			Set<String> imports = determineImports(compilationUnit);
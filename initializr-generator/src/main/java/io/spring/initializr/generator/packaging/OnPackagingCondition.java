@@ -18,6 +18,7 @@ package io.spring.initializr.generator.packaging;
 
 import io.spring.initializr.generator.ProjectDescription;
 import io.spring.initializr.generator.condition.ProjectGenerationCondition;
+import io.spring.initializr.generator.condition.ProjectGenerationConditions;
 
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -33,14 +34,10 @@ class OnPackagingCondition extends ProjectGenerationCondition {
 	@Override
 	protected boolean matches(ProjectDescription projectDescription,
 			ConditionContext context, AnnotatedTypeMetadata metadata) {
-		if (projectDescription.getPackaging() == null) {
-			return false;
-		}
 		String packagingId = (String) metadata
 				.getAllAnnotationAttributes(ConditionalOnPackaging.class.getName())
 				.getFirst("value");
-		Packaging packaging = Packaging.forId(packagingId);
-		return projectDescription.getPackaging().id().equals(packaging.id());
+		return ProjectGenerationConditions.isPackaging(projectDescription, packagingId);
 	}
 
 }
@@ -16,10 +16,6 @@
 
 package io.spring.initializr.generator.packaging;
 
-import java.util.Objects;
-
-import org.springframework.core.io.support.SpringFactoriesLoader;
-
 /**
  * Application packaging, such as a jar file or a war file.
  *
@@ -29,13 +25,25 @@ public interface Packaging {
 
 	String id();
 
+	/**
+	 * Return the {@link Packaging} with the specified id. The registered
+	 * {@link PackagingFactory packaging factories} are only loaded once and the same
+	 * instance is returned for a given id.
+	 * @param id the id of the packaging
+	 * @return the packaging
+	 * @throws IllegalStateException if the id is not recognized
+	 */
 	static Packaging forId(String id) {
-		return SpringFactoriesLoader
-				.loadFactories(PackagingFactory.class, Packaging.class.getClassLoader())
-				.stream().map((factory) -> factory.createPackaging(id))
-				.filter(Objects::nonNull).findFirst()
-				.orElseThrow(() -> new IllegalStateException(
-						"Unrecognized packaging id '" + id + "'"));
+		return PackagingRegistry.INSTANCE.get(id);
+	}
+
+	/**
+	 * Load the registered {@link PackagingFactory packaging factories} again using the
+	 * specified {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 */
+	static void reloadFactories(ClassLoader classLoader) {
+		PackagingRegistry.INSTANCE.reload(classLoader);
 	}
 
 }
@@ -25,7 +25,10 @@ import io.spring.initializr.generator.packaging.Packaging;
  */
 public class JarPackaging implements Packaging {
 
-	static final String ID = "jar";
+	/**
+	 * The id of the jar packaging.
+	 */
+	public static final String ID = "jar";
 
 	@Override
 	public String id() {
@@ -25,7 +25,10 @@ import io.spring.initializr.generator.packaging.Packaging;
  */
 public class WarPackaging implements Packaging {
 
-	static final String ID = "war";
+	/**
+	 * The id of the war packaging.
+	 */
+	public static final String ID = "war";
 
 	@Override
 	public String id() {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.Assert;
+
+/**
+ * A registry of the instances that factories registered in
+ * {@code META-INF/spring.factories} create for a given id.
+ * <p>
+ * Factories are loaded once, when the registry is created, rather than on every lookup.
+ * The instance that the first matching factory creates for an id is kept so that the same
+ * canonical instance is returned for that id afterwards. Use {@link #reload(ClassLoader)}
+ * to load the factories again, for instance when the class loader changes.
+ *
+ * @param <F> the type of the factories
+ * @param <T> the type of the instances the factories create
+ * @author Stephane Nicoll
+ */
+public final class FactoryRegistry<F, T> {
+
+	private final Class<F> factoryType;
+
+	private final BiFunction<F, String, T> instanceFactory;
+
+	private final String description;
+
+	private volatile Registrations<F, T> registrations;
+
+	/**
+	 * Create a new registry and load its factories.
+	 * @param factoryType the type of the factories
+	 * @param instanceFactory the function that asks a factory to create an instance for
+	 * an id, returning {@code null} if the factory does not recognise it
+	 * @param description a description of the instances, used in error messages
+	 * @param classLoader the class loader to use to load the factories
+	 */
+	public FactoryRegistry(Class<F> factoryType, BiFunction<F, String, T> instanceFactory,
+			String description, ClassLoader classLoader) {
+		Assert.notNull(factoryType, "FactoryType must not be null");
+		Assert.notNull(instanceFactory, "InstanceFactory must not be null");
+		this.factoryType = factoryType;
+		this.instanceFactory = instanceFactory;
+		this.description = description;
+		this.registrations = new Registrations<>(
+				SpringFactoriesLoader.loadFactories(factoryType, classLoader));
+	}
+
+	/**
+	 * Return the canonical instance for the specified id.
+	 * @param id the id of the instance
+	 * @return the instance
+	 * @throws IllegalStateException if no factory recognises the id
+	 */
+	public T get(String id) {
+		Registrations<F, T> registrations = this.registrations;
+		T instance = (id != null) ? registrations.instances.get(id) : null;
+		if (instance == null && id != null) {
+			instance = registrations.instances.computeIfAbsent(id,
+					(key) -> create(registrations.factories, key));
+		}
+		if (instance == null) {
+			throw new IllegalStateException(
+					"Unrecognized " + this.description + " id '" + id + "'");
+		}
+		return instance;
+	}
+
+	/**
+	 * Load the factories again using the specified {@link ClassLoader} and discard the
+	 * instances created so far.
+	 * @param classLoader the class loader to use to load the factories
+	 */
+	public void reload(ClassLoader classLoader) {
+		this.registrations = new Registrations<>(
+				SpringFactoriesLoader.loadFactories(this.factoryType, classLoader));
+	}
+
+	private T create(List<F> factories, String id) {
+		for (F factory : factories) {
+			T instance = this.instanceFactory.apply(factory, id);
+			if (instance != null) {
+				return instance;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The factories that were loaded and the instances they have created.
+	 */
+	private static final class Registrations<F, T> {
+
+		private final List<F> factories;
+
+		private final Map<String, T> instances = new ConcurrentHashMap<>();
+
+		private Registrations(List<F> factories) {
+			this.factories = Collections.unmodifiableList(factories);
+		}
+
+	}
+
+}
@@ -17,7 +17,9 @@
 package io.spring.initializr.generator.util;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -31,12 +33,17 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.ResolvableType;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Utility that can be used to invoke lambdas in a safe way. Primarily designed to help
  * support generically typed callbacks where {@link ClassCastException class cast
  * exceptions} need to be dealt with due to class erasure.
+ * <p>
+ * The generic type of a callback implementation is resolved once and cached. A lambda
+ * whose generic type does not match the arguments is detected on its first invocation and
+ * is then skipped without being invoked again for the same argument types.
  *
  * @author Phillip Webb
  * @since 2.0.0
@@ -54,6 +61,8 @@ public final class LambdaSafe {
 				: null;
 	}
 
+	private static final Map<TypesKey, Boolean> nonMatchingLambdas = new ConcurrentReferenceHashMap<>();
+
 	private LambdaSafe() {
 	}
 
@@ -158,6 +167,10 @@ public final class LambdaSafe {
 				Supplier<R> supplier) {
 			if (this.filter.match(this.callbackType, callbackInstance, this.argument,
 					this.additionalArguments)) {
+				TypesKey lambdaKey = getLambdaKey(callbackInstance);
+				if (lambdaKey != null && nonMatchingLambdas.containsKey(lambdaKey)) {
+					return InvocationResult.noResult();
+				}
 				try {
 					return InvocationResult.of(supplier.get());
 				}
@@ -165,12 +178,42 @@ public final class LambdaSafe {
 					if (!isLambdaGenericProblem(ex)) {
 						throw ex;
 					}
+					// Only remember mismatches that name an argument class as a null
+					// message can also come from a genuine failure in the lambda body
+					if (lambdaKey != null && ex.getMessage() != null) {
+						nonMatchingLambdas.put(lambdaKey, Boolean.TRUE);
+					}
 					logNonMatchingType(callbackInstance, ex);
 				}
 			}
 			return InvocationResult.noResult();
 		}
 
+		/**
+		 * Return the key identifying the invocation of the specified callback with the
+		 * current arguments if it is a lambda, as the generic type of a lambda cannot be
+		 * resolved upfront.
+		 * @param callbackInstance the callback instance
+		 * @return the key of the invocation or {@code null} if the callback is not a
+		 * lambda
+		 */
+		private TypesKey getLambdaKey(C callbackInstance) {
+			Class<?> callbackClass = callbackInstance.getClass();
+			if (!callbackClass.isSynthetic()) {
+				return null;
+			}
+			Class<?>[] types = new Class<?>[this.additionalArguments.length + 3];
+			types[0] = this.callbackType;
+			types[1] = callbackClass;
+			types[2] = (this.argument != null) ? this.argument.getClass() : null;
+			for (int i = 0; i < this.additionalArguments.length; i++) {
+				Object additionalArgument = this.additionalArguments[i];
+				types[i + 3] = (additionalArgument != null)
+						? additionalArgument.getClass() : null;
+			}
+			return new TypesKey(types);
+		}
+
 		private boolean isLambdaGenericProblem(ClassCastException ex) {
 			return (ex.getMessage() == null
 					|| startsWithArgumentClassName(ex.getMessage()));
@@ -359,16 +402,54 @@ public final class LambdaSafe {
 	 */
 	private static class GenericTypeFilter<C, A> implements Filter<C, A> {
 
+		private static final Map<TypesKey, Optional<Class<?>>> genericTypes = new ConcurrentReferenceHashMap<>();
+
 		@Override
 		public boolean match(Class<C> callbackType, C callbackInstance, A argument,
 				Object[] additionalArguments) {
-			ResolvableType type = ResolvableType.forClass(callbackType,
-					callbackInstance.getClass());
-			if (type.getGenerics().length == 1 && type.resolveGeneric() != null) {
-				return type.resolveGeneric().isInstance(argument);
+			Class<?> callbackClass = callbackInstance.getClass();
+			Optional<Class<?>> genericType = genericTypes.computeIfAbsent(
+					new TypesKey(callbackType, callbackClass),
+					(key) -> resolveGenericType(callbackType, callbackClass));
+			return genericType.map((type) -> type.isInstance(argument)).orElse(true);
+		}
+
+		private static Optional<Class<?>> resolveGenericType(Class<?> callbackType,
+				Class<?> callbackClass) {
+			ResolvableType type = ResolvableType.forClass(callbackType, callbackClass);
+			if (type.getGenerics().length == 1) {
+				return Optional.ofNullable(type.resolveGeneric());
+			}
+			return Optional.empty();
+		}
+
+	}
+
+	/**
+	 * Cache key made of an ordered list of types.
+	 */
+	private static final class TypesKey {
+
+		private final Class<?>[] types;
+
+		TypesKey(Class<?>... types) {
+			this.types = types;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
 			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			return Arrays.equals(this.types, ((TypesKey) obj).types);
+		}
 
-			return true;
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.types);
 		}
 
 	}
@@ -18,7 +18,6 @@ package io.spring.initializr.generator.util;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -37,13 +36,27 @@ import org.springframework.util.StringUtils;
  *
  * @author Stephane Nicoll
  */
-@SuppressWarnings("serial")
 public final class Version implements Serializable, Comparable<Version> {
 
+	private static final long serialVersionUID = 959658036750500308L;
+
 	private static final VersionQualifierComparator qualifierComparator = new VersionQualifierComparator();
 
-	private static final VersionParser parser = new VersionParser(
-			Collections.emptyList());
+	/**
+	 * Value of {@link #key} for a version that cannot be packed. Relies on the fact that
+	 * a qualifier version is never packed without a qualifier.
+	 */
+	private static final long UNPACKED = 2L;
+
+	private static final int FLAG_BITS = 2;
+
+	private static final long QUALIFIER_FLAG = 1L;
+
+	private static final long QUALIFIER_VERSION_FLAG = 2L;
+
+	private static final int MAX_VERSION = 0xFFFF;
+
+	private static final int MAX_QUALIFIER_VERSION = 0xFFF;
 
 	private final Integer major;
 
@@ -53,6 +66,11 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	private final Qualifier qualifier;
 
+	/**
+	 * Packed representation of this version, computed lazily (see {@link #getKey()}).
+	 */
+	private transient volatile long key;
+
 	// For Jackson
 	@SuppressWarnings("unused")
 	private Version() {
@@ -91,7 +109,7 @@ public final class Version implements Serializable, Comparable<Version> {
 	 * @see VersionParser
 	 */
 	public static Version parse(String text) {
-		return parser.parse(text);
+		return VersionParser.DEFAULT.parse(text);
 	}
 
 	/**
@@ -116,6 +134,11 @@ public final class Version implements Serializable, Comparable<Version> {
 		if (other == null) {
 			return 1;
 		}
+		long key = getKey();
+		long otherKey = other.getKey();
+		if (key != UNPACKED && otherKey != UNPACKED) {
+			return Long.compare(key >>> FLAG_BITS, otherKey >>> FLAG_BITS);
+		}
 		int majorDiff = safeCompare(this.major, other.major);
 		if (majorDiff != 0) {
 			return majorDiff;
@@ -149,6 +172,11 @@ public final class Version implements Serializable, Comparable<Version> {
 			return false;
 		}
 		Version other = (Version) obj;
+		long key = getKey();
+		long otherKey = other.getKey();
+		if (key != UNPACKED || otherKey != UNPACKED) {
+			return key == otherKey;
+		}
 		if (this.major == null) {
 			if (other.major != null) {
 				return false;
@@ -186,6 +214,10 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	@Override
 	public int hashCode() {
+		long key = getKey();
+		if (key != UNPACKED) {
+			return Long.hashCode(key);
+		}
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((this.major == null) ? 0 : this.major.hashCode());
@@ -196,6 +228,53 @@ public final class Version implements Serializable, Comparable<Version> {
 		return result;
 	}
 
+	/**
+	 * Return the packed representation of this version. From the most significant bit,
+	 * the major, minor and patch (16 bits each), the rank of the qualifier (2 bits), the
+	 * version of the qualifier (12 bits) and two flags that indicate if the qualifier and
+	 * its version are present. Shifting the flags out gives a value whose natural order
+	 * is the order of {@link #compareTo(Version)}, while the full value is consistent
+	 * with {@link #equals(Object)}. Versions with an unknown qualifier or with a
+	 * component out of range are {@link #UNPACKED}.
+	 * @return the packed representation of this version
+	 */
+	private long getKey() {
+		long key = this.key;
+		if (key == 0) {
+			key = pack(this.major, this.minor, this.patch, this.qualifier);
+			this.key = key;
+		}
+		return key;
+	}
+
+	private static long pack(Integer major, Integer minor, Integer patch,
+			Qualifier qualifier) {
+		if (!isPackable(major, MAX_VERSION) || !isPackable(minor, MAX_VERSION)
+				|| !isPackable(patch, MAX_VERSION)) {
+			return UNPACKED;
+		}
+		long key = ((long) major << 48) | ((long) minor << 32) | ((long) patch << 16);
+		if (qualifier == null) {
+			return key | (VersionQualifierComparator.RELEASE_INDEX << 14);
+		}
+		int rank = VersionQualifierComparator.KNOWN_QUALIFIERS
+				.indexOf(qualifier.qualifier);
+		Integer version = qualifier.version;
+		if (rank == -1
+				|| (version != null && !isPackable(version, MAX_QUALIFIER_VERSION))) {
+			return UNPACKED;
+		}
+		key |= ((long) rank << 14) | QUALIFIER_FLAG;
+		if (version != null) {
+			key |= ((long) version << FLAG_BITS) | QUALIFIER_VERSION_FLAG;
+		}
+		return key;
+	}
+
+	private static boolean isPackable(Integer value, int max) {
+		return value != null && value >= 0 && value <= max;
+	}
+
 	@Override
 	public String toString() {
 		return this.major + "." + this.minor + "." + this.patch
@@ -209,28 +288,27 @@ public final class Version implements Serializable, Comparable<Version> {
 	 */
 	public static class Qualifier implements Serializable {
 
-		public Qualifier(String qualifier) {
-			this.qualifier = qualifier;
-		}
+		private static final long serialVersionUID = 2272672000152311523L;
 
-		private String qualifier;
+		private final String qualifier;
 
-		private Integer version;
+		private final Integer version;
 
-		public String getQualifier() {
-			return this.qualifier;
+		public Qualifier(String qualifier) {
+			this(qualifier, null);
 		}
 
-		public void setQualifier(String qualifier) {
+		public Qualifier(String qualifier, Integer version) {
 			this.qualifier = qualifier;
+			this.version = version;
 		}
 
-		public Integer getVersion() {
-			return this.version;
+		public String getQualifier() {
+			return this.qualifier;
 		}
 
-		public void setVersion(Integer version) {
-			this.version = version;
+		public Integer getVersion() {
+			return this.version;
 		}
 
 		@Override
@@ -295,10 +373,14 @@ public final class Version implements Serializable, Comparable<Version> {
 		static final List<String> KNOWN_QUALIFIERS = Arrays.asList(MILESTONE, RC,
 				SNAPSHOT, RELEASE);
 
+		static final long RELEASE_INDEX = KNOWN_QUALIFIERS.indexOf(RELEASE);
+
+		private static final Qualifier RELEASE_QUALIFIER = new Qualifier(RELEASE);
+
 		@Override
 		public int compare(Qualifier o1, Qualifier o2) {
-			Qualifier first = (o1 != null) ? o1 : new Qualifier(RELEASE);
-			Qualifier second = (o2 != null) ? o2 : new Qualifier(RELEASE);
+			Qualifier first = (o1 != null) ? o1 : RELEASE_QUALIFIER;
+			Qualifier second = (o2 != null) ? o2 : RELEASE_QUALIFIER;
 
 			int qualifier = compareQualifier(first, second);
 			return (qualifier != 0) ? qualifier : compareQualifierVersion(first, second);
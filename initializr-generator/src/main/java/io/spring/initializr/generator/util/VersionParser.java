@@ -16,11 +16,15 @@
 
 package io.spring.initializr.generator.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.util.Version.Qualifier;
 
@@ -37,6 +41,15 @@ import org.springframework.util.StringUtils;
  * {@code 1.3.8.BUILD-SNAPSHOT} would be parsed as {@code 1.3.999.BUILD-SNAPSHOT} as the
  * parser doesn't know the latest {@code BUILD-SNAPSHOT} in the {@code 1.3.x} release
  * line.
+ * <p>
+ * Parsed versions and ranges are immutable and are cached per parser so that repeated
+ * text, such as the value of a condition annotation, resolves to the same instance. The
+ * cache is bounded and is simply reset once it reaches its limit.
+ * <p>
+ * The latest versions are indexed when they are set so that resolving a version that uses
+ * an {@code x} placeholder is a hash lookup. They can be {@link #setLatestVersions(List)
+ * replaced} while the parser is in use: readers are never blocked and each parse
+ * operation consistently uses either the previous or the new latest versions.
  *
  * @author Stephane Nicoll
  */
@@ -54,10 +67,36 @@ public class VersionParser {
 	private static final Pattern RANGE_REGEX = Pattern
 			.compile("(\\(|\\[)(.*),(.*)(\\)|\\])");
 
-	private final List<Version> latestVersions;
+	private static final int CACHE_LIMIT = 256;
+
+	private static final int MAX_NUMBER_DIGITS = 9;
+
+	private static final String[] KNOWN_QUALIFIERS = { "RELEASE", "BUILD-SNAPSHOT", "M",
+			"RC" };
+
+	private volatile Snapshot snapshot;
 
 	public VersionParser(List<Version> latestVersions) {
-		this.latestVersions = latestVersions;
+		this.snapshot = new Snapshot(latestVersions);
+	}
+
+	/**
+	 * Replace the latest versions used to resolve the minor and patch values of a
+	 * version. The parse cache is reset as part of the same atomic update.
+	 * @param latestVersions the new latest versions
+	 */
+	public void setLatestVersions(List<Version> latestVersions) {
+		Assert.state(this != DEFAULT,
+				"Latest versions of the default parser cannot be changed");
+		this.snapshot = new Snapshot(latestVersions);
+	}
+
+	/**
+	 * Return the latest versions used to resolve the minor and patch values of a version.
+	 * @return the latest versions
+	 */
+	public List<Version> getLatestVersions() {
+		return this.snapshot.latestVersions;
 	}
 
 	/**
@@ -70,6 +109,72 @@ public class VersionParser {
 	 */
 	public Version parse(String text) {
 		Assert.notNull(text, "Text must not be null");
+		return parse(this.snapshot, text);
+	}
+
+	private Version parse(Snapshot snapshot, String text) {
+		Version version = snapshot.versions.get(text);
+		if (version == null) {
+			version = parseSimpleVersion(snapshot, text);
+			if (version == null) {
+				version = parseVersion(snapshot, text);
+			}
+			cache(snapshot.versions, text, version);
+		}
+		return version;
+	}
+
+	/**
+	 * Parse the common {@code MAJOR.MINOR.PATCH.QUALIFIER} form without using a regular
+	 * expression. Return {@code null} as soon as the text does not strictly match that
+	 * form so that {@link #parseVersion(Snapshot, String)} can handle it.
+	 * @param snapshot the latest versions to use
+	 * @param text the version text
+	 * @return the version or {@code null}
+	 */
+	private Version parseSimpleVersion(Snapshot snapshot, String text) {
+		int length = text.length();
+		int majorEnd = numberEnd(text, 0);
+		if (majorEnd == -1 || !isSeparator(text, majorEnd)) {
+			return null;
+		}
+		int minorEnd = segmentEnd(text, majorEnd + 1);
+		if (minorEnd == -1 || !isSeparator(text, minorEnd)) {
+			return null;
+		}
+		int patchEnd = segmentEnd(text, minorEnd + 1);
+		if (patchEnd == -1) {
+			return null;
+		}
+		Qualifier qualifier = null;
+		if (patchEnd != length) {
+			if (!isSeparator(text, patchEnd)) {
+				return null;
+			}
+			int qualifierStart = patchEnd + 1;
+			int qualifierEnd = qualifierStart;
+			while (qualifierEnd < length && isQualifierChar(text.charAt(qualifierEnd))) {
+				qualifierEnd++;
+			}
+			if (qualifierEnd == qualifierStart) {
+				return null;
+			}
+			Integer qualifierVersion = null;
+			if (qualifierEnd != length) {
+				if (numberEnd(text, qualifierEnd) != length) {
+					return null;
+				}
+				qualifierVersion = parseNumber(text, qualifierEnd, length);
+			}
+			qualifier = new Qualifier(qualifierId(text, qualifierStart, qualifierEnd),
+					qualifierVersion);
+		}
+		return createVersion(snapshot, parseNumber(text, 0, majorEnd),
+				parseSegment(text, majorEnd + 1, minorEnd),
+				parseSegment(text, minorEnd + 1, patchEnd), qualifier);
+	}
+
+	private Version parseVersion(Snapshot snapshot, String text) {
 		Matcher matcher = VERSION_REGEX.matcher(text.trim());
 		if (!matcher.matches()) {
 			throw new InvalidVersionException(
@@ -82,27 +187,28 @@ public class VersionParser {
 		Qualifier qualifier = null;
 		String qualifierId = matcher.group(4);
 		if (StringUtils.hasText(qualifierId)) {
-			qualifier = new Version.Qualifier(qualifierId);
 			String o = matcher.group(5);
-			if (o != null) {
-				qualifier.setVersion(Integer.valueOf(o));
-			}
+			qualifier = new Version.Qualifier(qualifierId,
+					(o != null) ? Integer.valueOf(o) : null);
 		}
-		if ("x".equals(minor) || "x".equals(patch)) {
-			Integer minorInt = ("x".equals(minor) ? null : Integer.parseInt(minor));
-			Version latest = findLatestVersion(major, minorInt, qualifier);
+		return createVersion(snapshot, major,
+				("x".equals(minor) ? null : Integer.valueOf(minor)),
+				("x".equals(patch) ? null : Integer.valueOf(patch)), qualifier);
+	}
+
+	private Version createVersion(Snapshot snapshot, Integer major, Integer minor,
+			Integer patch, Qualifier qualifier) {
+		if (minor == null || patch == null) {
+			Version latest = snapshot.latestVersionsIndex
+					.get(new LatestVersionKey(major, minor, qualifier));
 			if (latest == null) {
-				return new Version(major,
-						("x".equals(minor) ? 999 : Integer.parseInt(minor)),
-						("x".equals(patch) ? 999 : Integer.parseInt(patch)), qualifier);
+				return new Version(major, (minor != null) ? minor : 999,
+						(patch != null) ? patch : 999, qualifier);
 			}
 			return new Version(major, latest.getMinor(), latest.getPatch(),
 					latest.getQualifier());
 		}
-		else {
-			return new Version(major, Integer.parseInt(minor), Integer.parseInt(patch),
-					qualifier);
-		}
+		return new Version(major, minor, patch, qualifier);
 	}
 
 	/**
@@ -131,35 +237,179 @@ public class VersionParser {
 	 */
 	public VersionRange parseRange(String text) {
 		Assert.notNull(text, "Text must not be null");
+		Snapshot snapshot = this.snapshot;
+		VersionRange range = snapshot.ranges.get(text);
+		if (range == null) {
+			range = parseVersionRange(snapshot, text);
+			cache(snapshot.ranges, text, range);
+		}
+		return range;
+	}
+
+	private VersionRange parseVersionRange(Snapshot snapshot, String text) {
 		Matcher matcher = RANGE_REGEX.matcher(text.trim());
 		if (!matcher.matches()) {
 			// Try to read it as simple string
-			Version version = parse(text);
+			Version version = parse(snapshot, text);
 			return new VersionRange(version, true, null, true);
 		}
 		boolean lowerInclusive = matcher.group(1).equals("[");
-		Version lowerVersion = parse(matcher.group(2));
-		Version higherVersion = parse(matcher.group(3));
+		Version lowerVersion = parse(snapshot, matcher.group(2));
+		Version higherVersion = parse(snapshot, matcher.group(3));
 		boolean higherInclusive = matcher.group(4).equals("]");
 		return new VersionRange(lowerVersion, lowerInclusive, higherVersion,
 				higherInclusive);
 	}
 
-	private Version findLatestVersion(Integer major, Integer minor,
-			Version.Qualifier qualifier) {
-		List<Version> matches = this.latestVersions.stream().filter((it) -> {
-			if (major != null && !major.equals(it.getMajor())) {
-				return false;
+	private static <T> void cache(Map<String, T> cache, String text, T value) {
+		if (cache.size() >= CACHE_LIMIT) {
+			cache.clear();
+		}
+		cache.put(text, value);
+	}
+
+	private static boolean isSeparator(String text, int index) {
+		return index < text.length() && text.charAt(index) == '.';
+	}
+
+	private static boolean isQualifierChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '_';
+	}
+
+	private static int segmentEnd(String text, int start) {
+		if (start < text.length() && text.charAt(start) == 'x') {
+			return start + 1;
+		}
+		return numberEnd(text, start);
+	}
+
+	private static int numberEnd(String text, int start) {
+		int end = start;
+		while (end < text.length() && text.charAt(end) >= '0'
+				&& text.charAt(end) <= '9') {
+			end++;
+		}
+		return (end == start || end - start > MAX_NUMBER_DIGITS) ? -1 : end;
+	}
+
+	private static Integer parseSegment(String text, int start, int end) {
+		return (text.charAt(start) == 'x') ? null : parseNumber(text, start, end);
+	}
+
+	private static Integer parseNumber(String text, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			value = value * 10 + (text.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static String qualifierId(String text, int start, int end) {
+		int length = end - start;
+		for (String knownQualifier : KNOWN_QUALIFIERS) {
+			if (knownQualifier.length() == length
+					&& text.regionMatches(start, knownQualifier, 0, length)) {
+				return knownQualifier;
 			}
-			if (minor != null && !minor.equals(it.getMinor())) {
-				return false;
+		}
+		return text.substring(start, end);
+	}
+
+	/**
+	 * The latest versions, indexed by the {@link LatestVersionKey keys} they match, along
+	 * with the versions and ranges that have been parsed using them.
+	 */
+	private static final class Snapshot {
+
+		private final List<Version> latestVersions;
+
+		private final Map<LatestVersionKey, Version> latestVersionsIndex;
+
+		private final Map<String, Version> versions = new ConcurrentHashMap<>();
+
+		private final Map<String, VersionRange> ranges = new ConcurrentHashMap<>();
+
+		private Snapshot(List<Version> latestVersions) {
+			this.latestVersions = Collections
+					.unmodifiableList(new ArrayList<>(latestVersions));
+			this.latestVersionsIndex = index(this.latestVersions);
+		}
+
+		/**
+		 * Index each latest version against every key it matches, that is with and
+		 * without its minor and qualifier. A key that is matched by more than one version
+		 * is mapped to {@code null} as the latest version is ambiguous.
+		 * @param latestVersions the latest versions
+		 * @return the index of the latest versions
+		 */
+		private static Map<LatestVersionKey, Version> index(
+				List<Version> latestVersions) {
+			Map<LatestVersionKey, Version> index = new HashMap<>();
+			for (Version version : latestVersions) {
+				Integer minor = version.getMinor();
+				Qualifier qualifier = version.getQualifier();
+				if (version.getMajor() != null) {
+					add(index, version, null, null);
+					if (minor != null) {
+						add(index, version, minor, null);
+					}
+					if (qualifier != null) {
+						add(index, version, null, qualifier);
+					}
+					if (minor != null && qualifier != null) {
+						add(index, version, minor, qualifier);
+					}
+				}
+			}
+			return index;
+		}
+
+		private static void add(Map<LatestVersionKey, Version> index, Version version,
+				Integer minor, Qualifier qualifier) {
+			LatestVersionKey key = new LatestVersionKey(version.getMajor(), minor,
+					qualifier);
+			index.put(key, index.containsKey(key) ? null : version);
+		}
+
+	}
+
+	/**
+	 * The components of a version that uses a {@code x} placeholder, a {@code null} minor
+	 * or qualifier matching any value.
+	 */
+	private static final class LatestVersionKey {
+
+		private final Integer major;
+
+		private final Integer minor;
+
+		private final Qualifier qualifier;
+
+		private LatestVersionKey(Integer major, Integer minor, Qualifier qualifier) {
+			this.major = major;
+			this.minor = minor;
+			this.qualifier = qualifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
 			}
-			if (qualifier != null && !qualifier.equals(it.getQualifier())) {
+			if (obj == null || getClass() != obj.getClass()) {
 				return false;
 			}
-			return true;
-		}).collect(Collectors.toList());
-		return (matches.size() != 1) ? null : matches.get(0);
+			LatestVersionKey other = (LatestVersionKey) obj;
+			return Objects.equals(this.major, other.major)
+					&& Objects.equals(this.minor, other.minor)
+					&& Objects.equals(this.qualifier, other.qualifier);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.major, this.minor, this.qualifier);
+		}
+
 	}
 
 }
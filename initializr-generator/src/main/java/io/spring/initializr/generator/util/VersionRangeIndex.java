@@ -0,0 +1,325 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.util.Assert;
+
+/**
+ * An index of {@link VersionRange ranges} that efficiently resolves the items whose range
+ * matches a given {@link Version}.
+ * <p>
+ * The distinct bounds of the ranges are sorted once so that any version can be mapped,
+ * with a binary search, to a slot that is either one of those bounds or the interval
+ * between two consecutive bounds. Each range then covers a contiguous set of slots and a
+ * centered interval tree answers a query in {@code O(log n + k)}, where {@code k} is the
+ * number of matching items. Items are always returned in the order they were added.
+ * <p>
+ * An index is immutable and can be shared.
+ *
+ * @param <T> the type of the items
+ * @author Stephane Nicoll
+ * @see #builder()
+ */
+public final class VersionRangeIndex<T> {
+
+	private final Version[] bounds;
+
+	private final List<T> items;
+
+	private final Node root;
+
+	private VersionRangeIndex(List<VersionRange> ranges, List<T> items) {
+		this.bounds = collectBounds(ranges);
+		this.items = items;
+		List<SlotRange> slotRanges = new ArrayList<>(ranges.size());
+		for (int i = 0; i < ranges.size(); i++) {
+			SlotRange slotRange = new SlotRange(i, lowerSlot(ranges.get(i)),
+					higherSlot(ranges.get(i)));
+			if (slotRange.lower <= slotRange.higher) {
+				slotRanges.add(slotRange);
+			}
+		}
+		this.root = Node.build(slotRanges, 0, this.bounds.length * 2);
+	}
+
+	/**
+	 * Return the number of items in this index.
+	 * @return the number of items
+	 */
+	public int size() {
+		return this.items.size();
+	}
+
+	/**
+	 * Return the items whose range matches the specified {@link Version}.
+	 * @param version the version to match
+	 * @return the matching items, in the order they were added
+	 * @see VersionRange#match(Version)
+	 */
+	public List<T> match(Version version) {
+		Assert.notNull(version, "Version must not be null");
+		return matchSlot(slot(version));
+	}
+
+	/**
+	 * Return the items whose range matches each of the specified {@link Version
+	 * versions}. Versions that resolve to the same slot of the index share the same
+	 * result.
+	 * @param versions the versions to match
+	 * @return the matching items, in the order they were added, for each version in the
+	 * iteration order of the specified versions
+	 */
+	public Map<Version, List<T>> matchAll(Collection<Version> versions) {
+		Assert.notNull(versions, "Versions must not be null");
+		Map<Integer, List<T>> matchesBySlot = new HashMap<>();
+		Map<Version, List<T>> matches = new LinkedHashMap<>();
+		for (Version version : versions) {
+			Assert.notNull(version, "Version must not be null");
+			matches.put(version,
+					matchesBySlot.computeIfAbsent(slot(version), this::matchSlot));
+		}
+		return matches;
+	}
+
+	private List<T> matchSlot(int slot) {
+		BitSet matches = new BitSet(this.items.size());
+		Node node = this.root;
+		while (node != null) {
+			node = node.collect(slot, matches);
+		}
+		if (matches.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<T> items = new ArrayList<>(matches.cardinality());
+		for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+			items.add(this.items.get(i));
+		}
+		return Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * Return the slot of the specified version. Slot {@code 2i + 1} is the i-th bound and
+	 * slot {@code 2i} is the interval between the previous bound and the i-th bound.
+	 * @param version the version
+	 * @return the slot of the version
+	 */
+	private int slot(Version version) {
+		int index = Arrays.binarySearch(this.bounds, version);
+		return (index >= 0) ? index * 2 + 1 : -(index + 1) * 2;
+	}
+
+	private int lowerSlot(VersionRange range) {
+		if (range.getLowerVersion() == null) {
+			return 0;
+		}
+		int slot = slot(range.getLowerVersion());
+		return range.isLowerInclusive() ? slot : slot + 1;
+	}
+
+	private int higherSlot(VersionRange range) {
+		if (range.getHigherVersion() == null) {
+			return this.bounds.length * 2;
+		}
+		int slot = slot(range.getHigherVersion());
+		return range.isHigherInclusive() ? slot : slot - 1;
+	}
+
+	private static Version[] collectBounds(List<VersionRange> ranges) {
+		TreeSet<Version> bounds = new TreeSet<>();
+		for (VersionRange range : ranges) {
+			if (range.getLowerVersion() != null) {
+				bounds.add(range.getLowerVersion());
+			}
+			if (range.getHigherVersion() != null) {
+				bounds.add(range.getHigherVersion());
+			}
+		}
+		return bounds.toArray(new Version[0]);
+	}
+
+	/**
+	 * Create a new {@link Builder}.
+	 * @param <T> the type of the items
+	 * @return a new builder
+	 */
+	public static <T> Builder<T> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Builder for a {@link VersionRangeIndex}.
+	 *
+	 * @param <T> the type of the items
+	 */
+	public static final class Builder<T> {
+
+		private final List<VersionRange> ranges = new ArrayList<>();
+
+		private final List<T> items = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Add an item that applies to the specified {@link VersionRange}.
+		 * @param range the range of the item
+		 * @param item the item
+		 * @return this for method chaining
+		 */
+		public Builder<T> add(VersionRange range, T item) {
+			Assert.notNull(range, "Range must not be null");
+			this.ranges.add(range);
+			this.items.add(item);
+			return this;
+		}
+
+		/**
+		 * Build a {@link VersionRangeIndex} with the items added so far.
+		 * @return the index
+		 */
+		public VersionRangeIndex<T> build() {
+			return new VersionRangeIndex<>(new ArrayList<>(this.ranges),
+					new ArrayList<>(this.items));
+		}
+
+	}
+
+	/**
+	 * The contiguous slots, from {@code lower} to {@code higher} inclusive, covered by
+	 * the range of the item at {@code index}.
+	 */
+	private static final class SlotRange {
+
+		private final int index;
+
+		private final int lower;
+
+		private final int higher;
+
+		private SlotRange(int index, int lower, int higher) {
+			this.index = index;
+			this.lower = lower;
+			this.higher = higher;
+		}
+
+	}
+
+	/**
+	 * A node of the interval tree: the ranges that contain the center slot, sorted by
+	 * lower and by higher slots, and the subtrees of the ranges that are entirely before
+	 * and entirely after it.
+	 */
+	private static final class Node {
+
+		private final int center;
+
+		private final int[] lowers;
+
+		private final int[] indexesByLower;
+
+		private final int[] highers;
+
+		private final int[] indexesByHigher;
+
+		private final Node before;
+
+		private final Node after;
+
+		private Node(int center, List<SlotRange> ranges, Node before, Node after) {
+			this.center = center;
+			int size = ranges.size();
+			this.lowers = new int[size];
+			this.indexesByLower = new int[size];
+			ranges.sort(Comparator.comparingInt((range) -> range.lower));
+			for (int i = 0; i < size; i++) {
+				this.lowers[i] = ranges.get(i).lower;
+				this.indexesByLower[i] = ranges.get(i).index;
+			}
+			this.highers = new int[size];
+			this.indexesByHigher = new int[size];
+			ranges.sort(Comparator.comparingInt((range) -> -range.higher));
+			for (int i = 0; i < size; i++) {
+				this.highers[i] = ranges.get(i).higher;
+				this.indexesByHigher[i] = ranges.get(i).index;
+			}
+			this.before = before;
+			this.after = after;
+		}
+
+		/**
+		 * Collect the indexes of the ranges of this node that contain the specified slot.
+		 * @param slot the slot
+		 * @param matches the indexes of the matching ranges
+		 * @return the next node to inspect or {@code null}
+		 */
+		Node collect(int slot, BitSet matches) {
+			if (slot < this.center) {
+				for (int i = 0; i < this.lowers.length && this.lowers[i] <= slot; i++) {
+					matches.set(this.indexesByLower[i]);
+				}
+				return this.before;
+			}
+			if (slot > this.center) {
+				for (int i = 0; i < this.highers.length && this.highers[i] >= slot; i++) {
+					matches.set(this.indexesByHigher[i]);
+				}
+				return this.after;
+			}
+			for (int index : this.indexesByLower) {
+				matches.set(index);
+			}
+			return null;
+		}
+
+		static Node build(List<SlotRange> ranges, int from, int to) {
+			if (ranges.isEmpty()) {
+				return null;
+			}
+			int center = (from + to) >>> 1;
+			List<SlotRange> before = new ArrayList<>();
+			List<SlotRange> after = new ArrayList<>();
+			List<SlotRange> containing = new ArrayList<>();
+			for (SlotRange range : ranges) {
+				if (range.higher < center) {
+					before.add(range);
+				}
+				else if (range.lower > center) {
+					after.add(range);
+				}
+				else {
+					containing.add(range);
+				}
+			}
+			return new Node(center, containing, build(before, from, center - 1),
+					build(after, center + 1, to));
+		}
+
+	}
+
+}
@@ -19,8 +19,16 @@ package io.spring.initializr.generator.util.template;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Mustache.Compiler;
@@ -28,51 +36,241 @@ import com.samskivert.mustache.Mustache.TemplateLoader;
 import com.samskivert.mustache.Template;
 
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
 
 /**
- * A {@link TemplateRenderer} using Mustache.
+ * A {@link TemplateRenderer} using Mustache. Compiled templates are cached by name.
+ * <p>
+ * When templates are loaded from a resource location, all of them can be
+ * {@link #precompile() compiled upfront} and a template can be
+ * {@link #setReloadEnabled(boolean) reloaded} when its resource has been modified.
  *
  * @author Stephane Nicoll
  */
 public class MustacheTemplateRenderer implements TemplateRenderer {
 
+	private static final String TEMPLATE_SUFFIX = ".mustache";
+
 	private final Compiler mustache;
 
+	private final String prefix;
+
+	private final ResourceLoader resourceLoader;
+
+	private final ConcurrentMap<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder compileTime = new LongAdder();
+
+	private volatile boolean reloadEnabled;
+
 	public MustacheTemplateRenderer(TemplateLoader templateProvider) {
-		this.mustache = Mustache.compiler().withLoader(templateProvider);
+		this(templateProvider, null, null);
 	}
 
 	public MustacheTemplateRenderer(String classpathPrefix) {
-		this(mustacheTemplateLoader(classpathPrefix));
+		this((classpathPrefix.endsWith("/") ? classpathPrefix : classpathPrefix + "/"),
+				new DefaultResourceLoader());
+	}
+
+	private MustacheTemplateRenderer(String prefix, ResourceLoader resourceLoader) {
+		this(mustacheTemplateLoader(prefix, resourceLoader), prefix, resourceLoader);
+	}
+
+	private MustacheTemplateRenderer(TemplateLoader templateProvider, String prefix,
+			ResourceLoader resourceLoader) {
+		this.mustache = Mustache.compiler().withLoader(templateProvider);
+		this.prefix = prefix;
+		this.resourceLoader = resourceLoader;
+	}
+
+	private static TemplateLoader mustacheTemplateLoader(String prefix,
+			ResourceLoader resourceLoader) {
+		return (name) -> new InputStreamReader(resourceLoader
+				.getResource(prefix + name + TEMPLATE_SUFFIX).getInputStream(),
+				StandardCharsets.UTF_8);
 	}
 
-	private static TemplateLoader mustacheTemplateLoader(String classpathPrefix) {
-		String prefix = (classpathPrefix.endsWith("/") ? classpathPrefix
-				: classpathPrefix + "/");
-		ResourceLoader resourceLoader = new DefaultResourceLoader();
-		return (name) -> {
-			String location = prefix + name + ".mustache";
-			return new InputStreamReader(
-					resourceLoader.getResource(location).getInputStream(),
-					StandardCharsets.UTF_8);
-		};
+	/**
+	 * Specify whether a cached template should be compiled again when its resource has
+	 * been modified. Useful during development, each render checks the last modification
+	 * time of the resource of the template. Has no effect if this instance uses a custom
+	 * {@link TemplateLoader}.
+	 * @param reloadEnabled whether to reload modified templates
+	 */
+	public void setReloadEnabled(boolean reloadEnabled) {
+		this.reloadEnabled = reloadEnabled;
+	}
+
+	/**
+	 * Compile and cache every template available under the resource prefix of this
+	 * instance, including the ones in nested directories. Templates that are available
+	 * under the same prefix in several locations are compiled once.
+	 * @return the number of distinct templates that are cached
+	 * @throws IOException if the templates cannot be listed
+	 * @throws IllegalStateException if this instance uses a custom {@link TemplateLoader}
+	 */
+	public int precompile() throws IOException {
+		if (this.prefix == null) {
+			throw new IllegalStateException(
+					"Cannot precompile templates using a custom TemplateLoader");
+		}
+		String path = this.prefix;
+		if (path.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
+			path = path.substring(ResourceUtils.CLASSPATH_URL_PREFIX.length());
+		}
+		path = (path.startsWith("/") ? path.substring(1) : path);
+		String rootLocation = (this.prefix.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)
+				? ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path : this.prefix);
+		PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(
+				this.resourceLoader);
+		List<String> roots = new ArrayList<>();
+		for (Resource root : resolver.getResources(rootLocation)) {
+			if (root.exists()) {
+				roots.add(getLocation(root, true));
+			}
+		}
+		Set<String> names = new HashSet<>();
+		for (Resource resource : resolver
+				.getResources(rootLocation + "**/*" + TEMPLATE_SUFFIX)) {
+			String location = getLocation(resource, false);
+			for (String root : roots) {
+				if (location.startsWith(root)) {
+					String name = location.substring(root.length(),
+							location.length() - TEMPLATE_SUFFIX.length());
+					if (names.add(name)) {
+						this.templates.computeIfAbsent(name, this::compileTemplate);
+					}
+					break;
+				}
+			}
+		}
+		return names.size();
+	}
+
+	/**
+	 * Return a location for the specified resource that can be compared with the location
+	 * of the root it has been resolved from. File system resources use their absolute
+	 * path as their {@code file:} URL is not necessarily encoded the same way for the
+	 * root and the resources underneath it.
+	 * @param resource the resource
+	 * @param root whether the resource is a root directory
+	 * @return the location of the resource
+	 * @throws IOException if the resource cannot be resolved
+	 */
+	private static String getLocation(Resource resource, boolean root)
+			throws IOException {
+		String location = (ResourceUtils.isFileURL(resource.getURL())
+				? StringUtils.cleanPath(resource.getFile().getAbsolutePath())
+				: resource.getURL().toString());
+		return (root && !location.endsWith("/")) ? location + "/" : location;
 	}
 
 	@Override
 	public String render(String templateName, Map<String, ?> model) throws IOException {
-		Template template = loadTemplate(templateName);
+		Template template = getTemplate(templateName);
 		return template.execute(model);
 	}
 
-	private Template loadTemplate(String name) {
+	@Override
+	public void render(String templateName, Map<String, ?> model, Writer writer)
+			throws IOException {
+		Template template = getTemplate(templateName);
+		template.execute(model, writer);
+	}
+
+	/**
+	 * Return the number of renders that used a cached template.
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of renders that required a template to be compiled.
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the total time spent loading and compiling templates, in nanoseconds.
+	 * @return the compile time
+	 */
+	public long getCompileTime() {
+		return this.compileTime.sum();
+	}
+
+	private Template getTemplate(String name) {
+		CompiledTemplate compiledTemplate = this.templates.get(name);
+		if (compiledTemplate != null && !isModified(name, compiledTemplate)) {
+			this.hitCount.increment();
+			return compiledTemplate.template;
+		}
+		this.missCount.increment();
+		compiledTemplate = compileTemplate(name);
+		this.templates.put(name, compiledTemplate);
+		return compiledTemplate.template;
+	}
+
+	private boolean isModified(String name, CompiledTemplate compiledTemplate) {
+		return this.reloadEnabled && lastModified(name) != compiledTemplate.lastModified;
+	}
+
+	private long lastModified(String name) {
+		if (this.prefix == null) {
+			return 0;
+		}
+		try {
+			return this.resourceLoader.getResource(this.prefix + name + TEMPLATE_SUFFIX)
+					.lastModified();
+		}
+		catch (IOException ex) {
+			return 0;
+		}
+	}
+
+	private CompiledTemplate compileTemplate(String name) {
+		long start = System.nanoTime();
 		try {
-			Reader template = this.mustache.loader.getTemplate(name);
-			return this.mustache.compile(template);
+			long lastModified = (this.reloadEnabled) ? lastModified(name) : 0;
+			try (Reader template = this.mustache.loader.getTemplate(name)) {
+				return new CompiledTemplate(this.mustache.compile(template),
+						lastModified);
+			}
 		}
 		catch (Exception ex) {
 			throw new IllegalStateException("Cannot load template " + name, ex);
 		}
+		finally {
+			this.compileTime.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * A compiled {@link Template} and the last modification time of its resource.
+	 */
+	private static final class CompiledTemplate {
+
+		private final Template template;
+
+		private final long lastModified;
+
+		private CompiledTemplate(Template template, long lastModified) {
+			this.template = template;
+			this.lastModified = lastModified;
+		}
+
 	}
 
 }
@@ -17,6 +17,7 @@
 package io.spring.initializr.generator.util.template;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -36,4 +37,18 @@ public interface TemplateRenderer {
 	 */
 	String render(String templateName, Map<String, ?> model) throws IOException;
 
+	/**
+	 * Render the template with the specified name and the specified model to the
+	 * specified {@link Writer}. Implementations that support it should write the result
+	 * as it is produced, rather than building it in memory first.
+	 * @param templateName the name of the template
+	 * @param model the model to use
+	 * @param writer the writer to use
+	 * @throws IOException if rendering the template failed
+	 */
+	default void render(String templateName, Map<String, ?> model, Writer writer)
+			throws IOException {
+		writer.write(render(templateName, model));
+	}
+
 }
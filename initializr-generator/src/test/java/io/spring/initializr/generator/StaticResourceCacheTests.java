@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StaticResourceCache}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class StaticResourceCacheTests {
+
+	@Test
+	void getContentIsCachedPerClassLoader(@TempDir Path directory) throws IOException {
+		try (URLClassLoader first = createClassLoader(directory.resolve("first"),
+				"first");
+				URLClassLoader second = createClassLoader(directory.resolve("second"),
+						"second")) {
+			assertThat(StaticResourceCache.getContent(first, "classpath:static/test.txt"))
+					.isEqualTo(bytes("first"));
+			assertThat(
+					StaticResourceCache.getContent(second, "classpath:static/test.txt"))
+							.isEqualTo(bytes("second"));
+			assertThat(StaticResourceCache.getContent(first, "classpath:static/test.txt"))
+					.isEqualTo(bytes("first"));
+		}
+	}
+
+	@Test
+	void getContentsIsCachedPerClassLoader(@TempDir Path directory) throws IOException {
+		try (URLClassLoader first = createClassLoader(directory.resolve("first"),
+				"first");
+				URLClassLoader second = createClassLoader(directory.resolve("second"),
+						"second")) {
+			Map<String, byte[]> firstContents = StaticResourceCache.getContents(first,
+					"classpath:static");
+			Map<String, byte[]> secondContents = StaticResourceCache.getContents(second,
+					"classpath:static");
+			assertThat(firstContents).containsOnlyKeys("test.txt");
+			assertThat(firstContents.get("test.txt")).isEqualTo(bytes("first"));
+			assertThat(secondContents).containsOnlyKeys("test.txt");
+			assertThat(secondContents.get("test.txt")).isEqualTo(bytes("second"));
+		}
+	}
+
+	private URLClassLoader createClassLoader(Path root, String content)
+			throws IOException {
+		Path resource = root.resolve("static/test.txt");
+		Files.createDirectories(resource.getParent());
+		Files.write(resource, bytes(content));
+		return new URLClassLoader(new URL[] { root.toUri().toURL() }, null);
+	}
+
+	private byte[] bytes(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
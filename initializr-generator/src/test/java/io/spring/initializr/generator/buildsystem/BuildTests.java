@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import java.util.List;
+
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link Build}.
+ *
+ * @author Stephane Nicoll
+ */
+class BuildTests {
+
+	private final Build build = new MavenBuild();
+
+	@Test
+	void dependenciesOfTypeAreSorted() {
+		this.build.addDependency("b", "com.example", "b", DependencyType.COMPILE);
+		this.build.addDependency("web", "org.springframework.boot",
+				"spring-boot-starter-web", DependencyType.COMPILE);
+		this.build.addDependency("a", "com.example", "a", DependencyType.COMPILE);
+		this.build.addDependency("test", "org.springframework.boot",
+				"spring-boot-starter-test", DependencyType.TEST_COMPILE);
+		assertThat(this.build.getDependenciesOfType(DependencyType.COMPILE))
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-web", "a", "b");
+		assertThat(this.build.getDependenciesOfType(DependencyType.TEST_COMPILE))
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-test");
+		assertThat(this.build.getDependenciesOfType(DependencyType.RUNTIME)).isEmpty();
+	}
+
+	@Test
+	void dependenciesOfSeveralTypesAreSorted() {
+		this.build.addDependency("c", "com.example", "c", DependencyType.TEST_RUNTIME);
+		this.build.addDependency("b", "com.example", "b", DependencyType.TEST_COMPILE);
+		this.build.addDependency("a", "com.example", "a", DependencyType.TEST_RUNTIME);
+		this.build.addDependency("d", "com.example", "d", DependencyType.COMPILE);
+		assertThat(this.build.getDependenciesOfType(DependencyType.TEST_COMPILE,
+				DependencyType.TEST_RUNTIME)).extracting(Dependency::getArtifactId)
+						.containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void sortedDependenciesIncludeAllTypes() {
+		this.build.addDependency("b", "com.example", "b", DependencyType.RUNTIME);
+		this.build.addDependency("test", "org.springframework.boot",
+				"spring-boot-starter-test", DependencyType.TEST_COMPILE);
+		this.build.addDependency("a", "com.example", "a", DependencyType.COMPILE);
+		assertThat(this.build.getSortedDependencies())
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-test", "a", "b");
+		this.build.addDependency("web", "org.springframework.boot",
+				"spring-boot-starter-web", DependencyType.COMPILE);
+		assertThat(this.build.getSortedDependencies())
+				.extracting(Dependency::getArtifactId).containsExactly(
+						"spring-boot-starter-test", "spring-boot-starter-web", "a", "b");
+	}
+
+	@Test
+	void equivalentDependenciesKeepTheirOrder() {
+		Dependency first = new Dependency("com.example", "test", DependencyType.COMPILE);
+		Dependency second = new Dependency("com.example", "test", DependencyType.COMPILE);
+		this.build.addDependency("first", first);
+		this.build.addDependency("second", second);
+		List<Dependency> dependencies = this.build
+				.getDependenciesOfType(DependencyType.COMPILE);
+		assertThat(dependencies).hasSize(2);
+		assertThat(dependencies.get(0)).isSameAs(first);
+		assertThat(dependencies.get(1)).isSameAs(second);
+	}
+
+	@Test
+	void replacedDependencyIsMovedToItsNewType() {
+		this.build.addDependency("a", "com.example", "a", DependencyType.COMPILE);
+		this.build.addDependency("b", "com.example", "b", DependencyType.COMPILE);
+		this.build.addDependency("a", "com.example", "z", DependencyType.RUNTIME);
+		assertThat(this.build.getDependencies()).hasSize(2);
+		assertThat(this.build.getDependenciesOfType(DependencyType.COMPILE))
+				.extracting(Dependency::getArtifactId).containsExactly("b");
+		assertThat(this.build.getDependenciesOfType(DependencyType.RUNTIME))
+				.extracting(Dependency::getArtifactId).containsExactly("z");
+	}
+
+	@Test
+	void dependenciesOfTypeAreReadOnly() {
+		this.build.addDependency("a", "com.example", "a", DependencyType.COMPILE);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> this.build.getDependenciesOfType(DependencyType.COMPILE)
+						.add(new Dependency("com.example", "b", DependencyType.COMPILE)));
+	}
+
+	@Test
+	void dependenciesOfTypeAreNotUpdatedWhenDependencyIsAdded() {
+		this.build.addDependency("a", "com.example", "a", DependencyType.COMPILE);
+		List<Dependency> compile = this.build
+				.getDependenciesOfType(DependencyType.COMPILE);
+		List<Dependency> all = this.build.getSortedDependencies();
+		this.build.addDependency("b", "com.example", "b", DependencyType.COMPILE);
+		assertThat(compile).extracting(Dependency::getArtifactId).containsExactly("a");
+		assertThat(all).extracting(Dependency::getArtifactId).containsExactly("a");
+		assertThat(this.build.getSortedDependencies())
+				.extracting(Dependency::getArtifactId).containsExactly("a", "b");
+	}
+
+}
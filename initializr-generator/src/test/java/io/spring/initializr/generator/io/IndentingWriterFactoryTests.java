@@ -16,9 +16,16 @@
 
 package io.spring.initializr.generator.io;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * @author Stephane Nicoll
  */
+@ExtendWith(TempDirectory.class)
 class IndentingWriterFactoryTests {
 
 	private static final SimpleIndentStrategy SPACE_STRATEGY = new SimpleIndentStrategy(
@@ -60,4 +68,37 @@ class IndentingWriterFactoryTests {
 				.hasFieldOrPropertyWithValue("indentStrategy", SPACE_STRATEGY);
 	}
 
+	@Test
+	void createForFileUsesBufferedWriterByDefault(@TempDir Path directory)
+			throws IOException {
+		Path file = directory.resolve("test.txt");
+		try (IndentingWriter writer = IndentingWriterFactory.create(SPACE_STRATEGY)
+				.createIndentingWriter("test", file)) {
+			writeContent(writer);
+			assertThat(writer).extracting("out").first()
+					.isInstanceOf(BufferedWriter.class);
+		}
+		assertThat(file).usingCharset(StandardCharsets.UTF_8)
+				.hasContent("a\n    \u00e9\n");
+	}
+
+	@Test
+	void createForFileWithPooledBuffers(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("test.txt");
+		try (IndentingWriter writer = IndentingWriterFactory
+				.create(SPACE_STRATEGY, (factory) -> factory.pooledBuffers(4))
+				.createIndentingWriter("test", file)) {
+			writeContent(writer);
+			assertThat(writer).extracting("out").first()
+					.isInstanceOf(Utf8FileWriter.class);
+		}
+		assertThat(file).usingCharset(StandardCharsets.UTF_8)
+				.hasContent("a\n    \u00e9\n");
+	}
+
+	private void writeContent(IndentingWriter writer) {
+		writer.println("a");
+		writer.indented(() -> writer.println("\u00e9"));
+	}
+
 }
@@ -16,7 +16,10 @@
 
 package io.spring.initializr.generator.io;
 
+import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -90,4 +93,33 @@ class IndentingWriterTests {
 		assertThat(this.stringWriter.toString()).isEqualTo("a\n\tb\n\t\tce\n");
 	}
 
+	@Test
+	void indentStrategyIsInvokedOncePerLevel() {
+		List<Integer> levels = new ArrayList<>();
+		IndentingWriter customIndentingWriter = new IndentingWriter(this.stringWriter,
+				(level) -> {
+					levels.add(level);
+					return new SimpleIndentStrategy("\t").apply(level);
+				});
+		for (int i = 0; i < 3; i++) {
+			customIndentingWriter.indented(() -> {
+				customIndentingWriter.println("a");
+				customIndentingWriter.indented(() -> customIndentingWriter.println("b"));
+			});
+		}
+		assertThat(levels).containsExactly(1, 2, 0);
+		assertThat(this.stringWriter.toString())
+				.isEqualTo("a\n\t\tb\n\ta\n\t\tb\n\ta\n\t\tb\n");
+	}
+
+	@Test
+	void writeOfStringIsIndented() throws IOException {
+		this.indentingWriter.println("a");
+		this.indentingWriter.indented(() -> {
+			this.indentingWriter.println();
+			this.indentingWriter.write("xbcx", 1, 2);
+		});
+		assertThat(this.stringWriter.toString()).isEqualTo("a\n\n    bc");
+	}
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link Utf8FileWriter}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class Utf8FileWriterTests {
+
+	private final ByteBufferPool pool = new ByteBufferPool(2, 16, 64);
+
+	private final Path file;
+
+	Utf8FileWriterTests(@TempDir Path directory) {
+		this.file = directory.resolve("test.txt");
+	}
+
+	@Test
+	void writeAsciiContent() throws IOException {
+		try (Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool)) {
+			writer.write("hello");
+			writer.write(" world".toCharArray());
+			writer.write('!');
+		}
+		assertThat(readContent()).isEqualTo("hello world!");
+	}
+
+	@Test
+	void writeMultiByteContent() throws IOException {
+		String content = "caf\u00e9 \u20ac \ud83d\ude00 done";
+		try (Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool)) {
+			writer.write(content);
+		}
+		assertThat(Files.readAllBytes(this.file))
+				.isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void writeSurrogatePairInSeparateWrites() throws IOException {
+		try (Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool)) {
+			writer.write("a\ud83d");
+			writer.write("\ude00b");
+		}
+		assertThat(readContent()).isEqualTo("a\ud83d\ude00b");
+	}
+
+	@Test
+	void writeMalformedSurrogates() throws IOException {
+		try (Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool)) {
+			writer.write("a\ude00b\ud83dc\ud83d");
+		}
+		assertThat(readContent()).isEqualTo("a?b?c?");
+	}
+
+	@Test
+	void writeContentLargerThanBuffer() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			content.append("line ").append(i).append(" \u00e9\n");
+		}
+		try (Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool)) {
+			writer.write(content.toString());
+		}
+		assertThat(readContent()).isEqualTo(content.toString());
+		assertThat(this.pool.size()).isEqualTo(0);
+	}
+
+	@Test
+	void contentIsWrittenOnClose() throws IOException {
+		Path file = this.file.resolveSibling("on-close.txt");
+		Utf8FileWriter writer = new Utf8FileWriter(file, this.pool);
+		writer.write("test");
+		writer.flush();
+		assertThat(file).doesNotExist();
+		writer.close();
+		assertThat(file).hasContent("test");
+	}
+
+	@Test
+	void bufferIsReleasedOnClose() throws IOException {
+		new Utf8FileWriter(this.file, this.pool).close();
+		assertThat(this.pool.size()).isEqualTo(1);
+		new Utf8FileWriter(this.file, this.pool).close();
+		assertThat(this.pool.size()).isEqualTo(1);
+	}
+
+	@Test
+	void writeAfterClose() throws IOException {
+		Utf8FileWriter writer = new Utf8FileWriter(this.file, this.pool);
+		writer.close();
+		assertThatIOException().isThrownBy(() -> writer.write("test"))
+				.withMessageContaining("closed");
+	}
+
+	private String readContent() throws IOException {
+		return new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+	}
+
+}
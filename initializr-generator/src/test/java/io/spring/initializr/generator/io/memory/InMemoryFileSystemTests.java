@@ -0,0 +1,227 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.memory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link InMemoryFileSystem}.
+ *
+ * @author Stephane Nicoll
+ */
+class InMemoryFileSystemTests {
+
+	private final InMemoryFileSystem fileSystem = InMemoryFileSystem.create();
+
+	@AfterEach
+	void closeFileSystem() {
+		this.fileSystem.close();
+	}
+
+	@Test
+	void pathsAreParsedAndResolved() {
+		Path path = this.fileSystem.getPath("/project", "src/main", "java");
+		assertThat(path.toString()).isEqualTo("/project/src/main/java");
+		assertThat(path.isAbsolute()).isTrue();
+		assertThat(path.getNameCount()).isEqualTo(4);
+		assertThat(path.getFileName().toString()).isEqualTo("java");
+		assertThat(path.getParent().toString()).isEqualTo("/project/src/main");
+		assertThat(path.resolve("com/example").toString())
+				.isEqualTo("/project/src/main/java/com/example");
+		assertThat(path.resolveSibling("kotlin").toString())
+				.isEqualTo("/project/src/main/kotlin");
+		assertThat(this.fileSystem.getPath("/project").relativize(path).toString())
+				.isEqualTo("src/main/java");
+		assertThat(this.fileSystem.getPath("/project/./src/../pom.xml").normalize()
+				.toString()).isEqualTo("/project/pom.xml");
+		assertThat(path.startsWith("/project/src")).isTrue();
+		assertThat(path.endsWith("main/java")).isTrue();
+		assertThat(path.toUri().getScheme()).isEqualTo("memory");
+		assertThat(this.fileSystem.provider().getPath(path.toUri())).isEqualTo(path);
+	}
+
+	@Test
+	void createDirectoriesAndFiles() throws IOException {
+		Path directory = Files
+				.createDirectories(this.fileSystem.getPath("/project/src/main"));
+		Path file = Files.createFile(directory.resolve("test.txt"));
+		assertThat(Files.isDirectory(directory)).isTrue();
+		assertThat(Files.isRegularFile(file)).isTrue();
+		assertThat(Files.size(file)).isZero();
+		assertThatThrownBy(() -> Files.createFile(file))
+				.isInstanceOf(FileAlreadyExistsException.class);
+		assertThatThrownBy(() -> Files
+				.createFile(this.fileSystem.getPath("/project/missing/test.txt")))
+						.isInstanceOf(NoSuchFileException.class);
+	}
+
+	@Test
+	void writeAndAppendToFile() throws IOException {
+		Path file = Files.createFile(this.fileSystem.getPath("/test.txt"));
+		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+			writer.write("first line");
+			writer.newLine();
+		}
+		try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.APPEND)) {
+			out.write("second line".getBytes(StandardCharsets.UTF_8));
+		}
+		assertThat(Files.readAllLines(file)).containsExactly("first line", "second line");
+		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+			writer.write("replaced");
+		}
+		assertThat(Files.readAllLines(file)).containsExactly("replaced");
+	}
+
+	@Test
+	void writeLargeFile() throws IOException {
+		byte[] content = new byte[100_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		Path file = Files.write(this.fileSystem.getPath("/large.bin"), content);
+		assertThat(Files.size(file)).isEqualTo(content.length);
+		assertThat(Files.readAllBytes(file)).isEqualTo(content);
+	}
+
+	@Test
+	void posixPermissions() throws IOException {
+		Path file = Files.createFile(this.fileSystem.getPath("/mvnw"));
+		assertThat(Files.isExecutable(file)).isFalse();
+		PosixFileAttributeView attributes = Files.getFileAttributeView(file,
+				PosixFileAttributeView.class);
+		Set<PosixFilePermission> permissions = attributes.readAttributes().permissions();
+		assertThat(permissions).isEqualTo(PosixFilePermissions.fromString("rw-r--r--"));
+		permissions.add(PosixFilePermission.OWNER_EXECUTE);
+		attributes.setPermissions(permissions);
+		assertThat(Files.isExecutable(file)).isTrue();
+		assertThat(Files.getPosixFilePermissions(file))
+				.contains(PosixFilePermission.OWNER_EXECUTE);
+	}
+
+	@Test
+	void walkFileTree() throws IOException {
+		Files.createDirectories(this.fileSystem.getPath("/project/src/main/java"));
+		Files.createFile(this.fileSystem.getPath("/project/pom.xml"));
+		Files.createFile(this.fileSystem.getPath("/project/src/main/java/App.java"));
+		Path root = this.fileSystem.getPath("/project");
+		try (Stream<Path> paths = Files.walk(root)) {
+			assertThat(paths.map((path) -> root.relativize(path).toString())
+					.collect(Collectors.toList())).containsExactly("", "pom.xml", "src",
+							"src/main", "src/main/java", "src/main/java/App.java");
+		}
+	}
+
+	@Test
+	void deleteFilesAndDirectories() throws IOException {
+		Path directory = Files.createDirectories(this.fileSystem.getPath("/project/src"));
+		Files.createFile(directory.resolve("test.txt"));
+		assertThatThrownBy(() -> Files.delete(directory))
+				.isInstanceOf(DirectoryNotEmptyException.class);
+		assertThat(FileSystemUtils.deleteRecursively(directory.getParent())).isTrue();
+		assertThat(Files.exists(directory.getParent())).isFalse();
+	}
+
+	@Test
+	void copyAndMoveFiles() throws IOException {
+		Path source = Files.write(this.fileSystem.getPath("/source.txt"),
+				"test".getBytes(StandardCharsets.UTF_8));
+		Path copy = Files.copy(source, this.fileSystem.getPath("/copy.txt"));
+		Path moved = Files.move(source, this.fileSystem.getPath("/moved.txt"));
+		assertThat(Files.exists(source)).isFalse();
+		assertThat(Files.readAllLines(copy)).containsExactly("test");
+		assertThat(Files.readAllLines(moved)).containsExactly("test");
+	}
+
+	@Test
+	void fileSystemsAreIsolated() throws IOException {
+		try (InMemoryFileSystem other = InMemoryFileSystem.create()) {
+			Files.createFile(this.fileSystem.getPath("/test.txt"));
+			assertThat(Files.exists(other.getPath("/test.txt"))).isFalse();
+			assertThat(other.getPath("/test.txt"))
+					.isNotEqualTo(this.fileSystem.getPath("/test.txt"));
+		}
+	}
+
+	@Test
+	void concurrentWritesInSameDirectory() throws Exception {
+		Path directory = Files.createDirectory(this.fileSystem.getPath("/project"));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Path>> files = Stream.iterate(0, (i) -> i + 1).limit(200)
+					.map((i) -> executor.submit(() -> Files.write(
+							Files.createDirectories(directory.resolve("dir" + (i % 10)))
+									.resolve("file" + i),
+							("content" + i).getBytes(StandardCharsets.UTF_8))))
+					.collect(Collectors.toList());
+			for (Future<Path> file : files) {
+				file.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			assertThat(paths.filter(Files::isRegularFile)).hasSize(200);
+		}
+		assertThat(Files.readAllLines(directory.resolve("dir7/file57")))
+				.containsExactly("content57");
+	}
+
+	@Test
+	void closeReleasesContent() throws IOException {
+		Path file = Files.write(this.fileSystem.getPath("/test.txt"),
+				"test".getBytes(StandardCharsets.UTF_8));
+		this.fileSystem.close();
+		assertThat(this.fileSystem.isOpen()).isFalse();
+		assertThatThrownBy(() -> Files.readAllBytes(file))
+				.isInstanceOf(ClosedFileSystemException.class);
+		assertThatThrownBy(() -> this.fileSystem.provider().getFileSystem(file.toUri()))
+				.isInstanceOf(FileSystemNotFoundException.class);
+	}
+
+}
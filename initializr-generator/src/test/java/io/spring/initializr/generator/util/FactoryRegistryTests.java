@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.util;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.language.Language;
+import io.spring.initializr.generator.language.LanguageFactory;
+import io.spring.initializr.generator.packaging.Packaging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link FactoryRegistry}.
+ *
+ * @author Stephane Nicoll
+ */
+@ExtendWith(TempDirectory.class)
+class FactoryRegistryTests {
+
+	@Test
+	void getReturnsCanonicalInstance() {
+		FactoryRegistry<LanguageFactory, Language> registry = new FactoryRegistry<>(
+				LanguageFactory.class, LanguageFactory::createLanguage, "language",
+				getClass().getClassLoader());
+		Language language = registry.get("java");
+		assertThat(language.id()).isEqualTo("java");
+		assertThat(registry.get("java")).isSameAs(language);
+	}
+
+	@Test
+	void getWithUnknownId() {
+		FactoryRegistry<LanguageFactory, Language> registry = new FactoryRegistry<>(
+				LanguageFactory.class, LanguageFactory::createLanguage, "language",
+				getClass().getClassLoader());
+		assertThatIllegalStateException().isThrownBy(() -> registry.get("unknown"))
+				.withMessage("Unrecognized language id 'unknown'");
+	}
+
+	@Test
+	void getWithNullId() {
+		FactoryRegistry<LanguageFactory, Language> registry = new FactoryRegistry<>(
+				LanguageFactory.class, LanguageFactory::createLanguage, "language",
+				getClass().getClassLoader());
+		assertThatIllegalStateException().isThrownBy(() -> registry.get(null))
+				.withMessage("Unrecognized language id 'null'");
+	}
+
+	@Test
+	void reloadUsesSpecifiedClassLoader(@TempDir Path directory) throws IOException {
+		FactoryRegistry<TestFactory, String> registry = new FactoryRegistry<>(
+				TestFactory.class, TestFactory::create, "test",
+				getClass().getClassLoader());
+		assertThatIllegalStateException().isThrownBy(() -> registry.get("test"));
+		Path factories = directory.resolve("META-INF/spring.factories");
+		Files.createDirectories(factories.getParent());
+		Files.write(factories,
+				(TestFactory.class.getName() + "=" + EchoTestFactory.class.getName())
+						.getBytes(StandardCharsets.ISO_8859_1));
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { directory.toUri().toURL() }, getClass().getClassLoader())) {
+			registry.reload(classLoader);
+			assertThat(registry.get("test")).isEqualTo("test-instance");
+		}
+	}
+
+	@Test
+	void forIdReturnsCanonicalInstances() {
+		assertThat(Language.forId("kotlin")).isSameAs(Language.forId("kotlin"));
+		assertThat(BuildSystem.forId("maven")).isSameAs(BuildSystem.forId("maven"));
+		assertThat(Packaging.forId("war")).isSameAs(Packaging.forId("war"));
+	}
+
+	interface TestFactory {
+
+		String create(String id);
+
+	}
+
+	static class EchoTestFactory implements TestFactory {
+
+		@Override
+		public String create(String id) {
+			return id + "-instance";
+		}
+
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link LambdaSafe}.
+ *
+ * @author Stephane Nicoll
+ */
+class LambdaSafeTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callbacksInvokeMatchingImplementation() {
+		StringCallback callback = new StringCallback();
+		LambdaSafe
+				.callbacks(GenericCallback.class,
+						Arrays.asList(callback, new IntegerCallback()), "test")
+				.invoke((instance) -> instance.handle("test"));
+		assertThat(callback.invocations).hasValue(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callbacksWithNonMatchingImplementationIsNotInvoked() {
+		IntegerCallback callback = new IntegerCallback();
+		for (int i = 0; i < 2; i++) {
+			LambdaSafe
+					.callbacks(GenericCallback.class,
+							Arrays.asList(callback, new StringCallback()), "test")
+					.invoke((instance) -> instance.handle("test"));
+		}
+		assertThat(callback.invocations).hasValue(0);
+	}
+
+	@Test
+	void callbacksWithNonMatchingLambdaIsSkipped() {
+		AtomicInteger stringInvocations = new AtomicInteger();
+		AtomicInteger integerInvocations = new AtomicInteger();
+		GenericCallback<String> stringCallback = (value) -> stringInvocations
+				.incrementAndGet();
+		GenericCallback<Integer> integerCallback = (value) -> integerInvocations
+				.addAndGet(value);
+		for (int i = 0; i < 3; i++) {
+			List<String> results = invokeAnd(
+					Arrays.asList(stringCallback, integerCallback), "test");
+			assertThat(results).containsExactly("test");
+		}
+		assertThat(stringInvocations).hasValue(3);
+		assertThat(integerInvocations).hasValue(0);
+		assertThat(invokeAnd(Arrays.asList(stringCallback, integerCallback), 42))
+				.containsExactly("42");
+		assertThat(integerInvocations).hasValue(42);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callbackWithClassCastExceptionUnrelatedToArgumentIsRethrown() {
+		GenericCallback<String> callback = (value) -> {
+			throw new ClassCastException("Unrelated problem");
+		};
+		assertThatExceptionOfType(ClassCastException.class)
+				.isThrownBy(
+						() -> LambdaSafe.callback(GenericCallback.class, callback, "test")
+								.invoke((instance) -> instance.handle("test")))
+				.withMessage("Unrelated problem");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callbackWithClassCastExceptionWithoutMessageIsNotRememberedAsNonMatching() {
+		AtomicInteger invocations = new AtomicInteger();
+		GenericCallback<String> callback = (value) -> {
+			invocations.incrementAndGet();
+			throw new ClassCastException();
+		};
+		for (int i = 0; i < 2; i++) {
+			LambdaSafe.callback(GenericCallback.class, callback, "test")
+					.invoke((instance) -> instance.handle("test"));
+		}
+		assertThat(invocations).hasValue(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<String> invokeAnd(List<GenericCallback<?>> callbacks, T argument) {
+		return LambdaSafe.callbacks(GenericCallback.class, callbacks, argument)
+				.invokeAnd((instance) -> {
+					instance.handle(argument);
+					return argument.toString();
+				}).collect(Collectors.toList());
+	}
+
+	interface GenericCallback<T> {
+
+		void handle(T argument);
+
+	}
+
+	static class StringCallback implements GenericCallback<String> {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public void handle(String argument) {
+			this.invocations.incrementAndGet();
+		}
+
+	}
+
+	static class IntegerCallback implements GenericCallback<Integer> {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public void handle(Integer argument) {
+			this.invocations.incrementAndGet();
+		}
+
+	}
+
+}
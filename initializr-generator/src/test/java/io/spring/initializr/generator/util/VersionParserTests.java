@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link VersionParser}.
@@ -52,6 +53,51 @@ class VersionParserTests {
 		assertThat(version.toString()).isEqualTo("1.2.0.RC2");
 	}
 
+	@Test
+	void withQualifierAndMultiDigitsVersionString() {
+		Version version = this.parser.parse("1.2.0.RC12");
+		assertThat(version.getQualifier().getQualifier()).isEqualTo("RC");
+		assertThat(version.getQualifier().getVersion()).isEqualTo(12);
+	}
+
+	@Test
+	void withUnknownQualifierString() {
+		Version version = this.parser.parse("1.2.0.Final");
+		assertThat(version.getQualifier().getQualifier()).isEqualTo("Final");
+		assertThat(version.getQualifier().getVersion()).isNull();
+	}
+
+	@Test
+	void withNonAlphabeticQualifierString() {
+		Version version = this.parser.parse("1.2.0.RC.1");
+		assertThat(version.getQualifier().getQualifier()).isEqualTo("RC.");
+		assertThat(version.getQualifier().getVersion()).isEqualTo(1);
+	}
+
+	@Test
+	void parseReturnsSameInstanceForSameText() {
+		assertThat(this.parser.parse("1.2.0.RELEASE"))
+				.isSameAs(this.parser.parse("1.2.0.RELEASE"));
+	}
+
+	@Test
+	void parseInvalidQualifierVersion() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> this.parser.parse("1.2.0.RC1a"));
+	}
+
+	@Test
+	void parseMissingPatch() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> this.parser.parse("1.2"));
+	}
+
+	@Test
+	void parseEmptyQualifier() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> this.parser.parse("1.2.0."));
+	}
+
 	@Test
 	void parseInvalidVersion() {
 		assertThatExceptionOfType(InvalidVersionException.class)
@@ -122,6 +168,63 @@ class VersionParserTests {
 		assertThat(this.parser.parse("1.2.x").toString()).isEqualTo("1.2.999");
 	}
 
+	@Test
+	void parseVariableVersionAmbiguousMatch() {
+		List<Version> currentVersions = Arrays.asList(this.parser.parse("1.3.8.RELEASE"),
+				this.parser.parse("1.3.9.RELEASE"));
+		this.parser = new VersionParser(currentVersions);
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString())
+				.isEqualTo("1.3.999.RELEASE");
+	}
+
+	@Test
+	void parseVariableVersionDuplicateMatch() {
+		List<Version> currentVersions = Arrays.asList(this.parser.parse("1.3.8.RELEASE"),
+				this.parser.parse("1.3.8.RELEASE"));
+		this.parser = new VersionParser(currentVersions);
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString())
+				.isEqualTo("1.3.999.RELEASE");
+	}
+
+	@Test
+	void parseVariableVersionAfterLatestVersionsUpdate() {
+		this.parser = new VersionParser(
+				Collections.singletonList(this.parser.parse("1.3.8.RELEASE")));
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString())
+				.isEqualTo("1.3.8.RELEASE");
+		assertThat(this.parser.parseRange("[1.3.x.RELEASE,1.4.0.RELEASE)")
+				.getLowerVersion().toString()).isEqualTo("1.3.8.RELEASE");
+		List<Version> latestVersions = Collections
+				.singletonList(this.parser.parse("1.3.9.RELEASE"));
+		this.parser.setLatestVersions(latestVersions);
+		assertThat(this.parser.getLatestVersions()).isEqualTo(latestVersions);
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString())
+				.isEqualTo("1.3.9.RELEASE");
+		assertThat(this.parser.parseRange("[1.3.x.RELEASE,1.4.0.RELEASE)")
+				.getLowerVersion().toString()).isEqualTo("1.3.9.RELEASE");
+	}
+
+	@Test
+	void latestVersionsOfDefaultParserCannotBeUpdated() {
+		assertThatIllegalStateException().isThrownBy(
+				() -> VersionParser.DEFAULT.setLatestVersions(Collections.emptyList()));
+	}
+
+	@Test
+	void parseRange() {
+		VersionRange range = this.parser.parseRange("[1.2.0.RELEASE,1.3.0.M1)");
+		assertThat(range.getLowerVersion()).isEqualTo(this.parser.parse("1.2.0.RELEASE"));
+		assertThat(range.isLowerInclusive()).isTrue();
+		assertThat(range.getHigherVersion()).isEqualTo(this.parser.parse("1.3.0.M1"));
+		assertThat(range.isHigherInclusive()).isFalse();
+	}
+
+	@Test
+	void parseRangeReturnsSameInstanceForSameText() {
+		assertThat(this.parser.parseRange("[1.2.0.RELEASE,1.3.0.M1)"))
+				.isSameAs(this.parser.parseRange("[1.2.0.RELEASE,1.3.0.M1)"));
+	}
+
 	@Test
 	void invalidRange() {
 		assertThatExceptionOfType(InvalidVersionException.class)
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link VersionRangeIndex}.
+ *
+ * @author Stephane Nicoll
+ */
+class VersionRangeIndexTests {
+
+	private final VersionParser parser = VersionParser.DEFAULT;
+
+	@Test
+	void emptyIndex() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder().build();
+		assertThat(index.size()).isEqualTo(0);
+		assertThat(index.match(version("2.1.0.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchInclusiveBounds() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("[1.5.0.RELEASE,2.0.0.RELEASE]"), "test").build();
+		assertThat(index.match(version("1.4.9.RELEASE"))).isEmpty();
+		assertThat(index.match(version("1.5.0.RELEASE"))).containsExactly("test");
+		assertThat(index.match(version("1.5.3.RELEASE"))).containsExactly("test");
+		assertThat(index.match(version("2.0.0.RELEASE"))).containsExactly("test");
+		assertThat(index.match(version("2.0.1.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchExclusiveBounds() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("(1.5.0.RELEASE,2.0.0.RELEASE)"), "test").build();
+		assertThat(index.match(version("1.5.0.RELEASE"))).isEmpty();
+		assertThat(index.match(version("1.5.3.RELEASE"))).containsExactly("test");
+		assertThat(index.match(version("2.0.0.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchUnboundedRange() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("2.0.0.RELEASE"), "test").build();
+		assertThat(index.match(version("1.5.0.RELEASE"))).isEmpty();
+		assertThat(index.match(version("2.0.0.RELEASE"))).containsExactly("test");
+		assertThat(index.match(version("99.0.0.RELEASE"))).containsExactly("test");
+	}
+
+	@Test
+	void matchEmptyRange() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("(2.0.0.RELEASE,2.0.0.RELEASE)"), "test").build();
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.match(version("2.0.0.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchReturnsItemsInInsertionOrder() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("2.0.0.RELEASE"), "first")
+				.add(range("[2.1.0.M1,2.2.0.M1)"), "second")
+				.add(range("[1.5.0.RELEASE,2.1.0.RELEASE]"), "third")
+				.add(range("[2.0.0.RELEASE,2.0.6.RELEASE]"), "fourth").build();
+		assertThat(index.match(version("2.1.0.RELEASE"))).containsExactly("first",
+				"second", "third");
+	}
+
+	@Test
+	void matchAllSharesResultsOfVersionsInTheSameSlot() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("[1.5.0.RELEASE,2.0.0.M1)"), "boot1")
+				.add(range("2.0.0.M1"), "boot2").build();
+		Map<Version, List<String>> matches = index.matchAll(
+				Arrays.asList(version("2.1.0.RELEASE"), version("1.5.17.RELEASE"),
+						version("2.0.6.RELEASE"), version("1.4.0.RELEASE")));
+		assertThat(matches.keySet()).containsExactly(version("2.1.0.RELEASE"),
+				version("1.5.17.RELEASE"), version("2.0.6.RELEASE"),
+				version("1.4.0.RELEASE"));
+		assertThat(matches.get(version("2.1.0.RELEASE"))).containsExactly("boot2");
+		assertThat(matches.get(version("2.1.0.RELEASE")))
+				.isSameAs(matches.get(version("2.0.6.RELEASE")));
+		assertThat(matches.get(version("1.5.17.RELEASE"))).containsExactly("boot1");
+		assertThat(matches.get(version("1.4.0.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchIsConsistentWithVersionRange() {
+		Random random = new Random(42);
+		List<Version> versions = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			versions.add(randomVersion(random));
+		}
+		List<VersionRange> ranges = new ArrayList<>();
+		VersionRangeIndex.Builder<Integer> builder = VersionRangeIndex.builder();
+		for (int i = 0; i < 300; i++) {
+			Version lower = versions.get(random.nextInt(versions.size()));
+			Version higher = versions.get(random.nextInt(versions.size()));
+			VersionRange range = (random.nextInt(5) == 0) ? new VersionRange(lower)
+					: new VersionRange(lower, random.nextBoolean(), higher,
+							random.nextBoolean());
+			ranges.add(range);
+			builder.add(range, i);
+		}
+		VersionRangeIndex<Integer> index = builder.build();
+		for (int i = 0; i < 500; i++) {
+			Version version = (random.nextBoolean())
+					? versions.get(random.nextInt(versions.size()))
+					: randomVersion(random);
+			List<Integer> expected = new ArrayList<>();
+			for (int j = 0; j < ranges.size(); j++) {
+				if (ranges.get(j).match(version)) {
+					expected.add(j);
+				}
+			}
+			assertThat(index.match(version)).as(version.toString()).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void matchAllIsConsistentWithMatch() {
+		VersionRangeIndex<String> index = VersionRangeIndex.<String>builder()
+				.add(range("[1.5.0.RELEASE,2.0.0.M1)"), "boot1")
+				.add(range("2.0.0.M1"), "boot2")
+				.add(range("[2.1.0.RELEASE,2.1.0.RELEASE]"), "exact").build();
+		List<Version> versions = Collections.singletonList(version("2.1.0.RELEASE"));
+		assertThat(index.matchAll(versions).values().stream().flatMap(List::stream)
+				.collect(Collectors.toList()))
+						.isEqualTo(index.match(version("2.1.0.RELEASE")));
+	}
+
+	private Version randomVersion(Random random) {
+		String[] qualifiers = { "M1", "M2", "RC1", "BUILD-SNAPSHOT", "RELEASE" };
+		return version(
+				random.nextInt(3) + "." + random.nextInt(4) + "." + random.nextInt(3)
+						+ "." + qualifiers[random.nextInt(qualifiers.length)]);
+	}
+
+	private Version version(String text) {
+		return this.parser.parse(text);
+	}
+
+	private VersionRange range(String text) {
+		return this.parser.parseRange(text);
+	}
+
+}
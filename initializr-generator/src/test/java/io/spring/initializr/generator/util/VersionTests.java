@@ -16,6 +16,10 @@
 
 package io.spring.initializr.generator.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -123,6 +127,76 @@ class VersionTests {
 		assertThat(parse("1.2.0.BUILD-SNAPSHOT")).isLessThan(parse("1.2.0.RELEASE"));
 	}
 
+	@Test
+	void equalSeparateInstances() {
+		Version first = new Version(1, 2, 0, new Version.Qualifier("RC", 1));
+		Version second = new Version(1, 2, 0, new Version.Qualifier("RC", 1));
+		assertThat(first).isEqualByComparingTo(second);
+		assertThat(first).isEqualTo(second);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+	}
+
+	@Test
+	void noQualifierComparesEqualToReleaseButIsNotEqual() {
+		Version first = new Version(1, 2, 0, null);
+		Version second = new Version(1, 2, 0, new Version.Qualifier("RELEASE"));
+		assertThat(first).isEqualByComparingTo(second);
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	void qualifierNoVersionComparesEqualToQualifierZeroButIsNotEqual() {
+		Version first = new Version(1, 2, 0, new Version.Qualifier("RC"));
+		Version second = new Version(1, 2, 0, new Version.Qualifier("RC", 0));
+		assertThat(first).isEqualByComparingTo(second);
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	void compareUnknownQualifierWithKnownQualifier() {
+		assertThat(parse("1.2.0.Beta")).isLessThan(parse("1.2.0.M1"));
+		assertThat(parse("1.2.0.RELEASE")).isGreaterThan(parse("1.2.0.Beta"));
+	}
+
+	@Test
+	void compareLargeComponents() {
+		assertThat(parse("1.70000.0")).isGreaterThan(parse("1.65535.0"));
+		assertThat(parse("1.2.0.RC5000")).isGreaterThan(parse("1.2.0.RC4095"));
+		assertThat(parse("1.2.0.RC5000")).isLessThan(parse("1.2.0.BUILD-SNAPSHOT"));
+	}
+
+	@Test
+	void equalLargeComponents() {
+		Version first = new Version(1, 70000, 0, new Version.Qualifier("RC", 5000));
+		Version second = new Version(1, 70000, 0, new Version.Qualifier("RC", 5000));
+		assertThat(first).isEqualTo(second);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+	}
+
+	@Test
+	void compareNullComponents() {
+		assertThat(new Version(1, null, null, null))
+				.isEqualByComparingTo(new Version(1, 0, 0, null));
+		assertThat(new Version(1, null, null, null))
+				.isNotEqualTo(new Version(1, 0, 0, null));
+	}
+
+	@Test
+	void serializeAndDeserialize() throws Exception {
+		Version version = parse("1.2.0.RC1");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+			stream.writeObject(version);
+		}
+		try (ObjectInputStream stream = new ObjectInputStream(
+				new ByteArrayInputStream(out.toByteArray()))) {
+			Version deserialized = (Version) stream.readObject();
+			assertThat(deserialized).isEqualTo(version);
+			assertThat(deserialized).isEqualByComparingTo(version);
+			assertThat(deserialized).isLessThan(parse("1.2.0.RELEASE"));
+		}
+	}
+
 	private Version parse(String text) {
 		return this.parser.parse(text);
 	}
@@ -18,18 +18,32 @@ package io.spring.initializr.generator.util.template;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link MustacheTemplateRenderer}.
  *
  * @author Stephane Nicoll
  */
+@ExtendWith(TempDirectory.class)
 class MustacheTemplateRendererTests {
 
 	@Test
@@ -48,6 +62,16 @@ class MustacheTemplateRendererTests {
 				.isEqualTo("value");
 	}
 
+	@Test
+	void renderToWriter() throws IOException {
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				"classpath:/templates/mustache");
+		StringWriter writer = new StringWriter();
+		writer.write("key=");
+		render.render("test", Collections.singletonMap("key", "value"), writer);
+		assertThat(writer.toString()).isEqualTo("key=value");
+	}
+
 	@Test
 	void renderUnknownTemplate() throws IOException {
 		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
@@ -58,4 +82,169 @@ class MustacheTemplateRendererTests {
 				.withMessageContaining("does-not-exist");
 	}
 
+	@Test
+	void renderUsesCompiledTemplate() throws IOException {
+		AtomicInteger loads = new AtomicInteger();
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer((name) -> {
+			loads.incrementAndGet();
+			return new StringReader("{{key}}");
+		});
+		assertThat(render.render("test", Collections.singletonMap("key", "one")))
+				.isEqualTo("one");
+		assertThat(render.render("test", Collections.singletonMap("key", "two")))
+				.isEqualTo("two");
+		assertThat(loads).hasValue(1);
+		assertThat(render.getMissCount()).isEqualTo(1);
+		assertThat(render.getHitCount()).isEqualTo(1);
+		assertThat(render.getCompileTime()).isPositive();
+	}
+
+	@Test
+	void precompileCompilesAllTemplatesUnderPrefix() throws IOException {
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				"classpath:/templates/mustache");
+		assertThat(render.precompile()).isEqualTo(2);
+		assertThat(render.render("test", Collections.singletonMap("key", "value")))
+				.isEqualTo("value");
+		assertThat(render.render("nested/items",
+				Collections.singletonMap("items", Arrays.asList("a", "b"))))
+						.isEqualTo("ab");
+		assertThat(render.getMissCount()).isEqualTo(0);
+		assertThat(render.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void precompileCountsTemplatesAvailableInSeveralLocationsOnce(@TempDir Path directory)
+			throws IOException {
+		URL[] urls = new URL[2];
+		for (int i = 0; i < urls.length; i++) {
+			Path root = directory.resolve("root-" + i);
+			Path template = root.resolve("templates/test.mustache");
+			Files.createDirectories(template.getParent());
+			Files.write(template, ("{{key}}-" + i).getBytes(StandardCharsets.UTF_8));
+			urls[i] = root.toUri().toURL();
+		}
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+			thread.setContextClassLoader(classLoader);
+			MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+					"classpath:/templates");
+			assertThat(render.precompile()).isEqualTo(1);
+			assertThat(render.render("test", Collections.singletonMap("key", "value")))
+					.isEqualTo("value-0");
+		}
+		finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	@Test
+	void precompileWithRootPrefix(@TempDir Path directory) throws IOException {
+		writeTemplate(directory, "test.mustache", "{{key}}");
+		writeTemplate(directory, "nested/test.mustache", "[{{key}}]");
+		withClassLoader(directory, () -> {
+			MustacheTemplateRenderer render = new MustacheTemplateRenderer("classpath:/");
+			assertThat(render.precompile()).isEqualTo(2);
+			assertThat(render.render("nested/test",
+					Collections.singletonMap("key", "value"))).isEqualTo("[value]");
+			assertThat(render.getMissCount()).isEqualTo(0);
+		});
+	}
+
+	@Test
+	void precompileWithNestedDirectoryRepeatingPrefix(@TempDir Path directory)
+			throws IOException {
+		writeTemplate(directory, "templates/test/templates/test.mustache", "{{key}}");
+		withClassLoader(directory, () -> {
+			MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+					"classpath:/templates");
+			assertThat(render.precompile()).isEqualTo(1);
+			assertThat(render.render("test/templates/test",
+					Collections.singletonMap("key", "value"))).isEqualTo("value");
+			assertThat(render.getMissCount()).isEqualTo(0);
+		});
+	}
+
+	@Test
+	void precompileWithEncodedFilePrefix(@TempDir Path directory) throws IOException {
+		Path root = directory.resolve("with space");
+		writeTemplate(root, "nested/test.mustache", "{{key}}");
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				root.toUri().toString());
+		assertThat(render.precompile()).isEqualTo(1);
+		assertThat(render.render("nested/test", Collections.singletonMap("key", "value")))
+				.isEqualTo("value");
+		assertThat(render.getMissCount()).isEqualTo(0);
+	}
+
+	@Test
+	void precompileWithCustomTemplateLoader() {
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				(name) -> new StringReader("{{key}}"));
+		assertThatIllegalStateException().isThrownBy(render::precompile)
+				.withMessageContaining("custom TemplateLoader");
+	}
+
+	@Test
+	void renderWithReloadEnabledCompilesModifiedTemplate(@TempDir Path directory)
+			throws IOException {
+		Path template = Files.write(directory.resolve("test.mustache"),
+				"{{key}}".getBytes(StandardCharsets.UTF_8));
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString());
+		render.setReloadEnabled(true);
+		assertThat(render.render("test", Collections.singletonMap("key", "value")))
+				.isEqualTo("value");
+		Files.write(template, "[{{key}}]".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(template, FileTime
+				.fromMillis(Files.getLastModifiedTime(template).toMillis() + 10000));
+		assertThat(render.render("test", Collections.singletonMap("key", "value")))
+				.isEqualTo("[value]");
+		assertThat(render.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void renderWithReloadDisabledUsesCachedTemplate(@TempDir Path directory)
+			throws IOException {
+		Path template = Files.write(directory.resolve("test.mustache"),
+				"{{key}}".getBytes(StandardCharsets.UTF_8));
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString());
+		assertThat(render.render("test", Collections.singletonMap("key", "value")))
+				.isEqualTo("value");
+		Files.write(template, "[{{key}}]".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(template, FileTime
+				.fromMillis(Files.getLastModifiedTime(template).toMillis() + 10000));
+		assertThat(render.render("test", Collections.singletonMap("key", "value")))
+				.isEqualTo("value");
+	}
+
+	private static void writeTemplate(Path root, String name, String content)
+			throws IOException {
+		Path template = root.resolve(name);
+		Files.createDirectories(template.getParent());
+		Files.write(template, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void withClassLoader(Path root, TemplateAction action)
+			throws IOException {
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { root.toUri().toURL() }, null)) {
+			thread.setContextClassLoader(classLoader);
+			action.run();
+		}
+		finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	private interface TemplateAction {
+
+		void run() throws IOException;
+
+	}
+
 }